@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.CheckedFutures;
+import com.pivovarit.function.ThrowingSupplier;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * {@link ThrowingSupplier#async(ThrowingSupplier, Executor)} joined with {@link CheckedFutures#join(CompletableFuture, Class)}
+ * compared to {@link CompletableFuture#supplyAsync(Supplier, Executor)} with the {@code unchecked} adapter joined with
+ * {@link CompletableFuture#join()}.
+ * <p>
+ * Tasks run on the calling thread, which isolates the cost of wrapping and unwrapping from thread hand-off.
+ * Failures throw a preallocated cause. Run {@link #main(String[])} (or pass {@code -prof gc}) to get allocated bytes
+ * per operation next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AsyncBenchmark {
+
+    private static final IOException CAUSE = new IOException("preallocated");
+
+    private final Executor direct = Runnable::run;
+
+    private Integer value = 42;
+
+    private final ThrowingSupplier<Integer, IOException> supplier = () -> Workload.increment(value);
+    private final ThrowingSupplier<Integer, IOException> failing = () -> { throw CAUSE; };
+
+    private final Supplier<Integer> unchecked = ThrowingSupplier.unchecked(supplier);
+    private final Supplier<Integer> uncheckedFailing = ThrowingSupplier.unchecked(failing);
+    private final Supplier<CompletableFuture<Integer>> async = ThrowingSupplier.async(supplier, direct);
+    private final Supplier<CompletableFuture<Integer>> asyncFailing = ThrowingSupplier.async(failing, direct);
+
+    @Benchmark
+    public Integer success_supplyAsync_join() {
+        return CompletableFuture.supplyAsync(unchecked, direct).join();
+    }
+
+    @Benchmark
+    public Integer success_async_join() throws IOException {
+        return CheckedFutures.join(async.get(), IOException.class);
+    }
+
+    @Benchmark
+    public Object failure_supplyAsync_join() {
+        try {
+            return CompletableFuture.supplyAsync(uncheckedFailing, direct).join();
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object failure_async_join() {
+        try {
+            return CheckedFutures.join(asyncFailing.get(), IOException.class);
+        } catch (IOException e) {
+            return e;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+          .include(AsyncBenchmark.class.getSimpleName())
+          .addProfiler(GCProfiler.class)
+          .build()).run();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.Attempt;
+import com.pivovarit.function.Result;
+import com.pivovarit.function.ThrowingFunction;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of {@link ThrowingFunction#attempt(ThrowingFunction)} compared to {@link ThrowingFunction#lift()},
+ * for a single call and for a chain of three transformations, on the success and the failure path.
+ * Chains are measured both on eager {@link Result} instances and fused into a single {@link Attempt}.
+ * <p>
+ * Failures throw a preallocated cause, which isolates the cost of the wrapper from stack trace capture.
+ * Run {@link #main(String[])} (or pass {@code -prof gc}) to get allocated bytes per operation next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AttemptBenchmark {
+
+    private static final IOException CAUSE = new IOException("preallocated");
+
+    private Integer value = 42;
+
+    private final ThrowingFunction<Integer, Integer, IOException> function = Workload::increment;
+    private final ThrowingFunction<Integer, Integer, IOException> failing = i -> { throw CAUSE; };
+
+    private final Function<Integer, Optional<Integer>> lift = function.lift();
+    private final Function<Integer, Optional<Integer>> liftFailing = failing.lift();
+    private final Function<Integer, Result<Integer, IOException>> attempt = ThrowingFunction.attempt(function);
+    private final Function<Integer, Result<Integer, IOException>> attemptFailing = ThrowingFunction.attempt(failing);
+    private final Attempt<Integer, Integer, IOException> fused = ThrowingFunction.attempt(function)
+      .map(function)
+      .map(function)
+      .map(function);
+    private final Attempt<Integer, Integer, IOException> fusedFailing = ThrowingFunction.attempt(failing)
+      .map(function)
+      .map(function)
+      .map(function);
+
+    @Benchmark
+    public Optional<Integer> lift_success() {
+        return lift.apply(value);
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> attempt_success() {
+        return attempt.apply(value);
+    }
+
+    @Benchmark
+    public Optional<Integer> lift_failure() {
+        return liftFailing.apply(value);
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> attempt_failure() {
+        return attemptFailing.apply(value);
+    }
+
+    @Benchmark
+    public Optional<Integer> lift_chain_failure() {
+        return liftFailing.apply(value)
+          .flatMap(lift)
+          .flatMap(lift)
+          .flatMap(lift);
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> attempt_chain_failure() {
+        return attemptFailing.apply(value)
+          .map(function)
+          .map(function)
+          .map(function);
+    }
+
+    @Benchmark
+    public Optional<Integer> lift_chain_success() {
+        return lift.apply(value)
+          .flatMap(lift)
+          .flatMap(lift)
+          .flatMap(lift);
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> attempt_chain_success() {
+        return attempt.apply(value)
+          .map(function)
+          .map(function)
+          .map(function);
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> attempt_fused_chain_failure() {
+        return fusedFailing.apply(value);
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> attempt_fused_chain_success() {
+        return fused.apply(value);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+          .include(AttemptBenchmark.class.getSimpleName())
+          .addProfiler(GCProfiler.class)
+          .build()).run();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.BatchLoader;
+import com.pivovarit.function.CheckedFutures;
+import com.pivovarit.function.ThrowingFunction;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading 100 keys from a backend with a 50us round trip: one call per key, compared to collecting the keys with
+ * a {@link BatchLoader} into a single bulk call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BatchLoaderBenchmark {
+
+    private static final int KEYS = 100;
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final ThrowingFunction<Integer, Integer, IOException> single = key -> {
+        LockSupport.parkNanos(ROUND_TRIP_NANOS);
+        return Workload.increment(key);
+    };
+
+    private final BatchLoader<Integer, Integer, IOException> loader = BatchLoader.<Integer, Integer, IOException>builder(keys -> {
+          LockSupport.parkNanos(ROUND_TRIP_NANOS);
+          Map<Integer, Integer> values = new HashMap<>();
+          for (Integer key : keys) {
+              values.put(key, Workload.increment(key));
+          }
+          return values;
+      })
+      .maxBatchSize(KEYS)
+      .maxDelay(Duration.ofMillis(1))
+      .build();
+
+    @Benchmark
+    public int perKey() throws IOException {
+        int sum = 0;
+        for (int key = 0; key < KEYS; key++) {
+            sum += single.apply(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int batched() throws IOException {
+        List<CompletableFuture<Integer>> results = new ArrayList<>(KEYS);
+        for (int key = 0; key < KEYS; key++) {
+            results.add(loader.loadAsync(key));
+        }
+        int sum = 0;
+        for (CompletableFuture<Integer> result : results) {
+            sum += CheckedFutures.join(result, IOException.class);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.BatchingConsumer;
+import com.pivovarit.function.ThrowingConsumer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writing single items to a sink which costs a 20us round trip per call: one call per item, compared to buffering
+ * items with a {@link BatchingConsumer}, which writes batches of 100 items while producers keep buffering. At steady
+ * state, producers wait for space in the buffer, so the score is the cost of the sink per item.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BatchingConsumerBenchmark {
+
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    private Integer value = 42;
+
+    private final ThrowingConsumer<List<Integer>, IOException> sink = batch -> {
+        LockSupport.parkNanos(ROUND_TRIP_NANOS);
+        for (Integer item : batch) {
+            Workload.increment(item);
+        }
+    };
+
+    private final BatchingConsumer<Integer, IOException> batching = BatchingConsumer.builder(sink)
+      .maxBatchSize(100)
+      .maxLatency(Duration.ofMillis(1))
+      .build();
+
+    @TearDown
+    public void tearDown() throws IOException {
+        batching.close();
+    }
+
+    @Benchmark
+    public void perItem() throws IOException {
+        sink.accept(Collections.singletonList(value));
+    }
+
+    @Benchmark
+    public void batched() throws IOException {
+        batching.accept(value);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.ThrowingFunction;
+import com.pivovarit.function.ThrowingPredicate;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bulk {@link ThrowingFunction#mapAll(List, ThrowingFunction)} and {@link ThrowingPredicate#filterAll(List, ThrowingPredicate)}
+ * compared to the equivalent {@code stream()} pipelines using the {@code unchecked} adapters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BulkBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private List<Integer> list;
+    private Integer[] array;
+
+    private final ThrowingFunction<Integer, Integer, IOException> function = Workload::increment;
+    private final ThrowingPredicate<Integer, IOException> predicate = Workload::isEven;
+
+    @Setup
+    public void setup() {
+        list = new ArrayList<>(size);
+        array = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+            array[i] = i;
+        }
+    }
+
+    @Benchmark
+    public List<Integer> map_stream() {
+        return list.stream()
+          .map(ThrowingFunction.unchecked(function))
+          .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> map_list() {
+        return ThrowingFunction.mapAll(list, function);
+    }
+
+    @Benchmark
+    public Integer[] map_array() {
+        return ThrowingFunction.mapAll(array, Integer[]::new, function);
+    }
+
+    @Benchmark
+    public List<Integer> filter_stream() {
+        return list.stream()
+          .filter(ThrowingPredicate.unchecked(predicate))
+          .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> filter_list() {
+        return ThrowingPredicate.filterAll(list, predicate);
+    }
+
+    @Benchmark
+    public Integer[] filter_array() {
+        return ThrowingPredicate.filterAll(array, predicate);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.Bulkhead;
+import com.pivovarit.function.ThrowingFunction;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Overhead of {@link ThrowingFunction#concurrencyLimited(ThrowingFunction, Bulkhead)} below the limit, including
+ * the latency measurement and the limit update, for both limit algorithms. Run {@link #main(String[])}
+ * (or pass {@code -prof gc}) to confirm that no allocation happens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BulkheadBenchmark {
+
+    public enum Limit {
+        GRADIENT, AIMD
+    }
+
+    @Param
+    private Limit limit;
+
+    private Integer value = 42;
+
+    private final ThrowingFunction<Integer, Integer, IOException> function = Workload::increment;
+
+    private ThrowingFunction<Integer, Integer, IOException> limited;
+
+    @Setup
+    public void setup() {
+        Bulkhead.Builder builder = Bulkhead.builder();
+        if (limit == Limit.AIMD) {
+            builder.aimd(Duration.ofMillis(100), 0.9);
+        }
+        limited = ThrowingFunction.concurrencyLimited(function, builder.build());
+    }
+
+    @Benchmark
+    public Integer raw() throws IOException {
+        return function.apply(value);
+    }
+
+    @Benchmark
+    public Integer concurrencyLimited() throws IOException {
+        return limited.apply(value);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+          .include(BulkheadBenchmark.class.getSimpleName())
+          .addProfiler(GCProfiler.class)
+          .build()).run();
+    }
+}
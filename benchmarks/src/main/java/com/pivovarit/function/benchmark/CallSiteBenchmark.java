@@ -0,0 +1,140 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.ThrowingFunction;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Adapter cost at monomorphic, bimorphic and megamorphic call sites.
+ * <p>
+ * Every adapter returns instances of a single lambda class, so the call site in the benchmark loop stays monomorphic
+ * for wrapped functions, while the call site inside the adapter observes all wrapped implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CallSiteBenchmark {
+
+    private static final int SIZE = 1024;
+
+    public enum Shape {
+        MONOMORPHIC(1), BIMORPHIC(2), MEGAMORPHIC(4);
+
+        private final int types;
+
+        Shape(int types) {
+            this.types = types;
+        }
+    }
+
+    @Param
+    private Shape shape;
+
+    private Integer value = 42;
+
+    private Function<Integer, Integer>[] raw;
+    private Function<Integer, Integer>[] unchecked;
+    private Function<Integer, Integer>[] sneaky;
+    private Function<Integer, Optional<Integer>>[] lifted;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setup() {
+        Function<Integer, Integer>[] rawTypes = new Function[]{
+          (Function<Integer, Integer>) i -> Workload.incrementUnchecked(i),
+          (Function<Integer, Integer>) i -> Workload.incrementUnchecked(i) - 1,
+          (Function<Integer, Integer>) i -> Workload.incrementUnchecked(i) + 1,
+          (Function<Integer, Integer>) i -> Workload.incrementUnchecked(i) * 2};
+
+        ThrowingFunction<Integer, Integer, IOException>[] throwingTypes = new ThrowingFunction[]{
+          (ThrowingFunction<Integer, Integer, IOException>) i -> Workload.increment(i),
+          (ThrowingFunction<Integer, Integer, IOException>) i -> Workload.increment(i) - 1,
+          (ThrowingFunction<Integer, Integer, IOException>) i -> Workload.increment(i) + 1,
+          (ThrowingFunction<Integer, Integer, IOException>) i -> Workload.increment(i) * 2};
+
+        raw = new Function[SIZE];
+        unchecked = new Function[SIZE];
+        sneaky = new Function[SIZE];
+        lifted = new Function[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            int type = i % shape.types;
+            raw[i] = rawTypes[type];
+            unchecked[i] = ThrowingFunction.unchecked(throwingTypes[type]);
+            sneaky[i] = ThrowingFunction.sneaky(throwingTypes[type]);
+            lifted[i] = ThrowingFunction.lifted(throwingTypes[type]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int raw() {
+        int acc = 0;
+        for (Function<Integer, Integer> f : raw) {
+            acc += f.apply(value);
+        }
+        return acc;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int unchecked() {
+        int acc = 0;
+        for (Function<Integer, Integer> f : unchecked) {
+            acc += f.apply(value);
+        }
+        return acc;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int sneaky() {
+        int acc = 0;
+        for (Function<Integer, Integer> f : sneaky) {
+            acc += f.apply(value);
+        }
+        return acc;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int lifted() {
+        int acc = 0;
+        for (Function<Integer, Optional<Integer>> f : lifted) {
+            acc += f.apply(value).orElse(0);
+        }
+        return acc;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.CircuitBreaker;
+import com.pivovarit.function.ThrowingFunction;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead of {@link ThrowingFunction#circuitBreaking(ThrowingFunction, CircuitBreaker)} on the closed path
+ * with count-based and time-based windows, and the cost of a rejected call while open.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CircuitBreakerBenchmark {
+
+    private Integer value = 42;
+
+    private final ThrowingFunction<Integer, Integer, IOException> function = Workload::increment;
+
+    private ThrowingFunction<Integer, Integer, IOException> countWindow;
+    private ThrowingFunction<Integer, Integer, IOException> timeWindow;
+    private ThrowingFunction<Integer, Integer, IOException> open;
+
+    @Setup
+    public void setup() {
+        countWindow = ThrowingFunction.circuitBreaking(function, CircuitBreaker.builder()
+          .countWindow(100)
+          .build());
+        timeWindow = ThrowingFunction.circuitBreaking(function, CircuitBreaker.builder()
+          .timeWindow(Duration.ofSeconds(10), 10)
+          .build());
+
+        CircuitBreaker opened = CircuitBreaker.builder()
+          .countWindow(1)
+          .minimumCalls(1)
+          .openDuration(Duration.ofDays(1))
+          .build();
+        try {
+            ThrowingFunction.circuitBreaking(i -> { throw new IOException(); }, opened).apply(value);
+        } catch (IOException expected) {
+            // the breaker is open from now on
+        }
+        open = ThrowingFunction.circuitBreaking(function, opened, i -> -1);
+    }
+
+    @Benchmark
+    public Integer raw() throws IOException {
+        return function.apply(value);
+    }
+
+    @Benchmark
+    public Integer closed_countWindow() throws IOException {
+        return countWindow.apply(value);
+    }
+
+    @Benchmark
+    public Integer closed_timeWindow() throws IOException {
+        return timeWindow.apply(value);
+    }
+
+    @Benchmark
+    public Integer open_fallback() throws IOException {
+        return open.apply(value);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.ThrowingCollectors;
+import com.pivovarit.function.ThrowingFunction;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Collectors#toMap} and {@link Collectors#groupingBy} with key and value mappers wrapped in
+ * {@link ThrowingFunction#unchecked(ThrowingFunction)}, compared to {@link ThrowingCollectors} accepting
+ * the throwing mappers directly and completing with a Result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CollectorsBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    private List<Integer> input;
+
+    private final ThrowingFunction<Integer, Integer, IOException> key = Workload::increment;
+    private final ThrowingFunction<Integer, Integer, IOException> group = i -> Workload.increment(i) % 16;
+
+    @Setup
+    public void setup() {
+        input = IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMap_unchecked() {
+        return input.stream().collect(Collectors.toMap(ThrowingFunction.unchecked(key), ThrowingFunction.unchecked(key)));
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMap_throwingCollectors() throws IOException {
+        return input.stream().collect(ThrowingCollectors.toMap(key, key)).get();
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupingBy_unchecked() {
+        return input.stream().collect(Collectors.groupingBy(ThrowingFunction.unchecked(group)));
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupingBy_throwingCollectors() throws IOException {
+        return input.stream().collect(ThrowingCollectors.groupingBy(group)).get();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.ThrowingFunction;
+import com.pivovarit.function.ThrowingUnaryOperator;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Chains of {@code stages} throwing functions adapted per stage, {@code unchecked(f).andThen(unchecked(g))},
+ * compared to chains composed in the throwing world and adapted once, {@code unchecked(f.andThen(g))}, and to
+ * {@link ThrowingUnaryOperator#chain(ThrowingUnaryOperator[])}, which applies all stages in a single loop.
+ * <p>
+ * The {@code *Failing} variants end with a stage throwing a preallocated exception, which gets wrapped into
+ * a {@link com.pivovarit.function.CheckedException} once in every variant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompositionBenchmark {
+
+    @Param({"5", "20"})
+    private int stages;
+
+    private Integer value = 42;
+
+    private Function<Integer, Integer> perStage;
+    private Function<Integer, Integer> fused;
+    private Function<Integer, Integer> chained;
+
+    private Function<Integer, Integer> perStageFailing;
+    private Function<Integer, Integer> fusedFailing;
+    private Function<Integer, Integer> chainedFailing;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setup() {
+        IOException cause = new IOException("preallocated");
+        ThrowingUnaryOperator<Integer, IOException> stage = Workload::increment;
+        ThrowingUnaryOperator<Integer, IOException> failing = i -> { throw cause; };
+
+        perStage = build(stage, stage);
+        perStageFailing = build(stage, failing);
+
+        fused = ThrowingFunction.unchecked(compose(stage, stage));
+        fusedFailing = ThrowingFunction.unchecked(compose(stage, failing));
+
+        ThrowingUnaryOperator<Integer, IOException>[] operators = new ThrowingUnaryOperator[stages];
+        Arrays.fill(operators, stage);
+        chained = ThrowingUnaryOperator.unchecked(ThrowingUnaryOperator.chain(operators));
+        operators[stages - 1] = failing;
+        chainedFailing = ThrowingUnaryOperator.unchecked(ThrowingUnaryOperator.chain(operators));
+    }
+
+    private Function<Integer, Integer> build(ThrowingUnaryOperator<Integer, IOException> stage, ThrowingUnaryOperator<Integer, IOException> last) {
+        Function<Integer, Integer> chain = ThrowingFunction.unchecked(stage);
+        for (int i = 1; i < stages - 1; i++) {
+            chain = chain.andThen(ThrowingFunction.unchecked(stage));
+        }
+        return chain.andThen(ThrowingFunction.unchecked(last));
+    }
+
+    private ThrowingFunction<Integer, Integer, IOException> compose(ThrowingUnaryOperator<Integer, IOException> stage, ThrowingUnaryOperator<Integer, IOException> last) {
+        ThrowingFunction<Integer, Integer, IOException> chain = stage;
+        for (int i = 1; i < stages - 1; i++) {
+            chain = chain.andThen(stage);
+        }
+        return chain.andThen(last);
+    }
+
+    @Benchmark
+    public Integer perStage() {
+        return perStage.apply(value);
+    }
+
+    @Benchmark
+    public Integer fused() {
+        return fused.apply(value);
+    }
+
+    @Benchmark
+    public Integer chained() {
+        return chained.apply(value);
+    }
+
+    @Benchmark
+    public Object perStageFailing() {
+        try {
+            return perStageFailing.apply(value);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object fusedFailing() {
+        try {
+            return fusedFailing.apply(value);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object chainedFailing() {
+        try {
+            return chainedFailing.apply(value);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.ThrowingBiConsumer;
+import com.pivovarit.function.ThrowingConsumer;
+import com.pivovarit.function.ThrowingRunnable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Success-path cost of the adapters of {@link ThrowingConsumer}, {@link ThrowingBiConsumer} and {@link ThrowingRunnable}
+ * compared to plain {@code java.util.function} lambdas and hand-written try/catch blocks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConsumerAdaptersBenchmark {
+
+    private Integer value = 42;
+    private int sink;
+
+    private final ThrowingConsumer<Integer, IOException> consumer = i -> sink = Workload.increment(i);
+    private final ThrowingBiConsumer<Integer, Integer, IOException> biConsumer = (i, j) -> sink = Workload.add(i, j);
+    private final ThrowingRunnable<IOException> runnable = () -> sink = Workload.increment(sink & 0xFF);
+
+    private final Consumer<Integer> consumerRaw = i -> sink = Workload.incrementUnchecked(i);
+    private final Consumer<Integer> consumerTryCatch = i -> {
+        try {
+            sink = Workload.increment(i);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+    private final Consumer<Integer> consumerUnchecked = ThrowingConsumer.unchecked(consumer);
+    private final Consumer<Integer> consumerSneaky = ThrowingConsumer.sneaky(consumer);
+
+    private final BiConsumer<Integer, Integer> biConsumerRaw = (i, j) -> sink = Workload.addUnchecked(i, j);
+    private final BiConsumer<Integer, Integer> biConsumerTryCatch = (i, j) -> {
+        try {
+            sink = Workload.add(i, j);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+    private final BiConsumer<Integer, Integer> biConsumerUnchecked = ThrowingBiConsumer.unchecked(biConsumer);
+    private final BiConsumer<Integer, Integer> biConsumerSneaky = ThrowingBiConsumer.sneaky(biConsumer);
+
+    private final Runnable runnableRaw = () -> sink = Workload.incrementUnchecked(sink & 0xFF);
+    private final Runnable runnableTryCatch = () -> {
+        try {
+            sink = Workload.increment(sink & 0xFF);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+    private final Runnable runnableUnchecked = ThrowingRunnable.unchecked(runnable);
+    private final Runnable runnableSneaky = ThrowingRunnable.sneaky(runnable);
+
+    @Benchmark
+    public int consumer_raw() {
+        consumerRaw.accept(value);
+        return sink;
+    }
+
+    @Benchmark
+    public int consumer_tryCatch() {
+        consumerTryCatch.accept(value);
+        return sink;
+    }
+
+    @Benchmark
+    public int consumer_unchecked() {
+        consumerUnchecked.accept(value);
+        return sink;
+    }
+
+    @Benchmark
+    public int consumer_sneaky() {
+        consumerSneaky.accept(value);
+        return sink;
+    }
+
+    @Benchmark
+    public int biConsumer_raw() {
+        biConsumerRaw.accept(value, value);
+        return sink;
+    }
+
+    @Benchmark
+    public int biConsumer_tryCatch() {
+        biConsumerTryCatch.accept(value, value);
+        return sink;
+    }
+
+    @Benchmark
+    public int biConsumer_unchecked() {
+        biConsumerUnchecked.accept(value, value);
+        return sink;
+    }
+
+    @Benchmark
+    public int biConsumer_sneaky() {
+        biConsumerSneaky.accept(value, value);
+        return sink;
+    }
+
+    @Benchmark
+    public int runnable_raw() {
+        runnableRaw.run();
+        return sink;
+    }
+
+    @Benchmark
+    public int runnable_tryCatch() {
+        runnableTryCatch.run();
+        return sink;
+    }
+
+    @Benchmark
+    public int runnable_unchecked() {
+        runnableUnchecked.run();
+        return sink;
+    }
+
+    @Benchmark
+    public int runnable_sneaky() {
+        runnableSneaky.run();
+        return sink;
+    }
+}
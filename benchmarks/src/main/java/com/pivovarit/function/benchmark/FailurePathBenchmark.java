@@ -0,0 +1,147 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.CheckedException;
+import com.pivovarit.function.ThrowingFunction;
+import com.pivovarit.function.ThrowingSupplier;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Failure-path cost of the adapters when the wrapped function throws at a given stack depth.
+ * <p>
+ * {@code FRESH} causes capture their own stack trace on every failure, {@code PREALLOCATED} causes are created once,
+ * which isolates the cost added by the adapter itself. Run {@link #main(String[])} (or pass {@code -prof gc})
+ * to get allocated bytes per operation next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FailurePathBenchmark {
+
+    public enum Cause {
+        FRESH, PREALLOCATED
+    }
+
+    @Param({"10", "100", "500"})
+    private int depth;
+
+    @Param
+    private Cause cause;
+
+    private Integer value = 42;
+
+    private Function<Integer, Integer> unchecked;
+    private Function<Integer, Integer> uncheckedLightweight;
+    private Function<Integer, Integer> sneaky;
+    private Function<Integer, Optional<Integer>> lifted;
+    private Supplier<Optional<Integer>> optional;
+
+    @Setup
+    public void setup() {
+        IOException preallocated = new IOException("preallocated");
+        ThrowingFunction<Integer, Integer, IOException> failing = cause == Cause.FRESH
+          ? i -> { throw new IOException("fresh"); }
+          : i -> { throw preallocated; };
+        ThrowingSupplier<Integer, IOException> failingSupplier = () -> failing.apply(value);
+
+        unchecked = ThrowingFunction.unchecked(failing);
+        uncheckedLightweight = i -> {
+            try {
+                return failing.apply(i);
+            } catch (IOException e) {
+                throw CheckedException.lightweight(e);
+            }
+        };
+        sneaky = ThrowingFunction.sneaky(failing);
+        lifted = ThrowingFunction.lifted(failing);
+        optional = ThrowingSupplier.optional(failingSupplier);
+    }
+
+    @Benchmark
+    public Object unchecked() {
+        try {
+            return descend(depth, unchecked);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object uncheckedLightweight() {
+        try {
+            return descend(depth, uncheckedLightweight);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object sneaky() {
+        try {
+            return descend(depth, sneaky);
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object lifted() {
+        return descend(depth, lifted);
+    }
+
+    @Benchmark
+    public Object optional() {
+        return descend(depth, optional);
+    }
+
+    private <R> R descend(int remaining, Function<Integer, R> function) {
+        return remaining == 0 ? function.apply(value) : descend(remaining - 1, function);
+    }
+
+    private <R> R descend(int remaining, Supplier<R> supplier) {
+        return remaining == 0 ? supplier.get() : descend(remaining - 1, supplier);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+          .include(FailurePathBenchmark.class.getSimpleName())
+          .addProfiler(GCProfiler.class)
+          .build()).run();
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.ThrowingBiFunction;
+import com.pivovarit.function.ThrowingBinaryOperator;
+import com.pivovarit.function.ThrowingFunction;
+import com.pivovarit.function.ThrowingToLongFunction;
+import com.pivovarit.function.ThrowingUnaryOperator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Success-path cost of the adapters of {@link ThrowingFunction}, {@link ThrowingBiFunction},
+ * {@link ThrowingUnaryOperator}, {@link ThrowingBinaryOperator} and {@link ThrowingToLongFunction}
+ * compared to plain {@code java.util.function} lambdas and hand-written try/catch blocks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FunctionAdaptersBenchmark {
+
+    private Integer value = 42;
+
+    private final ThrowingFunction<Integer, Integer, IOException> function = Workload::increment;
+    private final ThrowingBiFunction<Integer, Integer, Integer, IOException> biFunction = Workload::add;
+    private final ThrowingUnaryOperator<Integer, IOException> unaryOperator = Workload::increment;
+    private final ThrowingBinaryOperator<Integer, IOException> binaryOperator = Workload::add;
+    private final ThrowingToLongFunction<Integer, IOException> toLongFunction = Workload::increment;
+
+    private final Function<Integer, Integer> functionRaw = Workload::incrementUnchecked;
+    private final Function<Integer, Integer> functionTryCatch = i -> {
+        try {
+            return Workload.increment(i);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+    private final Function<Integer, Integer> functionUnchecked = ThrowingFunction.unchecked(function);
+    private final Function<Integer, Integer> functionSneaky = ThrowingFunction.sneaky(function);
+    private final Function<Integer, Optional<Integer>> functionLifted = ThrowingFunction.lifted(function);
+    private final Function<Integer, Optional<Integer>> functionLift = function.lift();
+
+    private final BiFunction<Integer, Integer, Integer> biFunctionRaw = Workload::addUnchecked;
+    private final BiFunction<Integer, Integer, Integer> biFunctionTryCatch = (i, j) -> {
+        try {
+            return Workload.add(i, j);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+    private final BiFunction<Integer, Integer, Integer> biFunctionUnchecked = ThrowingBiFunction.unchecked(biFunction);
+    private final BiFunction<Integer, Integer, Integer> biFunctionSneaky = ThrowingBiFunction.sneaky(biFunction);
+    private final BiFunction<Integer, Integer, Optional<Integer>> biFunctionOptional = ThrowingBiFunction.optional(biFunction);
+
+    private final UnaryOperator<Integer> unaryOperatorRaw = Workload::incrementUnchecked;
+    private final UnaryOperator<Integer> unaryOperatorTryCatch = i -> {
+        try {
+            return Workload.increment(i);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+    private final UnaryOperator<Integer> unaryOperatorUnchecked = ThrowingUnaryOperator.unchecked(unaryOperator);
+    private final UnaryOperator<Integer> unaryOperatorSneaky = ThrowingUnaryOperator.sneaky(unaryOperator);
+
+    private final BinaryOperator<Integer> binaryOperatorRaw = Workload::addUnchecked;
+    private final BinaryOperator<Integer> binaryOperatorTryCatch = (i, j) -> {
+        try {
+            return Workload.add(i, j);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+    private final BinaryOperator<Integer> binaryOperatorUnchecked = ThrowingBinaryOperator.unchecked(binaryOperator);
+    private final BinaryOperator<Integer> binaryOperatorSneaky = ThrowingBinaryOperator.sneaky(binaryOperator);
+
+    private final ToLongFunction<Integer> toLongFunctionRaw = Workload::incrementUnchecked;
+    private final ToLongFunction<Integer> toLongFunctionTryCatch = i -> {
+        try {
+            return Workload.increment(i);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+    private final ToLongFunction<Integer> toLongFunctionUnchecked = ThrowingToLongFunction.unchecked(toLongFunction);
+    private final ToLongFunction<Integer> toLongFunctionSneaky = ThrowingToLongFunction.sneaky(toLongFunction);
+
+    @Benchmark
+    public Integer function_raw() {
+        return functionRaw.apply(value);
+    }
+
+    @Benchmark
+    public Integer function_tryCatch() {
+        return functionTryCatch.apply(value);
+    }
+
+    @Benchmark
+    public Integer function_unchecked() {
+        return functionUnchecked.apply(value);
+    }
+
+    @Benchmark
+    public Integer function_sneaky() {
+        return functionSneaky.apply(value);
+    }
+
+    @Benchmark
+    public Optional<Integer> function_lifted() {
+        return functionLifted.apply(value);
+    }
+
+    @Benchmark
+    public Optional<Integer> function_lift() {
+        return functionLift.apply(value);
+    }
+
+    @Benchmark
+    public Integer biFunction_raw() {
+        return biFunctionRaw.apply(value, value);
+    }
+
+    @Benchmark
+    public Integer biFunction_tryCatch() {
+        return biFunctionTryCatch.apply(value, value);
+    }
+
+    @Benchmark
+    public Integer biFunction_unchecked() {
+        return biFunctionUnchecked.apply(value, value);
+    }
+
+    @Benchmark
+    public Integer biFunction_sneaky() {
+        return biFunctionSneaky.apply(value, value);
+    }
+
+    @Benchmark
+    public Optional<Integer> biFunction_optional() {
+        return biFunctionOptional.apply(value, value);
+    }
+
+    @Benchmark
+    public Integer unaryOperator_raw() {
+        return unaryOperatorRaw.apply(value);
+    }
+
+    @Benchmark
+    public Integer unaryOperator_tryCatch() {
+        return unaryOperatorTryCatch.apply(value);
+    }
+
+    @Benchmark
+    public Integer unaryOperator_unchecked() {
+        return unaryOperatorUnchecked.apply(value);
+    }
+
+    @Benchmark
+    public Integer unaryOperator_sneaky() {
+        return unaryOperatorSneaky.apply(value);
+    }
+
+    @Benchmark
+    public Integer binaryOperator_raw() {
+        return binaryOperatorRaw.apply(value, value);
+    }
+
+    @Benchmark
+    public Integer binaryOperator_tryCatch() {
+        return binaryOperatorTryCatch.apply(value, value);
+    }
+
+    @Benchmark
+    public Integer binaryOperator_unchecked() {
+        return binaryOperatorUnchecked.apply(value, value);
+    }
+
+    @Benchmark
+    public Integer binaryOperator_sneaky() {
+        return binaryOperatorSneaky.apply(value, value);
+    }
+
+    @Benchmark
+    public long toLongFunction_raw() {
+        return toLongFunctionRaw.applyAsLong(value);
+    }
+
+    @Benchmark
+    public long toLongFunction_tryCatch() {
+        return toLongFunctionTryCatch.applyAsLong(value);
+    }
+
+    @Benchmark
+    public long toLongFunction_unchecked() {
+        return toLongFunctionUnchecked.applyAsLong(value);
+    }
+
+    @Benchmark
+    public long toLongFunction_sneaky() {
+        return toLongFunctionSneaky.applyAsLong(value);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.InvocationMetrics;
+import com.pivovarit.function.ThrowingFunction;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead of {@link ThrowingFunction#instrumented(ThrowingFunction, InvocationMetrics)} with metrics disabled and enabled,
+ * compared to invoking the function directly. Runs on all available cores to expose contention on the shared counters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(Threads.MAX)
+public class InstrumentedBenchmark {
+
+    private Integer value = 42;
+
+    private final ThrowingFunction<Integer, Integer, IOException> function = Workload::increment;
+
+    private final InvocationMetrics disabled = new InvocationMetrics();
+    private final InvocationMetrics enabled = new InvocationMetrics();
+
+    private final ThrowingFunction<Integer, Integer, IOException> instrumentedDisabled = ThrowingFunction.instrumented(function, disabled);
+    private final ThrowingFunction<Integer, Integer, IOException> instrumentedEnabled = ThrowingFunction.instrumented(function, enabled);
+
+    {
+        disabled.setEnabled(false);
+    }
+
+    @Benchmark
+    public Integer raw() throws IOException {
+        return function.apply(value);
+    }
+
+    @Benchmark
+    public Integer instrumented_disabled() throws IOException {
+        return instrumentedDisabled.apply(value);
+    }
+
+    @Benchmark
+    public Integer instrumented_enabled() throws IOException {
+        return instrumentedEnabled.apply(value);
+    }
+}
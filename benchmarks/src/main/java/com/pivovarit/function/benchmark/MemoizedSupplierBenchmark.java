@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.FailurePolicy;
+import com.pivovarit.function.ThrowingSupplier;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Read path of {@link ThrowingSupplier#memoized(ThrowingSupplier, FailurePolicy)} under contention
+ * compared to hand-written double-checked locking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(2)
+public class MemoizedSupplierBenchmark {
+
+    private final ThrowingSupplier<Integer, IOException> retrying = ThrowingSupplier.memoized(() -> Workload.increment(41), FailurePolicy.RETRY);
+    private final ThrowingSupplier<Integer, IOException> caching = ThrowingSupplier.memoized(() -> Workload.increment(41), FailurePolicy.CACHE);
+    private final DoubleCheckedLocking doubleCheckedLocking = new DoubleCheckedLocking();
+
+    @Benchmark
+    public Integer memoized_retry() throws IOException {
+        return retrying.get();
+    }
+
+    @Benchmark
+    public Integer memoized_cache() throws IOException {
+        return caching.get();
+    }
+
+    @Benchmark
+    public Integer doubleCheckedLocking() throws IOException {
+        return doubleCheckedLocking.get();
+    }
+
+    private static final class DoubleCheckedLocking {
+        private volatile Integer value;
+
+        Integer get() throws IOException {
+            Integer result = value;
+            if (result == null) {
+                synchronized (this) {
+                    result = value;
+                    if (result == null) {
+                        value = result = Workload.increment(41);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.FailedIndexException;
+import com.pivovarit.function.ThrowingFunction;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link ThrowingFunction#parallelMapAll(List, ThrowingFunction)} compared to {@code parallelStream()} with the
+ * {@code unchecked} adapter, when all elements succeed and when the first element fails.
+ * <p>
+ * Every element burns a fixed amount of CPU, so the failure path shows how much work is done after the first failure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParallelBulkBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private List<Integer> list;
+
+    private final ThrowingFunction<Integer, Integer, IOException> function = i -> {
+        Blackhole.consumeCPU(100);
+        return Workload.increment(i);
+    };
+
+    private final ThrowingFunction<Integer, Integer, IOException> failingFirst = i -> {
+        if (i == 0) {
+            throw new IOException("first");
+        }
+        Blackhole.consumeCPU(100);
+        return i;
+    };
+
+    @Setup
+    public void setup() {
+        list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> success_parallelStream() {
+        return list.parallelStream()
+          .map(ThrowingFunction.unchecked(function))
+          .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> success_parallelMapAll() {
+        return ThrowingFunction.parallelMapAll(list, function);
+    }
+
+    @Benchmark
+    public Object failure_parallelStream() {
+        try {
+            return list.parallelStream()
+              .map(ThrowingFunction.unchecked(failingFirst))
+              .collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object failure_parallelMapAll() {
+        try {
+            return ThrowingFunction.parallelMapAll(list, failingFirst);
+        } catch (FailedIndexException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.ThrowingBiPredicate;
+import com.pivovarit.function.ThrowingPredicate;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Success-path cost of the adapters of {@link ThrowingPredicate} and {@link ThrowingBiPredicate}
+ * compared to plain {@code java.util.function} lambdas and hand-written try/catch blocks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PredicateAdaptersBenchmark {
+
+    private Integer value = 42;
+
+    private final ThrowingPredicate<Integer, IOException> predicate = Workload::isEven;
+    private final ThrowingBiPredicate<Integer, Integer, IOException> biPredicate = (i, j) -> Workload.isEven(i + j);
+
+    private final Predicate<Integer> predicateRaw = Workload::isEvenUnchecked;
+    private final Predicate<Integer> predicateTryCatch = i -> {
+        try {
+            return Workload.isEven(i);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+    private final Predicate<Integer> predicateUnchecked = ThrowingPredicate.unchecked(predicate);
+    private final Predicate<Integer> predicateSneaky = ThrowingPredicate.sneaky(predicate);
+
+    private final BiPredicate<Integer, Integer> biPredicateRaw = (i, j) -> Workload.isEvenUnchecked(i + j);
+    private final BiPredicate<Integer, Integer> biPredicateTryCatch = (i, j) -> {
+        try {
+            return Workload.isEven(i + j);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+    private final BiPredicate<Integer, Integer> biPredicateUnchecked = ThrowingBiPredicate.unchecked(biPredicate);
+    private final BiPredicate<Integer, Integer> biPredicateSneaky = ThrowingBiPredicate.sneaky(biPredicate);
+
+    @Benchmark
+    public boolean predicate_raw() {
+        return predicateRaw.test(value);
+    }
+
+    @Benchmark
+    public boolean predicate_tryCatch() {
+        return predicateTryCatch.test(value);
+    }
+
+    @Benchmark
+    public boolean predicate_unchecked() {
+        return predicateUnchecked.test(value);
+    }
+
+    @Benchmark
+    public boolean predicate_sneaky() {
+        return predicateSneaky.test(value);
+    }
+
+    @Benchmark
+    public boolean biPredicate_raw() {
+        return biPredicateRaw.test(value, value);
+    }
+
+    @Benchmark
+    public boolean biPredicate_tryCatch() {
+        return biPredicateTryCatch.test(value, value);
+    }
+
+    @Benchmark
+    public boolean biPredicate_unchecked() {
+        return biPredicateUnchecked.test(value, value);
+    }
+
+    @Benchmark
+    public boolean biPredicate_sneaky() {
+        return biPredicateSneaky.test(value, value);
+    }
+}
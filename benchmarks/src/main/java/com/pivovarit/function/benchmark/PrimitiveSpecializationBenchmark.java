@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.ThrowingFunction;
+import com.pivovarit.function.ThrowingIntUnaryOperator;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Boxed {@link ThrowingFunction} pipelines compared to their primitive specializations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrimitiveSpecializationBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    private int[] values;
+
+    @Setup
+    public void setup() {
+        values = IntStream.range(0, size).toArray();
+    }
+
+    @Benchmark
+    public int boxed_unchecked() {
+        return Arrays.stream(values).boxed()
+          .map(ThrowingFunction.unchecked(Workload::increment))
+          .reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int primitive_unchecked() {
+        return Arrays.stream(values)
+          .map(ThrowingIntUnaryOperator.unchecked(Workload::increment))
+          .sum();
+    }
+
+    @Benchmark
+    public int primitive_sneaky() {
+        return Arrays.stream(values)
+          .map(ThrowingIntUnaryOperator.sneaky(Workload::increment))
+          .sum();
+    }
+
+    @Benchmark
+    public int primitive_optional() {
+        return Arrays.stream(values)
+          .mapToObj(ThrowingIntUnaryOperator.optional(Workload::increment))
+          .mapToInt(result -> result.orElse(0))
+          .sum();
+    }
+}
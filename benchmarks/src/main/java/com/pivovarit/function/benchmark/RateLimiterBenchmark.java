@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.KeyedRateLimiter;
+import com.pivovarit.function.RateLimiter;
+import com.pivovarit.function.ThrowingFunction;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of acquiring an available permit from a {@link RateLimiter} and a {@link KeyedRateLimiter}, directly and through
+ * {@link ThrowingFunction#rateLimited(ThrowingFunction, RateLimiter)}. The rate is high enough for permits to be always
+ * available. Run {@link #main(String[])} (or pass {@code -prof gc}) to confirm that no allocation happens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RateLimiterBenchmark {
+
+    private Integer value = 42;
+    private String key = "tenant";
+
+    private final ThrowingFunction<Integer, Integer, IOException> function = Workload::increment;
+
+    private final RateLimiter limiter = RateLimiter.builder(1_000_000_000, Duration.ofSeconds(1))
+      .nonBlocking()
+      .build();
+    private final KeyedRateLimiter<String> keyedLimiter = RateLimiter.builder(1_000_000_000, Duration.ofSeconds(1))
+      .nonBlocking()
+      .buildKeyed();
+
+    private final ThrowingFunction<Integer, Integer, IOException> rateLimited = ThrowingFunction.rateLimited(function, limiter);
+
+    @Benchmark
+    public boolean tryAcquire() {
+        return limiter.tryAcquire();
+    }
+
+    @Benchmark
+    public boolean tryAcquire_keyed() {
+        return keyedLimiter.tryAcquire(key);
+    }
+
+    @Benchmark
+    public Integer raw() throws IOException {
+        return function.apply(value);
+    }
+
+    @Benchmark
+    public Integer rateLimited() throws IOException {
+        return rateLimited.apply(value);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+          .include(RateLimiterBenchmark.class.getSimpleName())
+          .addProfiler(GCProfiler.class)
+          .build()).run();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.Recovery;
+import com.pivovarit.function.ThrowingFunction;
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.MalformedURLException;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of finding the handler of a thrown exception: a hand-written chain of {@code instanceof} checks
+ * compared to {@link ThrowingFunction#recovering(ThrowingFunction, Recovery)}, for a mix of exception classes
+ * matching handlers at different positions of the chain. Causes are preallocated to isolate the dispatch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RecoveryBenchmark {
+
+    private static final Exception[] CAUSES = {
+      new EOFException(), new UnknownHostException(), new TimeoutException(), new IllegalStateException(),
+      new FileNotFoundException(), new SocketException(), new ExecutionException(null), new IOException()};
+
+    private final ThrowingFunction<Exception, Integer, Exception> failing = e -> { throw e; };
+
+    private final Function<Exception, Integer> instanceOfChain = e -> {
+        try {
+            return failing.apply(e);
+        } catch (Exception ex) {
+            if (ex instanceof FileNotFoundException) {
+                return 1;
+            } else if (ex instanceof MalformedURLException) {
+                return 2;
+            } else if (ex instanceof InterruptedIOException) {
+                return 3;
+            } else if (ex instanceof UnknownHostException) {
+                return 4;
+            } else if (ex instanceof SocketException) {
+                return 5;
+            } else if (ex instanceof EOFException) {
+                return 6;
+            } else if (ex instanceof IOException) {
+                return 7;
+            } else if (ex instanceof TimeoutException) {
+                return 8;
+            } else if (ex instanceof RuntimeException) {
+                return 9;
+            } else {
+                return 10;
+            }
+        }
+    };
+
+    private final Function<Exception, Integer> recovering = ThrowingFunction.recovering(failing, Recovery.<Integer>builder()
+      .recover(FileNotFoundException.class, 1)
+      .recover(MalformedURLException.class, 2)
+      .recover(InterruptedIOException.class, 3)
+      .recover(UnknownHostException.class, 4)
+      .recover(SocketException.class, 5)
+      .recover(EOFException.class, 6)
+      .recover(IOException.class, 7)
+      .recover(TimeoutException.class, 8)
+      .recover(RuntimeException.class, 9)
+      .recover(Exception.class, 10)
+      .build());
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public int instanceOfChain() {
+        int acc = 0;
+        for (Exception cause : CAUSES) {
+            acc += instanceOfChain.apply(cause);
+        }
+        return acc;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public int recovering() {
+        int acc = 0;
+        for (Exception cause : CAUSES) {
+            acc += recovering.apply(cause);
+        }
+        return acc;
+    }
+}
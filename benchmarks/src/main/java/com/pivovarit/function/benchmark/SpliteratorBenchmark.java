@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.ThrowingSpliterator;
+import com.pivovarit.function.ThrowingSupplier;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Streaming twenty batches from a source that waits 200us per batch, like a paged remote reader, while spending CPU
+ * on every element: reading on demand, compared to reading ahead on a background thread, which overlaps the waiting
+ * with the processing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SpliteratorBenchmark {
+
+    private static final int BATCHES = 20;
+    private static final long LATENCY_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final List<Integer> batch = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+    @Benchmark
+    public long onDemand() throws IOException {
+        return ThrowingSpliterator.ofBatches(source()).withStream(s -> s.mapToLong(SpliteratorBenchmark::process).sum());
+    }
+
+    @Benchmark
+    public long prefetched() throws IOException {
+        return ThrowingSpliterator.ofBatches(source(), 2).withStream(s -> s.mapToLong(SpliteratorBenchmark::process).sum());
+    }
+
+    private ThrowingSupplier<List<Integer>, IOException> source() {
+        int[] remaining = {BATCHES};
+        return () -> {
+            if (remaining[0]-- == 0) {
+                return Collections.emptyList();
+            }
+            LockSupport.parkNanos(LATENCY_NANOS);
+            return batch;
+        };
+    }
+
+    private static long process(Integer value) {
+        Blackhole.consumeCPU(200);
+        return Workload.incrementUnchecked(value);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.ThrowingSupplier;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Success-path cost of the adapters of {@link ThrowingSupplier} compared to a plain {@link Supplier}
+ * and a hand-written try/catch block.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SupplierAdaptersBenchmark {
+
+    private Integer value = 42;
+
+    private final ThrowingSupplier<Integer, IOException> supplier = () -> Workload.increment(value);
+
+    private final Supplier<Integer> supplierRaw = () -> Workload.incrementUnchecked(value);
+    private final Supplier<Integer> supplierTryCatch = () -> {
+        try {
+            return Workload.increment(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+    private final Supplier<Integer> supplierUnchecked = ThrowingSupplier.unchecked(supplier);
+    private final Supplier<Integer> supplierSneaky = ThrowingSupplier.sneaky(supplier);
+    private final Supplier<Optional<Integer>> supplierOptional = ThrowingSupplier.optional(supplier);
+
+    @Benchmark
+    public Integer supplier_raw() {
+        return supplierRaw.get();
+    }
+
+    @Benchmark
+    public Integer supplier_tryCatch() {
+        return supplierTryCatch.get();
+    }
+
+    @Benchmark
+    public Integer supplier_unchecked() {
+        return supplierUnchecked.get();
+    }
+
+    @Benchmark
+    public Integer supplier_sneaky() {
+        return supplierSneaky.get();
+    }
+
+    @Benchmark
+    public Optional<Integer> supplier_optional() {
+        return supplierOptional.get();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.TaskGroup;
+import com.pivovarit.function.ThrowingSupplier;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of fanning out eight calls with {@link TaskGroup#invokeAll} on its default executor and on a given pool,
+ * compared to {@link ExecutorService#invokeAll} on the same pool followed by unwrapping {@link ExecutionException}s
+ * by hand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TaskGroupBenchmark {
+
+    private static final int TASKS = 8;
+
+    private final List<ThrowingSupplier<Integer, IOException>> suppliers = new ArrayList<>();
+    private final List<Callable<Integer>> callables = new ArrayList<>();
+
+    private ExecutorService pool;
+
+    @Setup
+    public void setup() {
+        pool = Executors.newCachedThreadPool();
+        for (int i = 0; i < TASKS; i++) {
+            Integer value = i;
+            suppliers.add(() -> Workload.increment(value));
+            callables.add(() -> Workload.increment(value));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public List<Integer> taskGroup() throws IOException {
+        return TaskGroup.invokeAll(suppliers);
+    }
+
+    @Benchmark
+    public List<Integer> taskGroupOnPool() throws IOException {
+        return TaskGroup.invokeAll(suppliers, pool);
+    }
+
+    @Benchmark
+    public List<Integer> invokeAllOnPool() throws IOException, InterruptedException {
+        List<Integer> results = new ArrayList<>(TASKS);
+        for (Future<Integer> future : pool.invokeAll(callables)) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        return results;
+    }
+}
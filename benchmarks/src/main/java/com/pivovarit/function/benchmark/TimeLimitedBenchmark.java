@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import com.pivovarit.function.ThrowingSupplier;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link ThrowingSupplier#timeLimited(ThrowingSupplier, Duration)} for calls completing in time: handing
+ * the call over to the default executor and waiting for it, compared to the bookkeeping alone on a caller-runs
+ * executor. No timer task is scheduled in either case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TimeLimitedBenchmark {
+
+    private Integer value = 42;
+
+    private final ThrowingSupplier<Integer, IOException> supplier = () -> Workload.increment(value);
+
+    private final ThrowingSupplier<Integer, IOException> timeLimited = ThrowingSupplier.timeLimited(supplier, Duration.ofSeconds(1));
+    private final ThrowingSupplier<Integer, IOException> timeLimitedCallerRuns = ThrowingSupplier.timeLimited(supplier, Duration.ofSeconds(1), Runnable::run);
+
+    @Benchmark
+    public Integer raw() throws IOException {
+        return supplier.get();
+    }
+
+    @Benchmark
+    public Integer timeLimited() throws IOException {
+        return timeLimited.get();
+    }
+
+    @Benchmark
+    public Integer timeLimitedCallerRuns() throws IOException {
+        return timeLimitedCallerRuns.get();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.benchmark;
+
+import java.io.IOException;
+
+/**
+ * Cheap operations shared by all benchmarks. Every checked variant has an unchecked twin with an identical body,
+ * so that the difference between benchmarks is the adapter alone.
+ */
+final class Workload {
+
+    private Workload() {
+    }
+
+    static int increment(int value) throws IOException {
+        if (value < 0) {
+            throw new IOException("negative: " + value);
+        }
+        return value + 1;
+    }
+
+    static int incrementUnchecked(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("negative: " + value);
+        }
+        return value + 1;
+    }
+
+    static int add(int left, int right) throws IOException {
+        if (left < 0) {
+            throw new IOException("negative: " + left);
+        }
+        return left + right;
+    }
+
+    static int addUnchecked(int left, int right) {
+        if (left < 0) {
+            throw new IllegalArgumentException("negative: " + left);
+        }
+        return left + right;
+    }
+
+    static boolean isEven(int value) throws IOException {
+        if (value < 0) {
+            throw new IOException("negative: " + value);
+        }
+        return (value & 1) == 0;
+    }
+
+    static boolean isEvenUnchecked(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("negative: " + value);
+        }
+        return (value & 1) == 0;
+    }
+}
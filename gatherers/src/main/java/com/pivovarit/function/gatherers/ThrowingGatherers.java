@@ -0,0 +1,208 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.gatherers;
+
+import com.pivovarit.function.CheckedException;
+import com.pivovarit.function.ThrowingFunction;
+import java.util.ArrayDeque;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Gatherer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Stream gatherers accepting throwing functions. Exceptions thrown by the functions are rethrown as-is
+ * using the Sneaky Throws pattern, without being wrapped.
+ * <p>
+ * Requires Java 24 or later, so it ships separately from the Java 8 compatible throwing-function artifact.
+ *
+ * <pre>{@code
+ * List<Response> responses = uris.stream()
+ *   .gather(ThrowingGatherers.mapConcurrentChecked(16, client::fetch))
+ *   .toList();
+ * }</pre>
+ *
+ * @author Grzegorz Piwowarek
+ */
+public final class ThrowingGatherers {
+
+    private ThrowingGatherers() {
+    }
+
+    /**
+     * Returns a Gatherer applying the given function to every element, which rethrows the thrown exception as-is
+     * using the Sneaky Throws pattern
+     *
+     * @param <T>    the type of input elements
+     * @param <R>    the type of mapped elements
+     * @param mapper the ThrowingFunction applied to every element
+     * @return Gatherer mapping elements using the given function
+     */
+    public static <T, R> Gatherer<T, ?, R> mapChecked(ThrowingFunction<? super T, ? extends R, ?> mapper) {
+        requireNonNull(mapper);
+        return Gatherer.<T, R>of(Gatherer.Integrator.ofGreedy((state, element, downstream) -> {
+            R result;
+            try {
+                result = mapper.apply(element);
+            } catch (final Exception e) {
+                throw sneakyThrow(e);
+            }
+            return downstream.push(result);
+        }));
+    }
+
+    /**
+     * Returns a Gatherer applying the given function to every element on a new virtual thread, with at most
+     * {@code maxConcurrency} elements in flight, and pushing the results in encounter order.
+     * <p>
+     * The first exception thrown by any in-flight call cancels all other calls with an interrupt, and is rethrown as-is
+     * using the Sneaky Throws pattern, without waiting for the calls on earlier elements to complete
+     *
+     * @param <T>            the type of input elements
+     * @param <R>            the type of mapped elements
+     * @param maxConcurrency the maximum number of concurrent calls
+     * @param mapper         the ThrowingFunction applied to every element
+     * @return Gatherer mapping elements concurrently using the given function
+     */
+    public static <T, R> Gatherer<T, ?, R> mapConcurrentChecked(int maxConcurrency, ThrowingFunction<? super T, ? extends R, ?> mapper) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive, was: " + maxConcurrency);
+        }
+        requireNonNull(mapper);
+        return Gatherer.<T, Window<T, R>, R>ofSequential(
+          () -> new Window<>(maxConcurrency, mapper),
+          Gatherer.Integrator.<Window<T, R>, T, R>of(Window::integrate),
+          Window::finish);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Exception> RuntimeException sneakyThrow(Exception exception) throws E {
+        throw (E) exception;
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof Exception exception) {
+            throw sneakyThrow(exception);
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new CheckedException(failure);
+    }
+
+    /**
+     * Calls in flight, in encounter order. The gathering thread waits for the oldest call, and wakes up on every
+     * completion to check for failures of any other call.
+     */
+    private static final class Window<T, R> {
+
+        private final int maxConcurrency;
+        private final ThrowingFunction<? super T, ? extends R, ?> mapper;
+        private final ArrayDeque<Call> calls = new ArrayDeque<>();
+        private final Semaphore completions = new Semaphore(0);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Window(int maxConcurrency, ThrowingFunction<? super T, ? extends R, ?> mapper) {
+            this.maxConcurrency = maxConcurrency;
+            this.mapper = mapper;
+        }
+
+        boolean integrate(T element, Gatherer.Downstream<? super R> downstream) {
+            boolean completed = false;
+            try {
+                while (calls.size() >= maxConcurrency) {
+                    if (!pushOldest(downstream)) {
+                        return false;
+                    }
+                }
+                Call call = new Call(element);
+                calls.addLast(call);
+                Thread.startVirtualThread(call);
+                while (!calls.isEmpty() && calls.peekFirst().isDone()) {
+                    if (!pushOldest(downstream)) {
+                        return false;
+                    }
+                }
+                completed = true;
+                return !downstream.isRejecting();
+            } finally {
+                if (!completed) {
+                    cancelAll();
+                }
+            }
+        }
+
+        void finish(Gatherer.Downstream<? super R> downstream) {
+            try {
+                while (!calls.isEmpty() && pushOldest(downstream)) {
+                    // keep pushing results in encounter order
+                }
+            } finally {
+                cancelAll();
+            }
+        }
+
+        private boolean pushOldest(Gatherer.Downstream<? super R> downstream) {
+            Call oldest = calls.peekFirst();
+            while (!oldest.isDone()) {
+                checkFailure();
+                try {
+                    completions.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CheckedException(e);
+                }
+            }
+            checkFailure();
+            if (oldest.state() == Future.State.FAILED) {
+                throw rethrow(oldest.exceptionNow());
+            }
+            calls.pollFirst();
+            return downstream.push(oldest.resultNow());
+        }
+
+        private void checkFailure() {
+            Throwable first = failure.get();
+            if (first != null) {
+                throw rethrow(first);
+            }
+        }
+
+        private void cancelAll() {
+            for (Call call; (call = calls.pollFirst()) != null; ) {
+                call.cancel(true);
+            }
+        }
+
+        private final class Call extends FutureTask<R> {
+
+            Call(T element) {
+                super(() -> mapper.apply(element));
+            }
+
+            @Override
+            protected void done() {
+                if (state() == State.FAILED) {
+                    failure.compareAndSet(null, exceptionNow());
+                }
+                completions.release();
+            }
+        }
+    }
+}
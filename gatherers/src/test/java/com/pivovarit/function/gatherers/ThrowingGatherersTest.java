@@ -0,0 +1,158 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function.gatherers;
+
+import com.pivovarit.function.ThrowingFunction;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThrowingGatherersTest {
+
+    @Test
+    void shouldMapChecked() {
+        // given
+        ThrowingFunction<Integer, Integer, IOException> increment = i -> i + 1;
+
+        // when
+        List<Integer> result = Stream.of(1, 2, 3).gather(ThrowingGatherers.mapChecked(increment)).toList();
+
+        // then
+        assertThat(result).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void shouldRethrowCheckedExceptionAsIs() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingFunction<Integer, Integer, IOException> failing = i -> { throw cause; };
+
+        // when
+        assertThatThrownBy(() -> Stream.of(1, 2, 3).gather(ThrowingGatherers.mapChecked(failing)).toList())
+          .isSameAs(cause);
+    }
+
+    @Test
+    void shouldMapConcurrentlyInEncounterOrder() {
+        // given
+        ThrowingFunction<Integer, Integer, InterruptedException> slowForSmall = i -> {
+            Thread.sleep(50 - i);
+            return i;
+        };
+
+        // when
+        List<Integer> result = IntStream.range(0, 50).boxed()
+          .gather(ThrowingGatherers.mapConcurrentChecked(10, slowForSmall))
+          .toList();
+
+        // then
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 50).boxed().toList());
+    }
+
+    @Test
+    void shouldNotExceedMaxConcurrency() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        // given
+        ThrowingFunction<Integer, Integer, InterruptedException> tracking = i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return i;
+        };
+
+        // when
+        IntStream.range(0, 40).boxed().gather(ThrowingGatherers.mapConcurrentChecked(4, tracking)).toList();
+
+        // then
+        assertThat(maxInFlight.get()).isBetween(1, 4);
+    }
+
+    @Test
+    void shouldFailFastAndCancelInFlightCalls() throws InterruptedException {
+        IOException cause = new IOException("some message");
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // given
+        ThrowingFunction<Integer, Integer, IOException> function = i -> {
+            if (i == 1) {
+                throw cause;
+            }
+            try {
+                Thread.sleep(Duration.ofMinutes(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return i;
+        };
+
+        // when
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> Stream.of(0, 1).gather(ThrowingGatherers.mapConcurrentChecked(2, function)).toList())
+          .isSameAs(cause);
+
+        // then
+        assertThat(System.nanoTime() - start).isLessThan(Duration.ofSeconds(10).toNanos());
+        assertThat(await(interrupted)).isTrue();
+    }
+
+    @Test
+    void shouldCancelInFlightCallsWhenDownstreamIsDone() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // given
+        ThrowingFunction<Integer, Integer, IOException> function = i -> {
+            if (i > 0) {
+                try {
+                    Thread.sleep(Duration.ofMinutes(1));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }
+            return i;
+        };
+
+        // when
+        List<Integer> result = Stream.of(0, 1).gather(ThrowingGatherers.mapConcurrentChecked(2, function))
+          .limit(1)
+          .toList();
+
+        // then
+        assertThat(result).containsExactly(0);
+        assertThat(await(interrupted)).isTrue();
+    }
+
+    @Test
+    void shouldRejectInvalidMaxConcurrency() {
+        assertThatThrownBy(() -> ThrowingGatherers.mapConcurrentChecked(0, i -> i))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static boolean await(CountDownLatch latch) throws InterruptedException {
+        return latch.await(10, TimeUnit.SECONDS);
+    }
+}
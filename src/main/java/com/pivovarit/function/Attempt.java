@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A Function returning the outcome of a {@link ThrowingFunction} as a {@link Result}, with fused transformations.
+ * <p>
+ * Unlike the transformations of {@link Result}, which run eagerly and allocate a new Result for every stage producing
+ * a new value, {@link #map}, {@link #flatMap} and {@link #recover} compose the stages into a single function once,
+ * when the chain is built. Every call then runs all stages inside a single try block and allocates at most
+ * one Result, holding the final value or the first exception that wasn't recovered from.
+ *
+ * @param <T> the type of the input to the function
+ * @param <R> the type of the value of the returned Result
+ * @param <E> the type of the checked exception the stages might throw
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction#attempt(ThrowingFunction)
+ */
+public final class Attempt<T, R, E extends Exception> implements Function<T, Result<R, E>> {
+
+    private final ThrowingFunction<? super T, ? extends R, ? extends E> function;
+
+    Attempt(ThrowingFunction<? super T, ? extends R, ? extends E> function) {
+        this.function = function;
+    }
+
+    /**
+     * Applies the composed stages to the given argument
+     *
+     * @param t the function argument
+     * @return successful Result holding the value returned by the last stage,
+     * or failed Result holding the exception which wasn't recovered from
+     */
+    @Override
+    public Result<R, E> apply(T t) {
+        try {
+            return Result.success(function.apply(t));
+        } catch (final Exception e) {
+            return Result.failed(e);
+        }
+    }
+
+    /**
+     * Returns an Attempt which applies the given function to the value. Failures of the previous stages
+     * skip the mapping function, same as {@link Result#map(ThrowingFunction)}
+     *
+     * @param <V>    the type of the new value
+     * @param mapper the ThrowingFunction to apply to the value
+     * @return Attempt instance applying the mapping function after the previous stages
+     */
+    public <V> Attempt<T, V, E> map(ThrowingFunction<? super R, ? extends V, ? extends E> mapper) {
+        requireNonNull(mapper);
+        ThrowingFunction<? super T, ? extends R, ? extends E> previous = function;
+        ThrowingFunction<T, V, E> fused = t -> mapper.apply(previous.apply(t));
+        return new Attempt<>(fused);
+    }
+
+    /**
+     * Returns an Attempt which applies the given Result-returning function to the value. Failures of the previous stages
+     * skip the mapping function, same as {@link Result#flatMap(ThrowingFunction)}
+     *
+     * @param <V>    the type of the new value
+     * @param mapper the ThrowingFunction to apply to the value
+     * @return Attempt instance applying the mapping function after the previous stages
+     */
+    public <V> Attempt<T, V, E> flatMap(ThrowingFunction<? super R, Result<V, E>, ? extends E> mapper) {
+        requireNonNull(mapper);
+        ThrowingFunction<? super T, ? extends R, ? extends E> previous = function;
+        ThrowingFunction<T, V, E> fused = t -> requireNonNull(mapper.apply(previous.apply(t))).get();
+        return new Attempt<>(fused);
+    }
+
+    /**
+     * Returns an Attempt which replaces an exception thrown by the previous stages with the value returned
+     * by the given function, same as {@link Result#recover(ThrowingFunction)}
+     *
+     * @param recovery the ThrowingFunction computing a value from the exception
+     * @return Attempt instance recovering from failures of the previous stages
+     */
+    public Attempt<T, R, E> recover(ThrowingFunction<? super Exception, ? extends R, ? extends E> recovery) {
+        requireNonNull(recovery);
+        ThrowingFunction<? super T, ? extends R, ? extends E> previous = function;
+        ThrowingFunction<T, R, E> fused = t -> {
+            try {
+                return previous.apply(t);
+            } catch (final Exception e) {
+                return recovery.apply(e);
+            }
+        };
+        return new Attempt<>(fused);
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A function loading single keys by collecting them into batches for a bulk function.
+ * <p>
+ * The first key of a batch opens it and starts a dispatching task on the executor, which waits at most the configured
+ * delay for more keys, or until the batch reaches its maximum size, and then calls the bulk function once with
+ * the distinct keys of the batch, in order of arrival. Every caller receives the value mapped to its key, or null
+ * if the bulk function returned no value for it. An exception thrown by the bulk function is passed as-is to every
+ * caller in the batch.
+ *
+ * <pre>{@code
+ * BatchLoader<Long, User, IOException> users = BatchLoader.builder(userRepository::loadAll)
+ *   .maxBatchSize(100)
+ *   .maxDelay(Duration.ofMillis(2))
+ *   .build();
+ *
+ * User user = users.apply(42L); // throws IOException
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the loaded values
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ */
+public final class BatchLoader<K, V, E extends Exception> implements ThrowingFunction<K, V, E> {
+
+    private final ThrowingFunction<? super List<K>, ? extends Map<? extends K, ? extends V>, ? extends E> bulk;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Executor executor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Batch open;
+
+    private BatchLoader(Builder<K, V, E> builder) {
+        this.bulk = builder.bulk;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxDelayNanos = builder.maxDelayNanos;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Returns a new builder of a BatchLoader calling the given bulk function. By default, batches hold up to 100 keys,
+     * are dispatched at most 1 millisecond after their first key, and the bulk function runs on a shared pool of
+     * daemon threads, or on a new virtual thread on Java 21 and later
+     *
+     * @param <K>  the type of the keys
+     * @param <V>  the type of the loaded values
+     * @param <E>  the type of the thrown checked exception
+     * @param bulk the ThrowingFunction loading values of the given distinct keys
+     * @return new BatchLoader builder
+     */
+    public static <K, V, E extends Exception> Builder<K, V, E> builder(ThrowingFunction<? super List<K>, ? extends Map<? extends K, ? extends V>, ? extends E> bulk) {
+        return new Builder<>(requireNonNull(bulk));
+    }
+
+    /**
+     * Loads the value of the given key as part of a batch, blocking the calling thread until the batch is loaded
+     *
+     * @param key the key to load
+     * @return the value loaded for the given key, or null if the bulk function returned none
+     * @throws E the exception thrown by the bulk function
+     */
+    @Override
+    public V apply(K key) throws E {
+        CompletableFuture<V> future = loadAsync(key);
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw SneakyThrowUtil.rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CheckedException(e);
+        }
+    }
+
+    /**
+     * Loads the value of the given key as part of a batch. The returned future completes exceptionally with
+     * the original exception thrown by the bulk function, which {@link CheckedFutures#join(CompletableFuture, Class)}
+     * rethrows with its type intact
+     *
+     * @param key the key to load
+     * @return CompletableFuture completed with the value loaded for the given key
+     */
+    public CompletableFuture<V> loadAsync(K key) {
+        requireNonNull(key);
+        CompletableFuture<V> future = new CompletableFuture<>();
+        Batch opened = null;
+        lock.lock();
+        try {
+            if (open == null) {
+                open = opened = new Batch();
+            }
+            if (open.add(key, future) >= maxBatchSize) {
+                open.seal();
+                open = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (opened != null) {
+            start(opened);
+        }
+        return future;
+    }
+
+    private void start(Batch batch) {
+        try {
+            executor.execute(batch);
+        } catch (RejectedExecutionException e) {
+            lock.lock();
+            try {
+                batch.seal();
+                if (open == batch) {
+                    open = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+            batch.fail(e);
+        }
+    }
+
+    /**
+     * Distinct keys of a single batch with the futures of their callers. Keys are added under the lock until the batch
+     * is sealed, either by reaching its maximum size or by its dispatching task once the delay elapses.
+     */
+    private final class Batch implements Runnable {
+
+        private final Map<K, List<CompletableFuture<V>>> callers = new LinkedHashMap<>();
+        private final Condition sealedCondition = lock.newCondition();
+        private boolean sealed;
+
+        int add(K key, CompletableFuture<V> future) {
+            callers.computeIfAbsent(key, k -> new ArrayList<>(1)).add(future);
+            return callers.size();
+        }
+
+        void seal() {
+            sealed = true;
+            sealedCondition.signal();
+        }
+
+        @Override
+        public void run() {
+            lock.lock();
+            try {
+                long remaining = maxDelayNanos;
+                while (!sealed && remaining > 0) {
+                    remaining = sealedCondition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                sealed = true;
+                if (open == this) {
+                    open = null;
+                }
+                lock.unlock();
+            }
+            dispatch();
+        }
+
+        private void dispatch() {
+            Map<? extends K, ? extends V> values;
+            try {
+                values = requireNonNull(bulk.apply(new ArrayList<>(callers.keySet())));
+            } catch (final Throwable e) {
+                fail(e);
+                return;
+            }
+            for (Map.Entry<K, List<CompletableFuture<V>>> entry : callers.entrySet()) {
+                V value = values.get(entry.getKey());
+                for (CompletableFuture<V> future : entry.getValue()) {
+                    future.complete(value);
+                }
+            }
+        }
+
+        void fail(Throwable e) {
+            for (List<CompletableFuture<V>> futures : callers.values()) {
+                for (CompletableFuture<V> future : futures) {
+                    future.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builder of a {@link BatchLoader}
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the loaded values
+     * @param <E> the type of the thrown checked exception
+     */
+    public static final class Builder<K, V, E extends Exception> {
+
+        private final ThrowingFunction<? super List<K>, ? extends Map<? extends K, ? extends V>, ? extends E> bulk;
+        private int maxBatchSize = 100;
+        private long maxDelayNanos = Duration.ofMillis(1).toNanos();
+        private Executor executor = BlockingExecutor.get();
+
+        private Builder(ThrowingFunction<? super List<K>, ? extends Map<? extends K, ? extends V>, ? extends E> bulk) {
+            this.bulk = bulk;
+        }
+
+        /**
+         * Sets the maximum number of distinct keys in a batch. A full batch is dispatched right away
+         *
+         * @param maxBatchSize the maximum number of distinct keys passed to the bulk function
+         * @return this builder
+         */
+        public Builder<K, V, E> maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("maxBatchSize must be positive, was: " + maxBatchSize);
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time between the first key of a batch and its dispatch. With a zero delay, a batch collects
+         * keys only until its dispatching task starts running
+         *
+         * @param maxDelay the maximum time a batch collects keys for
+         * @return this builder
+         */
+        public Builder<K, V, E> maxDelay(Duration maxDelay) {
+            if (maxDelay.isNegative()) {
+                throw new IllegalArgumentException("maxDelay must not be negative, was: " + maxDelay);
+            }
+            this.maxDelayNanos = maxDelay.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets the executor running the dispatching tasks, which wait for the batch to fill up and call the bulk function
+         *
+         * @param executor the Executor running the bulk function
+         * @return this builder
+         */
+        public Builder<K, V, E> executor(Executor executor) {
+            this.executor = requireNonNull(executor);
+            return this;
+        }
+
+        /**
+         * Builds the BatchLoader
+         *
+         * @return new BatchLoader instance
+         */
+        public BatchLoader<K, V, E> build() {
+            return new BatchLoader<>(this);
+        }
+    }
+}
@@ -0,0 +1,469 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A consumer buffering single items and passing them in batches to a sink.
+ * <p>
+ * A batch is flushed once it reaches the maximum batch size, or once its oldest item has waited for the maximum
+ * latency. Flushes run one at a time on a task started on the executor when the first item arrives, which stops once
+ * the buffer is empty. While a flush is in progress, new items are buffered up to the configured capacity; a producer
+ * finding the buffer full waits for space, or is rejected with a {@link CallNotPermittedException}.
+ * <p>
+ * The sink receives a read-only view of a batch list reused by every flush, so it must not keep a reference to it
+ * after returning. An exception thrown by the sink is passed to the error handler, if configured, or rethrown as-is
+ * by the next call to {@link #accept(Object)}, {@link #flush()} or {@link #close()}. Errors thrown by the sink, and
+ * exceptions thrown by the error handler, are always rethrown that way. Items of a failed batch are dropped, while
+ * the remaining ones keep being flushed.
+ * <p>
+ * {@link #flush()} and {@link #close()} wait for the flushing task, so they can't be called by the sink
+ * or by the error handler.
+ *
+ * <pre>{@code
+ * BatchingConsumer<Event, SQLException> events = BatchingConsumer.builder(eventRepository::insertAll)
+ *   .maxBatchSize(500)
+ *   .maxLatency(Duration.ofMillis(20))
+ *   .build();
+ *
+ * events.accept(event); // throws SQLException of an earlier failed flush
+ * }</pre>
+ *
+ * @param <T> the type of the items
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ */
+public final class BatchingConsumer<T, E extends Exception> implements ThrowingConsumer<T, E>, AutoCloseable {
+
+    private final ThrowingConsumer<? super List<T>, ? extends E> sink;
+    private final Consumer<? super Exception> errorHandler;
+    private final int maxBatchSize;
+    private final int capacity;
+    private final long maxLatencyNanos;
+    private final long maxWaitNanos;
+    private final Executor executor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushable = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+
+    private final ArrayDeque<T> buffer;
+    private final ArrayList<T> batch;
+    private final List<T> batchView;
+    private final Runnable flusher = this::flushWhileBuffered;
+
+    private long oldestArrival;
+    private boolean running;
+    private boolean flushRequested;
+    private boolean closed;
+    private Thread flushingThread;
+    private Throwable failure;
+
+    private BatchingConsumer(Builder<T, E> builder) {
+        this.sink = builder.sink;
+        this.errorHandler = builder.errorHandler;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.capacity = Math.max(builder.capacity, builder.maxBatchSize);
+        this.maxLatencyNanos = builder.maxLatencyNanos;
+        this.maxWaitNanos = builder.maxWaitNanos;
+        this.executor = builder.executor;
+        this.buffer = new ArrayDeque<>(capacity);
+        this.batch = new ArrayList<>(maxBatchSize);
+        this.batchView = Collections.unmodifiableList(batch);
+    }
+
+    /**
+     * Returns a new builder of a BatchingConsumer passing batches to the given sink. By default, batches hold up to
+     * 100 items, are flushed at most 10 milliseconds after their oldest item arrived, up to 1000 items are buffered,
+     * producers wait for space in a full buffer, and flushes run on a shared pool of daemon threads, or on a new
+     * virtual thread on Java 21 and later
+     *
+     * @param <T>  the type of the items
+     * @param <E>  the type of the thrown checked exception
+     * @param sink the ThrowingConsumer of batches
+     * @return new BatchingConsumer builder
+     */
+    public static <T, E extends Exception> Builder<T, E> builder(ThrowingConsumer<? super List<T>, ? extends E> sink) {
+        return new Builder<>(requireNonNull(sink));
+    }
+
+    /**
+     * Buffers the given item, waiting for space in a full buffer according to the configured mode
+     *
+     * @param item the item to buffer
+     * @throws E the exception thrown by an earlier flush, if no error handler is configured
+     * @throws CallNotPermittedException if the buffer stays full
+     * @throws IllegalStateException if this consumer is closed
+     */
+    @Override
+    public void accept(T item) throws E {
+        boolean start = false;
+        lock.lock();
+        try {
+            rethrowFailure();
+            awaitSpace();
+            if (closed) {
+                throw new IllegalStateException("consumer is closed");
+            }
+            if (buffer.isEmpty()) {
+                oldestArrival = System.nanoTime();
+            }
+            buffer.add(item);
+            if (!running) {
+                running = true;
+                start = true;
+            } else if (buffer.size() == maxBatchSize) {
+                flushable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (start) {
+            start();
+        }
+    }
+
+    /**
+     * Flushes all buffered items right away and waits until they are passed to the sink
+     *
+     * @throws E the exception thrown by this or an earlier flush, if no error handler is configured
+     * @throws IllegalStateException if called by the sink or by the error handler
+     */
+    public void flush() throws E {
+        boolean start = false;
+        lock.lock();
+        try {
+            checkNotFlushing();
+            if (!running && !buffer.isEmpty()) {
+                running = true;
+                flushRequested = true;
+                start = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (start) {
+            start();
+        }
+        lock.lock();
+        try {
+            if (running) {
+                flushRequested = true;
+                flushable.signal();
+                while (running) {
+                    drained.awaitUninterruptibly();
+                }
+            }
+            rethrowFailure();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes all buffered items and rejects new ones
+     *
+     * @throws E the exception thrown by this or an earlier flush, if no error handler is configured
+     * @throws IllegalStateException if called by the sink or by the error handler
+     */
+    @Override
+    public void close() throws E {
+        lock.lock();
+        try {
+            checkNotFlushing();
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        flush();
+    }
+
+    private void awaitSpace() {
+        if (buffer.size() < capacity) {
+            return;
+        }
+        // the sink would wait for space only the flushing task can free
+        if (maxWaitNanos == 0 || flushingThread == Thread.currentThread()) {
+            throw CallNotPermittedException.INSTANCE;
+        }
+        try {
+            if (maxWaitNanos < 0) {
+                while (buffer.size() >= capacity) {
+                    notFull.await();
+                }
+            } else {
+                long remaining = maxWaitNanos;
+                while (buffer.size() >= capacity) {
+                    if (remaining <= 0) {
+                        throw CallNotPermittedException.INSTANCE;
+                    }
+                    remaining = notFull.awaitNanos(remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw CallNotPermittedException.INSTANCE;
+        }
+    }
+
+    private void rethrowFailure() throws E {
+        Throwable current = failure;
+        if (current != null) {
+            failure = null;
+            throw SneakyThrowUtil.rethrow(current);
+        }
+    }
+
+    /**
+     * Waiting for the flushing task on its own thread would never return
+     */
+    private void checkNotFlushing() {
+        if (flushingThread == Thread.currentThread()) {
+            throw new IllegalStateException("cannot wait for a flush from within the sink or the error handler");
+        }
+    }
+
+    private void start() {
+        try {
+            executor.execute(flusher);
+        } catch (RejectedExecutionException e) {
+            lock.lock();
+            try {
+                running = false;
+                buffer.clear();
+                notFull.signalAll();
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+    }
+
+    private void flushWhileBuffered() {
+        lock.lock();
+        flushingThread = Thread.currentThread();
+        try {
+            while (!buffer.isEmpty()) {
+                // items left over from the previous batch keep its arrival time, so they never wait longer than it
+                awaitBatch();
+                for (int i = 0; i < maxBatchSize && !buffer.isEmpty(); i++) {
+                    batch.add(buffer.poll());
+                }
+                notFull.signalAll();
+                lock.unlock();
+                try {
+                    write();
+                } finally {
+                    batch.clear();
+                    lock.lock();
+                }
+            }
+            flushRequested = false;
+        } finally {
+            flushingThread = null;
+            running = false;
+            drained.signalAll();
+            lock.unlock();
+        }
+    }
+
+    private void awaitBatch() {
+        long remaining = maxLatencyNanos - (System.nanoTime() - oldestArrival);
+        while (buffer.size() < maxBatchSize && !flushRequested && !closed && remaining > 0) {
+            try {
+                remaining = flushable.awaitNanos(remaining);
+            } catch (InterruptedException e) {
+                // flush right away and restore the interrupt for the executor
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write() {
+        try {
+            sink.accept(batchView);
+        } catch (final Throwable e) {
+            if (errorHandler == null || !(e instanceof Exception)) {
+                fail(e);
+                return;
+            }
+            try {
+                errorHandler.accept((Exception) e);
+            } catch (final Throwable handlerFailure) {
+                fail(handlerFailure);
+            }
+        }
+    }
+
+    private void fail(Throwable e) {
+        lock.lock();
+        try {
+            if (failure == null) {
+                failure = e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Builder of a {@link BatchingConsumer}
+     *
+     * @param <T> the type of the items
+     * @param <E> the type of the thrown checked exception
+     */
+    public static final class Builder<T, E extends Exception> {
+
+        private final ThrowingConsumer<? super List<T>, ? extends E> sink;
+        private Consumer<? super Exception> errorHandler;
+        private int maxBatchSize = 100;
+        private int capacity = 1000;
+        private long maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(10);
+        private long maxWaitNanos = -1;
+        private Executor executor = BlockingExecutor.get();
+
+        private Builder(ThrowingConsumer<? super List<T>, ? extends E> sink) {
+            this.sink = sink;
+        }
+
+        /**
+         * Sets the maximum number of items passed to the sink at once. A full batch is flushed right away
+         *
+         * @param maxBatchSize the maximum number of items in a batch
+         * @return this builder
+         */
+        public Builder<T, E> maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = positive(maxBatchSize, "maxBatchSize");
+            return this;
+        }
+
+        /**
+         * Sets the maximum time between the arrival of an item and the start of the flush of its batch
+         *
+         * @param maxLatency the maximum time an item waits for its batch to fill up
+         * @return this builder
+         */
+        public Builder<T, E> maxLatency(Duration maxLatency) {
+            if (maxLatency.isNegative()) {
+                throw new IllegalArgumentException("maxLatency must not be negative, was: " + maxLatency);
+            }
+            this.maxLatencyNanos = maxLatency.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of buffered items, not counting the batch being flushed. It is raised to the maximum
+         * batch size if lower
+         *
+         * @param capacity the maximum number of buffered items
+         * @return this builder
+         */
+        public Builder<T, E> capacity(int capacity) {
+            this.capacity = positive(capacity, "capacity");
+            return this;
+        }
+
+        /**
+         * Makes producers wait for space in a full buffer for as long as it takes
+         *
+         * @return this builder
+         */
+        public Builder<T, E> blocking() {
+            this.maxWaitNanos = -1;
+            return this;
+        }
+
+        /**
+         * Makes producers wait for space in a full buffer at most the given time, and reject the item if none
+         * becomes available
+         *
+         * @param timeout the maximum time to wait for space
+         * @return this builder
+         */
+        public Builder<T, E> timeout(Duration timeout) {
+            if (timeout.isNegative()) {
+                throw new IllegalArgumentException("timeout must not be negative, was: " + timeout);
+            }
+            this.maxWaitNanos = timeout.toNanos();
+            return this;
+        }
+
+        /**
+         * Makes producers reject the item right away if the buffer is full
+         *
+         * @return this builder
+         */
+        public Builder<T, E> nonBlocking() {
+            this.maxWaitNanos = 0;
+            return this;
+        }
+
+        /**
+         * Passes exceptions thrown by the sink to the given handler, instead of rethrowing them to producers
+         *
+         * @param errorHandler the handler of exceptions thrown by the sink
+         * @return this builder
+         */
+        public Builder<T, E> onFailure(Consumer<? super Exception> errorHandler) {
+            this.errorHandler = requireNonNull(errorHandler);
+            return this;
+        }
+
+        /**
+         * Sets the executor running the flushes
+         *
+         * @param executor the Executor calling the sink
+         * @return this builder
+         */
+        public Builder<T, E> executor(Executor executor) {
+            this.executor = requireNonNull(executor);
+            return this;
+        }
+
+        /**
+         * Builds the BatchingConsumer
+         *
+         * @return new BatchingConsumer instance
+         */
+        public BatchingConsumer<T, E> build() {
+            return new BatchingConsumer<>(this);
+        }
+
+        private static int positive(int value, String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be positive, was: " + value);
+            }
+            return value;
+        }
+    }
+}
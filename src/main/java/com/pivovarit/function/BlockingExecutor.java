@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The executor running blocking calls when no executor is given: a lazily started pool of daemon threads.
+ * Threads are created on demand, as every blocking call needs one, and terminate after being idle for a minute.
+ * <p>
+ * On Java 21 and later, the multi-release layer of the jar replaces this class with one starting a virtual thread
+ * per call.
+ */
+final class BlockingExecutor {
+
+    private BlockingExecutor() {
+    }
+
+    static Executor get() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        static final Executor INSTANCE = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "throwing-function-" + SEQUENCE.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
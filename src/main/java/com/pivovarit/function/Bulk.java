@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Indexed loops behind the bulk operations of {@link ThrowingFunction} and {@link ThrowingPredicate}.
+ * <p>
+ * When {@code failures} is {@code null}, the first exception is thrown as the cause of a {@link FailedIndexException}
+ * holding its index, otherwise every exception is recorded and processing continues: a failed element maps to {@code null}
+ * and is left out by a filter.
+ */
+final class Bulk {
+
+    private Bulk() {
+    }
+
+    static <T, R> List<R> map(List<? extends T> source, ThrowingFunction<? super T, ? extends R, ?> function, IndexedFailures failures) {
+        requireNonNull(source);
+        requireNonNull(function);
+        int size = source.size();
+        List<R> result = new ArrayList<>(size);
+        if (source instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                result.add(apply(function, source.get(i), i, failures));
+            }
+        } else {
+            Iterator<? extends T> iterator = source.iterator();
+            for (int i = 0; iterator.hasNext(); i++) {
+                result.add(apply(function, iterator.next(), i, failures));
+            }
+        }
+        return result;
+    }
+
+    static <T, R> R[] map(T[] source, IntFunction<R[]> generator, ThrowingFunction<? super T, ? extends R, ?> function, IndexedFailures failures) {
+        requireNonNull(source);
+        requireNonNull(function);
+        R[] result = generator.apply(source.length);
+        for (int i = 0; i < source.length; i++) {
+            result[i] = apply(function, source[i], i, failures);
+        }
+        return result;
+    }
+
+    static <T> List<T> filter(List<T> source, ThrowingPredicate<? super T, ?> predicate, IndexedFailures failures) {
+        requireNonNull(source);
+        requireNonNull(predicate);
+        int size = source.size();
+        List<T> result = new ArrayList<>(size);
+        if (source instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                T element = source.get(i);
+                if (test(predicate, element, i, failures)) {
+                    result.add(element);
+                }
+            }
+        } else {
+            Iterator<T> iterator = source.iterator();
+            for (int i = 0; iterator.hasNext(); i++) {
+                T element = iterator.next();
+                if (test(predicate, element, i, failures)) {
+                    result.add(element);
+                }
+            }
+        }
+        return result;
+    }
+
+    static <T> T[] filter(T[] source, ThrowingPredicate<? super T, ?> predicate, IndexedFailures failures) {
+        requireNonNull(source);
+        requireNonNull(predicate);
+        T[] result = Arrays.copyOf(source, source.length);
+        int size = 0;
+        for (int i = 0; i < source.length; i++) {
+            if (test(predicate, source[i], i, failures)) {
+                result[size++] = source[i];
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private static <T, R> R apply(ThrowingFunction<? super T, ? extends R, ?> function, T element, int index, IndexedFailures failures) {
+        try {
+            return function.apply(element);
+        } catch (final Exception e) {
+            if (failures == null) {
+                throw new FailedIndexException(index, e);
+            }
+            failures.add(index, e);
+            return null;
+        }
+    }
+
+    private static <T> boolean test(ThrowingPredicate<? super T, ?> predicate, T element, int index, IndexedFailures failures) {
+        try {
+            return predicate.test(element);
+        } catch (final Exception e) {
+            if (failures == null) {
+                throw new FailedIndexException(index, e);
+            }
+            failures.add(index, e);
+            return false;
+        }
+    }
+}
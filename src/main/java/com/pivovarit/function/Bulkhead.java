@@ -0,0 +1,320 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Limits the number of concurrent calls, adapting the limit to the observed latency.
+ * <p>
+ * By default, the limit follows the gradient of latency: it grows while latency stays close to its long-term average,
+ * and shrinks when calls slow down because of queueing in the called dependency. Alternatively, the limit can follow
+ * additive increase, multiplicative decrease against a fixed latency threshold. Exceptions configured using
+ * {@link Builder#overloadedOn(Class[])} shrink the limit regardless of latency.
+ * <p>
+ * Acquiring a permit below the limit is a single compare-and-set. Calls over the limit throw a shared
+ * {@link CallNotPermittedException} right away, or after waiting for a permit at most the configured timeout.
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction#concurrencyLimited(ThrowingFunction, Bulkhead)
+ * @see ThrowingSupplier#concurrencyLimited(ThrowingSupplier, Bulkhead)
+ */
+public final class Bulkhead {
+
+    private final ConcurrencyLimit limit;
+    private final Class<? extends Exception>[] overloadedOn;
+    private final long maxWaitNanos;
+    private final LongSupplier clock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private volatile int waiting;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Bulkhead(Builder builder) {
+        this.limit = builder.limit();
+        this.overloadedOn = builder.overloadedOn.toArray(new Class[0]);
+        this.maxWaitNanos = builder.maxWaitNanos;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Returns a new builder of a Bulkhead. By default, the limit starts at 20, adapts to the gradient of latency
+     * between 1 and 200, and calls over the limit are rejected right away
+     *
+     * @return new Bulkhead builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the current concurrency limit
+     *
+     * @return the maximum number of concurrent calls
+     */
+    public int limit() {
+        return limit.get();
+    }
+
+    /**
+     * Returns the number of calls currently in flight
+     *
+     * @return the number of calls holding a permit
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Acquires a permit in the configured mode, or throws {@link CallNotPermittedException}, and returns the start time
+     * of the call, which is passed back to {@link #onSuccess(long)} or {@link #onFailure(long, Throwable)} once it completes.
+     * An interrupted wait restores the interrupt flag of the thread and rejects the call
+     */
+    long acquirePermit() {
+        if (!tryAcquirePermit() && !awaitPermit()) {
+            throw CallNotPermittedException.INSTANCE;
+        }
+        return clock.getAsLong();
+    }
+
+    void onSuccess(long start) {
+        release(start, false);
+    }
+
+    void onFailure(long start, Throwable exception) {
+        release(start, isOverload(exception));
+    }
+
+    private boolean tryAcquirePermit() {
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean awaitPermit() {
+        if (maxWaitNanos == 0) {
+            return false;
+        }
+        lock.lock();
+        try {
+            waiting++;
+            long remaining = maxWaitNanos;
+            while (!tryAcquirePermit()) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waiting--;
+            lock.unlock();
+        }
+    }
+
+    private void release(long start, boolean overloaded) {
+        long latency = clock.getAsLong() - start;
+        limit.onSample(latency, inFlight.getAndDecrement(), overloaded);
+        // waiters register before retrying to acquire, so either they see the released permit or we see them
+        if (waiting > 0) {
+            lock.lock();
+            try {
+                released.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean isOverload(Throwable exception) {
+        for (Class<? extends Exception> type : overloadedOn) {
+            if (type.isInstance(exception)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builder of {@link Bulkhead} instances.
+     */
+    public static final class Builder {
+
+        private final List<Class<? extends Exception>> overloadedOn = new ArrayList<>();
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private long latencyThresholdNanos;
+        private double backoffRatio;
+        private double tolerance = 1.5;
+        private long maxWaitNanos;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the limit before any call completes
+         *
+         * @param limit the initial number of concurrent calls
+         * @return this builder
+         */
+        public Builder initialLimit(int limit) {
+            this.initialLimit = positive(limit, "limit");
+            return this;
+        }
+
+        /**
+         * Sets the bounds of the limit
+         *
+         * @param min the lowest limit
+         * @param max the highest limit
+         * @return this builder
+         */
+        public Builder limitBounds(int min, int max) {
+            positive(min, "min");
+            if (max < min) {
+                throw new IllegalArgumentException("max must not be lower than min, was: " + max + " < " + min);
+            }
+            this.minLimit = min;
+            this.maxLimit = max;
+            return this;
+        }
+
+        /**
+         * Adapts the limit to the ratio of the long-term to the short-term average latency, tolerating the short-term
+         * average to exceed the long-term one by the given factor before shrinking the limit
+         *
+         * @param tolerance the tolerated latency increase, at least 1
+         * @return this builder
+         */
+        public Builder gradient(double tolerance) {
+            if (!(tolerance >= 1)) {
+                throw new IllegalArgumentException("tolerance must be at least 1, was: " + tolerance);
+            }
+            this.tolerance = tolerance;
+            this.latencyThresholdNanos = 0;
+            return this;
+        }
+
+        /**
+         * Adapts the limit using additive increase, multiplicative decrease: the limit grows by one after every call
+         * completed within the latency threshold, and is multiplied by the backoff ratio after every slower one
+         *
+         * @param latencyThreshold the latency above which the limit shrinks
+         * @param backoffRatio     the factor applied to the limit when shrinking, in (0, 1)
+         * @return this builder
+         */
+        public Builder aimd(Duration latencyThreshold, double backoffRatio) {
+            long nanos = latencyThreshold.toNanos();
+            if (nanos < 1) {
+                throw new IllegalArgumentException("latencyThreshold must be positive, was: " + latencyThreshold);
+            }
+            if (!(backoffRatio > 0 && backoffRatio < 1)) {
+                throw new IllegalArgumentException("backoffRatio must be in (0, 1), was: " + backoffRatio);
+            }
+            this.latencyThresholdNanos = nanos;
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Treats failures with instances of the given exception types, e.g. timeouts, as a sign of overload,
+         * which shrinks the limit. Other exceptions only contribute their latency
+         *
+         * @param types exception types signalling overload
+         * @return this builder
+         */
+        @SafeVarargs
+        public final Builder overloadedOn(Class<? extends Exception>... types) {
+            for (Class<? extends Exception> type : types) {
+                overloadedOn.add(requireNonNull(type));
+            }
+            return this;
+        }
+
+        /**
+         * Makes decorated instances wait for a permit at most the given time, and reject the call if none becomes available
+         *
+         * @param timeout the maximum time to wait for a permit
+         * @return this builder
+         */
+        public Builder timeout(Duration timeout) {
+            if (timeout.isNegative()) {
+                throw new IllegalArgumentException("timeout must not be negative, was: " + timeout);
+            }
+            this.maxWaitNanos = timeout.toNanos();
+            return this;
+        }
+
+        /**
+         * Makes decorated instances reject the call right away if the limit is reached
+         *
+         * @return this builder
+         */
+        public Builder nonBlocking() {
+            this.maxWaitNanos = 0;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = requireNonNull(clock);
+            return this;
+        }
+
+        ConcurrencyLimit limit() {
+            int initial = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+            return latencyThresholdNanos == 0
+              ? new ConcurrencyLimit.Gradient(initial, minLimit, maxLimit, tolerance)
+              : new ConcurrencyLimit.Aimd(initial, minLimit, maxLimit, latencyThresholdNanos, backoffRatio);
+        }
+
+        /**
+         * Builds the Bulkhead
+         *
+         * @return new Bulkhead instance
+         */
+        public Bulkhead build() {
+            return new Bulkhead(this);
+        }
+
+        private static int positive(int value, String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be positive, was: " + value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+/**
+ * An immutable snapshot of the statistics of a {@link MemoizedFunction}.
+ *
+ * @author Grzegorz Piwowarek
+ */
+public final class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long size;
+
+    CacheStats(long hits, long misses, long evictions, long size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache
+     *
+     * @return the number of cache hits
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups which invoked the wrapped function
+     *
+     * @return the number of cache misses
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries removed to keep the cache within its maximum size
+     *
+     * @return the number of evictions
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of entries in the cache at the time of the snapshot
+     *
+     * @return the number of cached entries
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the ratio of hits to all lookups, or {@code 0} if there were no lookups
+     *
+     * @return the cache hit rate
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size + '}';
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+/**
+ * Thrown by instances decorated with a {@link CircuitBreaker}, a {@link RateLimiter} or a {@link Bulkhead} when a call
+ * is rejected without being attempted.
+ * <p>
+ * A single instance without a stack trace is shared, so rejecting a call does not allocate.
+ *
+ * @author Grzegorz Piwowarek
+ */
+public final class CallNotPermittedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    static final CallNotPermittedException INSTANCE = new CallNotPermittedException();
+
+    private CallNotPermittedException() {
+        super("call not permitted", null, false, false);
+    }
+}
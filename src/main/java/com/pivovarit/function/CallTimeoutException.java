@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.time.Duration;
+
+/**
+ * Thrown by instances decorated with a time limit when the call did not complete in time. The call is interrupted
+ * and its eventual outcome is discarded.
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingSupplier#timeLimited(ThrowingSupplier, Duration)
+ * @see ThrowingRunnable#timeLimited(ThrowingRunnable, Duration)
+ */
+public final class CallTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The exceeded time limit
+     */
+    private final Duration timeout;
+
+    CallTimeoutException(Duration timeout) {
+        super("call did not complete within " + timeout);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the time limit which was exceeded
+     *
+     * @return the time limit of the call
+     */
+    public Duration timeout() {
+        return timeout;
+    }
+}
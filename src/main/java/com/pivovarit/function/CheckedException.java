@@ -15,17 +15,51 @@
  */
 package com.pivovarit.function;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * A runtime exception wrapper for checked exceptions.
  * Used to rethrow checked exceptions as unchecked exceptions.
+ * <p>
+ * Setting the {@code com.pivovarit.function.lightweightCheckedException} system property to {@code true}
+ * makes all wrappers created by the {@code unchecked} adapters lightweight, see {@link #lightweight(Throwable)}.
  */
 public class CheckedException extends RuntimeException {
+
+    private static final boolean LIGHTWEIGHT = Boolean.getBoolean("com.pivovarit.function.lightweightCheckedException");
+
+    /**
+     * Whether the message is derived from the cause on demand
+     */
+    private final boolean lightweight;
+
     /**
      * Constructs a new CheckedException wrapping the given cause.
      *
      * @param cause the checked exception to wrap
      */
     public CheckedException(Throwable cause) {
-        super(cause.getMessage(), cause);
+        this(cause, LIGHTWEIGHT);
+    }
+
+    private CheckedException(Throwable cause, boolean lightweight) {
+        super(lightweight ? null : cause.getMessage(), requireNonNull(cause), true, !lightweight);
+        this.lightweight = lightweight;
+    }
+
+    /**
+     * Returns a new CheckedException wrapping the given cause which does not capture its own stack trace
+     * and computes its message from the cause only when requested
+     *
+     * @param cause the checked exception to wrap
+     * @return CheckedException instance without a stack trace of its own
+     */
+    public static CheckedException lightweight(Throwable cause) {
+        return new CheckedException(cause, true);
+    }
+
+    @Override
+    public String getMessage() {
+        return lightweight ? getCause().getMessage() : super.getMessage();
     }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Static helpers for CompletableFuture instances completed by the {@code async} adapters, which complete
+ * exceptionally with the original exception instead of a {@link CompletionException} or a {@link CheckedException}.
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingSupplier#async(ThrowingSupplier, Executor)
+ * @see ThrowingFunction#async(ThrowingFunction, Executor)
+ * @see ThrowingRunnable#async(ThrowingRunnable, Executor)
+ */
+public final class CheckedFutures {
+
+    private CheckedFutures() {
+    }
+
+    /**
+     * Waits for the given future to complete and returns its result. If the future completed exceptionally,
+     * rethrows the original exception as-is: an instance of {@code type}, an unchecked exception or an Error.
+     * Any other checked exception is wrapped into a {@link CheckedException}.
+     * <p>
+     * Unlike {@link CompletableFuture#join()}, never throws a {@link CompletionException}; {@link CompletionException}
+     * layers are unwrapped. A future which is already complete is inspected without creating one, and a pending one
+     * is waited for with {@link CompletableFuture#join()}, so that a successful wait allocates nothing. A cancelled
+     * future results in a {@link java.util.concurrent.CancellationException}
+     *
+     * @param <T>    the type of the result of the future
+     * @param <E>    the type of the checked exception
+     * @param future the future to wait for
+     * @param type   the class of the checked exception rethrown as-is
+     * @return the result of the future
+     * @throws E the checked exception the future completed with
+     */
+    public static <T, E extends Exception> T join(CompletableFuture<? extends T> future, Class<E> type) throws E {
+        requireNonNull(type);
+        Throwable failure;
+        if (future.isDone()) {
+            if (!future.isCompletedExceptionally()) {
+                return future.getNow(null);
+            }
+            failure = future.handle((value, exception) -> exception).join();
+        } else {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                failure = e;
+            }
+        }
+        while (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        if (type.isInstance(failure)) {
+            throw type.cast(failure);
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new CheckedException(failure);
+    }
+
+    static <T> CompletableFuture<T> supply(ThrowingSupplier<? extends T, ?> supplier, Executor executor) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(supplier.get());
+            } catch (final Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Stops calling a failing dependency once the failure rate over a sliding window of recent calls reaches a threshold.
+ * <p>
+ * While {@link State#CLOSED}, calls are permitted and their outcomes are recorded. Once the failure rate
+ * reaches the threshold, the breaker becomes {@link State#OPEN} and rejects calls without attempting them.
+ * After the open duration, a limited number of trial calls are permitted in {@link State#HALF_OPEN}:
+ * the breaker closes once all of them succeed, and opens again on the first failure.
+ * <p>
+ * Permitting a call in the closed state is a single volatile read. Instances are thread-safe and can be shared
+ * between decorators, which then share their state.
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction#circuitBreaking(ThrowingFunction, CircuitBreaker)
+ * @see ThrowingSupplier#circuitBreaking(ThrowingSupplier, CircuitBreaker)
+ */
+public final class CircuitBreaker {
+
+    /**
+     * The state of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        /**
+         * Calls are permitted and their outcomes are recorded
+         */
+        CLOSED,
+        /**
+         * Calls are rejected without being attempted
+         */
+        OPEN,
+        /**
+         * A limited number of trial calls are permitted
+         */
+        HALF_OPEN
+    }
+
+    static final int DENIED = -1;
+
+    private static final State[] STATES = State.values();
+    private static final int CLOSED = State.CLOSED.ordinal();
+    private static final int OPEN = State.OPEN.ordinal();
+    private static final int HALF_OPEN = State.HALF_OPEN.ordinal();
+
+    private final Class<? extends Throwable>[] recordOn;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final OutcomeWindow window;
+    private final LongSupplier clock;
+
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+    private final Object transition = new Object();
+    private volatile long openedAt;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private CircuitBreaker(Builder builder) {
+        this.recordOn = builder.recordOn.isEmpty()
+          ? new Class[]{Throwable.class}
+          : builder.recordOn.toArray(new Class[0]);
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.minimumCalls = builder.minimumCalls;
+        this.openNanos = builder.openNanos;
+        this.halfOpenCalls = builder.halfOpenCalls;
+        this.window = builder.windowBuckets == 0
+          ? new OutcomeWindow.CountBased(builder.windowSize)
+          : new OutcomeWindow.TimeBased(builder.windowBuckets, builder.windowNanos / builder.windowBuckets);
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Returns a new builder of a CircuitBreaker. By default, the breaker opens when at least half of the last 100 calls
+     * failed, provided that at least 10 calls were recorded, stays open for 60 seconds and then permits 3 trial calls
+     *
+     * @return new CircuitBreaker builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the current state
+     *
+     * @return the current state
+     */
+    public State state() {
+        return STATES[state.get()];
+    }
+
+    /**
+     * Returns the state in which a call is permitted, or {@link #DENIED}. The returned value is passed back
+     * to {@link #onSuccess(int)} or {@link #onFailure(int, Throwable)} once the call completes
+     */
+    int acquire() {
+        int current = state.get();
+        if (current == CLOSED) {
+            return CLOSED;
+        }
+        if (current == OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos || !halfOpen()) {
+                return DENIED;
+            }
+        }
+        for (;;) {
+            int permits = halfOpenPermits.get();
+            if (permits <= 0) {
+                return DENIED;
+            }
+            if (halfOpenPermits.compareAndSet(permits, permits - 1)) {
+                return HALF_OPEN;
+            }
+        }
+    }
+
+    void onSuccess(int permit) {
+        if (permit == CLOSED) {
+            if (state.get() == CLOSED) {
+                record(false);
+            }
+        } else if (permit == HALF_OPEN && state.get() == HALF_OPEN
+          && halfOpenSuccesses.incrementAndGet() >= halfOpenCalls
+          && state.compareAndSet(HALF_OPEN, CLOSED)) {
+            window.reset();
+        }
+    }
+
+    void onFailure(int permit, Throwable exception) {
+        if (!isRecorded(exception)) {
+            if (permit == HALF_OPEN) {
+                halfOpenPermits.incrementAndGet();
+            }
+            return;
+        }
+        if (permit == CLOSED) {
+            if (state.get() == CLOSED) {
+                record(true);
+            }
+        } else if (permit == HALF_OPEN) {
+            open(HALF_OPEN);
+        }
+    }
+
+    private void record(boolean failure) {
+        long totals = window.record(failure, window.needsClock() ? clock.getAsLong() : 0);
+        int calls = OutcomeWindow.calls(totals);
+        if (failure && calls >= minimumCalls && OutcomeWindow.failures(totals) >= failureRateThreshold * calls) {
+            open(CLOSED);
+        }
+    }
+
+    /**
+     * Resets the trial permits before publishing the half-open state, so that no caller can observe the state
+     * together with the permits left over from the previous trial. The open duration is checked again under the
+     * lock, since the breaker may have been reopened after the caller read {@link #openedAt}
+     *
+     * @return whether the breaker is half-open afterwards
+     */
+    private boolean halfOpen() {
+        synchronized (transition) {
+            int current = state.get();
+            if (current == OPEN && clock.getAsLong() - openedAt >= openNanos) {
+                halfOpenSuccesses.set(0);
+                halfOpenPermits.set(halfOpenCalls);
+                state.set(HALF_OPEN);
+                return true;
+            }
+            return current == HALF_OPEN;
+        }
+    }
+
+    private void open(int from) {
+        long now = clock.getAsLong();
+        synchronized (transition) {
+            if (state.compareAndSet(from, OPEN)) {
+                openedAt = now;
+            }
+        }
+    }
+
+    private boolean isRecorded(Throwable exception) {
+        for (Class<? extends Throwable> type : recordOn) {
+            if (type.isInstance(exception)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static CallNotPermittedException rejected() {
+        return CallNotPermittedException.INSTANCE;
+    }
+
+    /**
+     * Builder of {@link CircuitBreaker} instances.
+     */
+    public static final class Builder {
+
+        private final List<Class<? extends Exception>> recordOn = new ArrayList<>();
+        private double failureRateThreshold = 0.5;
+        private int minimumCalls = 10;
+        private int windowSize = 100;
+        private int windowBuckets;
+        private long windowNanos;
+        private long openNanos = Duration.ofSeconds(60).toNanos();
+        private int halfOpenCalls = 3;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Restricts the recorded failures to instances of the given exception types. Other exceptions and errors are
+         * propagated without affecting the state of the breaker. By default, every exception and error is recorded
+         *
+         * @param types exception types which count as failures
+         * @return this builder
+         */
+        @SafeVarargs
+        public final Builder recordOn(Class<? extends Exception>... types) {
+            for (Class<? extends Exception> type : types) {
+                recordOn.add(requireNonNull(type));
+            }
+            return this;
+        }
+
+        /**
+         * Sets the ratio of failed calls in the window at which the breaker opens
+         *
+         * @param threshold the failure rate, greater than 0 and at most 1
+         * @return this builder
+         */
+        public Builder failureRateThreshold(double threshold) {
+            if (!(threshold > 0 && threshold <= 1)) {
+                throw new IllegalArgumentException("failureRateThreshold must be in (0, 1], was: " + threshold);
+            }
+            this.failureRateThreshold = threshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of calls which have to be recorded in the window before the failure rate is evaluated
+         *
+         * @param minimumCalls the minimum number of calls
+         * @return this builder
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            this.minimumCalls = positive(minimumCalls, "minimumCalls");
+            return this;
+        }
+
+        /**
+         * Evaluates the failure rate over the outcomes of the last {@code size} calls
+         *
+         * @param size the number of calls in the window
+         * @return this builder
+         */
+        public Builder countWindow(int size) {
+            this.windowSize = positive(size, "size");
+            this.windowBuckets = 0;
+            return this;
+        }
+
+        /**
+         * Evaluates the failure rate over the outcomes of calls completed during the last {@code duration},
+         * aggregated into {@code buckets} slices, each expiring as a whole
+         *
+         * @param duration the length of the window
+         * @param buckets  the number of slices of the window
+         * @return this builder
+         */
+        public Builder timeWindow(Duration duration, int buckets) {
+            long nanos = duration.toNanos();
+            positive(buckets, "buckets");
+            if (nanos < buckets) {
+                throw new IllegalArgumentException("duration must be at least one nanosecond per bucket, was: " + duration);
+            }
+            this.windowNanos = nanos;
+            this.windowBuckets = buckets;
+            return this;
+        }
+
+        /**
+         * Sets how long the breaker rejects calls after opening, before permitting trial calls
+         *
+         * @param duration the time spent in the open state
+         * @return this builder
+         */
+        public Builder openDuration(Duration duration) {
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException("duration must not be negative, was: " + duration);
+            }
+            this.openNanos = duration.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets the number of trial calls permitted in the half-open state, all of which have to succeed to close the breaker
+         *
+         * @param calls the number of trial calls
+         * @return this builder
+         */
+        public Builder halfOpenCalls(int calls) {
+            this.halfOpenCalls = positive(calls, "calls");
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = requireNonNull(clock);
+            return this;
+        }
+
+        /**
+         * Builds the CircuitBreaker
+         *
+         * @return new CircuitBreaker instance
+         */
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+
+        private static int positive(int value, String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be positive, was: " + value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A function which shares a single in-flight invocation between concurrent calls with an equal argument.
+ * <p>
+ * The first caller invokes the wrapped function, while callers arriving before it completes park until its result
+ * or exception is available, and then return the same result or rethrow the same exception instance. The in-flight
+ * call is removed as soon as it completes, either way, so nothing is remembered between calls.
+ */
+final class CoalescingFunction<T, R, E extends Exception> implements ThrowingFunction<T, R, E> {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final ThrowingFunction<? super T, ? extends R, ? extends E> function;
+
+    private final ConcurrentHashMap<Object, Call> inFlight = new ConcurrentHashMap<>();
+
+    CoalescingFunction(ThrowingFunction<? super T, ? extends R, ? extends E> function) {
+        this.function = function;
+    }
+
+    @Override
+    public R apply(T arg) throws E {
+        Object key = arg == null ? NULL_KEY : arg;
+        Call call = inFlight.get(key);
+        if (call == null) {
+            Call created = new Call(Thread.currentThread());
+            call = inFlight.putIfAbsent(key, created);
+            if (call == null) {
+                return lead(key, arg, created);
+            }
+        }
+        if (call.leader == Thread.currentThread()) {
+            // a recursive call for the same argument would wait for itself
+            return function.apply(arg);
+        }
+        return call.await();
+    }
+
+    private R lead(Object key, T arg, Call call) throws E {
+        R result;
+        try {
+            result = function.apply(arg);
+        } catch (final Throwable e) {
+            inFlight.remove(key, call);
+            call.fail(e);
+            throw e;
+        }
+        inFlight.remove(key, call);
+        call.succeed(result);
+        return result;
+    }
+
+    private final class Call {
+
+        private final Thread leader;
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private R result;
+        private Throwable failure;
+
+        Call(Thread leader) {
+            this.leader = leader;
+        }
+
+        void succeed(R result) {
+            this.result = result;
+            completed.countDown();
+        }
+
+        void fail(Throwable failure) {
+            this.failure = failure;
+            completed.countDown();
+        }
+
+        R await() {
+            try {
+                completed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CheckedException(e);
+            }
+            if (failure == null) {
+                return result;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            return SneakyThrowUtil.sneakyThrow((Exception) failure);
+        }
+    }
+}
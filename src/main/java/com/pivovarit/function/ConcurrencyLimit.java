@@ -0,0 +1,153 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrency limit of a {@link Bulkhead}, adjusted after every completed call.
+ * <p>
+ * A sample consists of the latency of the call, the number of calls in flight when it completed, including itself,
+ * and whether it failed with an exception signalling overload.
+ */
+abstract class ConcurrencyLimit {
+
+    final int min;
+    final int max;
+
+    ConcurrencyLimit(int min, int max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    abstract int get();
+
+    abstract void onSample(long latencyNanos, int inFlight, boolean overloaded);
+
+    final int clamp(double limit) {
+        return (int) Math.max(min, Math.min(max, limit));
+    }
+
+    /**
+     * Additive increase, multiplicative decrease: grows by one after every call completed within the latency threshold
+     * while at least half of the limit is in use, and shrinks by the backoff ratio after every slower or overloaded call.
+     */
+    static final class Aimd extends ConcurrencyLimit {
+
+        private final long latencyThresholdNanos;
+        private final double backoffRatio;
+        private final AtomicInteger limit;
+
+        Aimd(int initial, int min, int max, long latencyThresholdNanos, double backoffRatio) {
+            super(min, max);
+            this.latencyThresholdNanos = latencyThresholdNanos;
+            this.backoffRatio = backoffRatio;
+            this.limit = new AtomicInteger(initial);
+        }
+
+        @Override
+        int get() {
+            return limit.get();
+        }
+
+        @Override
+        void onSample(long latencyNanos, int inFlight, boolean overloaded) {
+            boolean decrease = overloaded || latencyNanos > latencyThresholdNanos;
+            for (;;) {
+                int current = limit.get();
+                int next;
+                if (decrease) {
+                    next = clamp(Math.floor(current * backoffRatio));
+                } else if (inFlight * 2 >= current) {
+                    next = clamp(current + 1.0);
+                } else {
+                    return;
+                }
+                if (next == current || limit.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Follows the ratio of the long-term to the short-term average latency: the limit stays put or grows by its
+     * square root while latency is within the tolerance of its long-term average, and shrinks, at most by half,
+     * in proportion to the increase of latency above it, or by half after an overloaded call.
+     * <p>
+     * Changes are smoothed, and samples completed while another thread is updating the limit are skipped,
+     * so updating never blocks.
+     */
+    static final class Gradient extends ConcurrencyLimit {
+
+        private static final double LONG_SMOOTHING = 2.0 / 601;
+        private static final double SHORT_SMOOTHING = 2.0 / 11;
+        private static final double LIMIT_SMOOTHING = 0.2;
+
+        private final double tolerance;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private double estimate;
+        private double longLatency;
+        private double shortLatency;
+        private volatile int limit;
+
+        Gradient(int initial, int min, int max, double tolerance) {
+            super(min, max);
+            this.tolerance = tolerance;
+            this.estimate = initial;
+            this.limit = initial;
+        }
+
+        @Override
+        int get() {
+            return limit;
+        }
+
+        @Override
+        void onSample(long latencyNanos, int inFlight, boolean overloaded) {
+            if (!lock.tryLock()) {
+                return;
+            }
+            try {
+                double latency = Math.max(1, latencyNanos);
+                if (longLatency == 0) {
+                    longLatency = latency;
+                    shortLatency = latency;
+                } else {
+                    longLatency += (latency - longLatency) * LONG_SMOOTHING;
+                    shortLatency += (latency - shortLatency) * SHORT_SMOOTHING;
+                }
+                if (longLatency > 2 * shortLatency) {
+                    // latency went back to normal after a spike, let the long-term average catch up faster
+                    longLatency *= 0.95;
+                }
+                if (!overloaded && inFlight * 2 < estimate) {
+                    // too few calls in flight to tell anything about the limit
+                    return;
+                }
+                double next = overloaded
+                  ? estimate * 0.5
+                  : estimate * Math.max(0.5, Math.min(1.0, tolerance * longLatency / shortLatency)) + Math.sqrt(estimate);
+                estimate = Math.max(min, Math.min(max, estimate * (1 - LIMIT_SMOOTHING) + next * LIMIT_SMOOTHING));
+                limit = clamp(estimate);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+/**
+ * Thrown by a fail-fast bulk operation when the function or predicate fails for one of the elements. Carries
+ * the exception thrown for that element as its cause, unmodified, together with the element's index.
+ * Does not capture a stack trace of its own, since the cause already holds the relevant one.
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction#mapAll(java.util.List, ThrowingFunction)
+ * @see ThrowingPredicate#filterAll(java.util.List, ThrowingPredicate)
+ */
+public final class FailedIndexException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The index of the element which caused the failure
+     */
+    private final int index;
+
+    FailedIndexException(int index, Throwable cause) {
+        super("failed at index " + index, cause, true, false);
+        this.index = index;
+    }
+
+    /**
+     * Returns the index of the element which caused the failure
+     *
+     * @return the index of the failed element
+     */
+    public int index() {
+        return index;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+/**
+ * Holder of an exception remembered in place of a computed value.
+ */
+final class Failure {
+
+    final Throwable exception;
+
+    Failure(Throwable exception) {
+        this.exception = exception;
+    }
+
+    /**
+     * Attaches {@code sibling} to {@code first} as a suppressed exception, unless it is the same instance or is
+     * attached already, so that an exception instance shared between calls doesn't collect the same sibling twice
+     */
+    static void suppress(Throwable first, Throwable sibling) {
+        if (sibling == first) {
+            return;
+        }
+        for (Throwable suppressed : first.getSuppressed()) {
+            if (suppressed == sibling) {
+                return;
+            }
+        }
+        first.addSuppressed(sibling);
+    }
+}
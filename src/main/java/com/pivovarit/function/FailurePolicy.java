@@ -0,0 +1,32 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+/**
+ * Determines how a memoizing decorator treats a failed computation.
+ *
+ * @author Grzegorz Piwowarek
+ */
+public enum FailurePolicy {
+    /**
+     * The exception is propagated and the computation is attempted again on the next call
+     */
+    RETRY,
+    /**
+     * The exception is remembered and rethrown on every subsequent call without repeating the computation
+     */
+    CACHE
+}
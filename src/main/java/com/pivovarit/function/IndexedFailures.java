@@ -0,0 +1,132 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.Arrays;
+
+/**
+ * A compact, append-only list of exceptions collected by a bulk operation, together with the indices of the elements
+ * which caused them. Backed by a pair of arrays, so recording a failure allocates only when the capacity is exceeded.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction#mapAll(java.util.List, ThrowingFunction, IndexedFailures)
+ * @see ThrowingPredicate#filterAll(java.util.List, ThrowingPredicate, IndexedFailures)
+ */
+public final class IndexedFailures {
+
+    private int[] indices;
+    private Exception[] exceptions;
+    private int size;
+
+    /**
+     * Creates an empty instance
+     */
+    public IndexedFailures() {
+        this(4);
+    }
+
+    /**
+     * Creates an empty instance with room for {@code initialCapacity} failures
+     *
+     * @param initialCapacity the number of failures which can be recorded without growing
+     */
+    public IndexedFailures(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative");
+        }
+        this.indices = new int[initialCapacity];
+        this.exceptions = new Exception[initialCapacity];
+    }
+
+    void add(int index, Exception exception) {
+        if (size == indices.length) {
+            int capacity = Math.max(4, size << 1);
+            indices = Arrays.copyOf(indices, capacity);
+            exceptions = Arrays.copyOf(exceptions, capacity);
+        }
+        indices[size] = index;
+        exceptions[size] = exception;
+        size++;
+    }
+
+    /**
+     * Returns the number of recorded failures
+     *
+     * @return the number of recorded failures
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if no failure was recorded
+     *
+     * @return {@code true} if no failure was recorded, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the index of the element which caused the {@code n}-th recorded failure
+     *
+     * @param n the position of the failure, in the order of recording
+     * @return the index of the failed element
+     */
+    public int index(int n) {
+        checkPosition(n);
+        return indices[n];
+    }
+
+    /**
+     * Returns the {@code n}-th recorded exception
+     *
+     * @param n the position of the failure, in the order of recording
+     * @return the exception thrown for the failed element
+     */
+    public Exception exception(int n) {
+        checkPosition(n);
+        return exceptions[n];
+    }
+
+    /**
+     * Removes all recorded failures, keeping the allocated capacity
+     */
+    public void clear() {
+        Arrays.fill(exceptions, 0, size, null);
+        size = 0;
+    }
+
+    private void checkPosition(int n) {
+        if (n < 0 || n >= size) {
+            throw new IndexOutOfBoundsException("position: " + n + ", size: " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("IndexedFailures[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(indices[i]).append('=').append(exceptions[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
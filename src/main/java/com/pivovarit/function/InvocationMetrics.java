@@ -0,0 +1,101 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects invocation counts, failure counts per exception class and a latency histogram of the instances
+ * decorated using {@code instrumented}, e.g. {@link ThrowingFunction#instrumented(ThrowingFunction, InvocationMetrics)}.
+ * A single instance can be shared by multiple decorated instances.
+ * <p>
+ * Counters are striped and the latency histogram has a fixed size, so recording an invocation does not contend
+ * between threads and does not allocate, except for the first failure of every exception class.
+ * While disabled, decorated instances skip all recording and timing.
+ *
+ * @author Grzegorz Piwowarek
+ * @see MetricsSnapshot
+ */
+public final class InvocationMetrics {
+
+    private volatile boolean enabled = true;
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final ConcurrentHashMap<Class<? extends Exception>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Creates an enabled instance with nothing recorded yet
+     */
+    public InvocationMetrics() {
+    }
+
+    /**
+     * Returns {@code true} if invocations are being recorded
+     *
+     * @return {@code true} if enabled, otherwise {@code false}
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables recording of invocations. Already recorded values are kept
+     *
+     * @param enabled {@code true} to record invocations, {@code false} to skip recording
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns a snapshot of the values recorded so far. Counters are read one by one,
+     * so a snapshot taken during concurrent invocations is not guaranteed to be consistent across counters
+     *
+     * @return MetricsSnapshot instance
+     */
+    public MetricsSnapshot snapshot() {
+        Map<Class<? extends Exception>, Long> byType = new HashMap<>();
+        failuresByType.forEach((type, count) -> byType.put(type, count.sum()));
+        return new MetricsSnapshot(invocations.sum(), failures.sum(), totalNanos.sum(), byType, latency.counts());
+    }
+
+    void recordSuccess(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        invocations.increment();
+        totalNanos.add(elapsed);
+        latency.record(elapsed);
+    }
+
+    void recordFailure(long startNanos, Exception exception) {
+        long elapsed = System.nanoTime() - startNanos;
+        invocations.increment();
+        failures.increment();
+        totalNanos.add(elapsed);
+        latency.record(elapsed);
+        Class<? extends Exception> type = exception.getClass();
+        LongAdder counter = failuresByType.get(type);
+        if (counter == null) {
+            counter = failuresByType.computeIfAbsent(type, t -> new LongAdder());
+        }
+        counter.increment();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the rate of calls separately for every key, e.g. per tenant, with the same configuration for all keys.
+ * <p>
+ * Every key is backed by a single {@link AtomicLong}, created on its first call. Keys whose permits have all been
+ * replenished behave exactly like absent ones, and can be dropped using {@link #removeIdle()}. A permit acquired
+ * concurrently with the removal of its key might not be accounted for.
+ *
+ * @param <K> the type of the keys
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction#rateLimited(ThrowingFunction, KeyedRateLimiter, java.util.function.Function)
+ * @see ThrowingConsumer#rateLimited(ThrowingConsumer, KeyedRateLimiter, java.util.function.Function)
+ */
+public final class KeyedRateLimiter<K> {
+
+    private final RateLimiter limiter;
+    private final ConcurrentHashMap<K, AtomicLong> arrivals = new ConcurrentHashMap<>();
+
+    KeyedRateLimiter(RateLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    /**
+     * Acquires a permit for the given key if one is available right away
+     *
+     * @param key the key
+     * @return {@code true} if a permit was acquired, otherwise {@code false}
+     */
+    public boolean tryAcquire(K key) {
+        return limiter.reserve(arrival(key), 0) == 0;
+    }
+
+    /**
+     * Removes the keys whose permits have all been replenished
+     *
+     * @return the number of keys still tracked
+     */
+    public int removeIdle() {
+        arrivals.values().removeIf(limiter::isIdle);
+        return arrivals.size();
+    }
+
+    void acquirePermit(K key) {
+        limiter.acquirePermit(arrival(key));
+    }
+
+    private AtomicLong arrival(K key) {
+        AtomicLong arrival = arrivals.get(key);
+        return arrival != null ? arrival : arrivals.computeIfAbsent(key, k -> limiter.newArrival());
+    }
+}
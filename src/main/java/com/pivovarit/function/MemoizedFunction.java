@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link ThrowingFunction} which remembers results of the wrapped function in a concurrent, size-bounded cache.
+ * <p>
+ * Once the cache exceeds its maximum size, entries are evicted using the CLOCK policy: entries are visited in insertion order,
+ * and every entry read since the previous visit gets a second chance. Lookups never block, and concurrent misses on the same key
+ * may invoke the wrapped function more than once.
+ *
+ * @param <T> the type of the input to the function
+ * @param <R> the type of the result of the function
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction#memoized(ThrowingFunction, int, FailurePolicy)
+ */
+public final class MemoizedFunction<T, R, E extends Exception> implements ThrowingFunction<T, R, E> {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final ThrowingFunction<? super T, ? extends R, ? extends E> function;
+    private final int maxSize;
+    private final FailurePolicy failurePolicy;
+
+    private final ConcurrentHashMap<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    MemoizedFunction(ThrowingFunction<? super T, ? extends R, ? extends E> function, int maxSize, FailurePolicy failurePolicy) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive, was: " + maxSize);
+        }
+        this.function = function;
+        this.maxSize = maxSize;
+        this.failurePolicy = failurePolicy;
+    }
+
+    @Override
+    public R apply(T arg) throws E {
+        Object key = arg == null ? NULL_KEY : arg;
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.value();
+        }
+
+        misses.increment();
+        Object value;
+        try {
+            value = function.apply(arg);
+        } catch (Exception e) {
+            if (failurePolicy == FailurePolicy.RETRY) {
+                throw e;
+            }
+            value = new Failure(e);
+        }
+
+        Entry created = new Entry(key, value);
+        Entry existing = entries.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing.value();
+        }
+        clock.offer(created);
+        if (size.incrementAndGet() > maxSize) {
+            evict();
+        }
+        return created.value();
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics
+     *
+     * @return current cache statistics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size.get());
+    }
+
+    private void evict() {
+        while (size.get() > maxSize && evictionLock.tryLock()) {
+            try {
+                while (size.get() > maxSize) {
+                    Entry candidate = clock.poll();
+                    if (candidate == null) {
+                        break;
+                    }
+                    if (candidate.referenced) {
+                        candidate.referenced = false;
+                        clock.offer(candidate);
+                    } else if (entries.remove(candidate.key, candidate)) {
+                        size.decrementAndGet();
+                        evictions.increment();
+                    }
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private final class Entry {
+        private final Object key;
+        private final Object value;
+        private volatile boolean referenced;
+
+        Entry(Object key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        R value() throws E {
+            if (value instanceof Failure) {
+                throw SneakyThrowUtil.rethrow(((Failure) value).exception);
+            }
+            return (R) value;
+        }
+    }
+}
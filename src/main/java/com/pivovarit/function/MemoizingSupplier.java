@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+final class MemoizingSupplier<T, E extends Exception> implements ThrowingSupplier<T, E> {
+
+    private static final Object UNSET = new Object();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FailurePolicy failurePolicy;
+
+    private ThrowingSupplier<? extends T, ? extends E> delegate;
+    private volatile Object result = UNSET;
+
+    MemoizingSupplier(ThrowingSupplier<? extends T, ? extends E> delegate, FailurePolicy failurePolicy) {
+        this.delegate = delegate;
+        this.failurePolicy = failurePolicy;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() throws E {
+        Object current = result;
+        if (current == UNSET) {
+            current = compute();
+        }
+        if (current instanceof Failure) {
+            throw SneakyThrowUtil.rethrow(((Failure) current).exception);
+        }
+        return (T) current;
+    }
+
+    private Object compute() throws E {
+        lock.lock();
+        try {
+            Object current = result;
+            if (current != UNSET) {
+                return current;
+            }
+            try {
+                current = delegate.get();
+            } catch (Exception e) {
+                if (failurePolicy == FailurePolicy.RETRY) {
+                    throw e;
+                }
+                current = new Failure(e);
+            }
+            result = current;
+            delegate = null;
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the values recorded by an {@link InvocationMetrics} instance. Latencies are in nanoseconds.
+ * <p>
+ * Latency buckets are exposed by index, so they can be copied into an external metrics library as-is.
+ *
+ * @author Grzegorz Piwowarek
+ */
+public final class MetricsSnapshot {
+
+    private final long invocations;
+    private final long failures;
+    private final long totalNanos;
+    private final Map<Class<? extends Exception>, Long> failuresByType;
+    private final long[] latencyCounts;
+
+    MetricsSnapshot(long invocations, long failures, long totalNanos, Map<Class<? extends Exception>, Long> failuresByType, long[] latencyCounts) {
+        this.invocations = invocations;
+        this.failures = failures;
+        this.totalNanos = totalNanos;
+        this.failuresByType = Collections.unmodifiableMap(failuresByType);
+        this.latencyCounts = latencyCounts;
+    }
+
+    /**
+     * Returns the number of recorded invocations, including failed ones
+     *
+     * @return the number of invocations
+     */
+    public long invocations() {
+        return invocations;
+    }
+
+    /**
+     * Returns the number of recorded invocations which threw an exception
+     *
+     * @return the number of failures
+     */
+    public long failures() {
+        return failures;
+    }
+
+    /**
+     * Returns the number of recorded failures per exception class
+     *
+     * @return an unmodifiable map from the exception class to the number of failures
+     */
+    public Map<Class<? extends Exception>, Long> failuresByType() {
+        return failuresByType;
+    }
+
+    /**
+     * Returns the mean latency of all recorded invocations, or {@code 0} if there were none
+     *
+     * @return the mean latency in nanoseconds
+     */
+    public double meanLatencyNanos() {
+        return invocations == 0 ? 0 : (double) totalNanos / invocations;
+    }
+
+    /**
+     * Returns an upper bound of the latency below which the given percentage of recorded invocations fall,
+     * or {@code 0} if there were no invocations. The bound overestimates the exact value by at most 12.5%
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in nanoseconds
+     */
+    public long latencyPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        long total = 0;
+        for (long count : latencyCounts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < latencyCounts.length; i++) {
+            seen += latencyCounts[i];
+            if (seen >= rank) {
+                return LatencyHistogram.upperBound(i);
+            }
+        }
+        return LatencyHistogram.upperBound(latencyCounts.length - 1);
+    }
+
+    /**
+     * Returns the number of latency buckets
+     *
+     * @return the number of latency buckets
+     */
+    public int latencyBuckets() {
+        return latencyCounts.length;
+    }
+
+    /**
+     * Returns the smallest latency counted in the given bucket
+     *
+     * @param bucket the index of the bucket
+     * @return the inclusive lower bound of the bucket in nanoseconds
+     */
+    public long latencyBucketLowerBound(int bucket) {
+        checkBucket(bucket);
+        return LatencyHistogram.lowerBound(bucket);
+    }
+
+    /**
+     * Returns the largest latency counted in the given bucket
+     *
+     * @param bucket the index of the bucket
+     * @return the inclusive upper bound of the bucket in nanoseconds
+     */
+    public long latencyBucketUpperBound(int bucket) {
+        checkBucket(bucket);
+        return LatencyHistogram.upperBound(bucket);
+    }
+
+    /**
+     * Returns the number of invocations whose latency falls into the given bucket
+     *
+     * @param bucket the index of the bucket
+     * @return the number of invocations
+     */
+    public long latencyBucketCount(int bucket) {
+        checkBucket(bucket);
+        return latencyCounts[bucket];
+    }
+
+    private void checkBucket(int bucket) {
+        if (bucket < 0 || bucket >= latencyCounts.length) {
+            throw new IndexOutOfBoundsException("bucket: " + bucket + ", buckets: " + latencyCounts.length);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot[invocations=" + invocations
+          + ", failures=" + failures
+          + ", meanLatencyNanos=" + meanLatencyNanos()
+          + ", failuresByType=" + failuresByType + ']';
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free sliding window of call outcomes used by {@link CircuitBreaker}.
+ * <p>
+ * Totals are packed into a single long, with the number of calls in the upper and the number of failures
+ * in the lower 32 bits, so both can be updated and read atomically.
+ */
+abstract class OutcomeWindow {
+
+    static final long CALL = 1L << 32;
+
+    /**
+     * Records an outcome and returns the packed totals of the window including it. Totals are only needed
+     * to evaluate a failure, so recording a success might skip computing them and return {@code 0}
+     */
+    abstract long record(boolean failure, long nowNanos);
+
+    abstract void reset();
+
+    abstract boolean needsClock();
+
+    static int calls(long totals) {
+        return (int) (totals >>> 32);
+    }
+
+    static int failures(long totals) {
+        return (int) totals;
+    }
+
+    /**
+     * Keeps the outcomes of the last {@code size} calls in a ring. Every call claims the next slot and replaces
+     * the outcome it held, adjusting the totals by the difference.
+     */
+    static final class CountBased extends OutcomeWindow {
+
+        private static final int EMPTY = 0;
+        private static final int SUCCESS = 1;
+        private static final int FAILURE = 2;
+
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicIntegerArray slots;
+        private final AtomicLong totals = new AtomicLong();
+
+        CountBased(int size) {
+            this.slots = new AtomicIntegerArray(size);
+        }
+
+        @Override
+        long record(boolean failure, long nowNanos) {
+            int slot = (int) (cursor.getAndIncrement() % slots.length());
+            int previous = slots.getAndSet(slot, failure ? FAILURE : SUCCESS);
+            long delta = (previous == EMPTY ? CALL : 0)
+              + (failure ? 1 : 0)
+              - (previous == FAILURE ? 1 : 0);
+            if (delta == 0) {
+                return failure ? totals.get() : 0;
+            }
+            return totals.addAndGet(delta);
+        }
+
+        @Override
+        void reset() {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.set(i, EMPTY);
+            }
+            totals.set(0);
+        }
+
+        @Override
+        boolean needsClock() {
+            return false;
+        }
+    }
+
+    /**
+     * Keeps the outcomes of the calls completed during the last {@code buckets * bucketNanos} nanoseconds, aggregated
+     * into buckets. A bucket is claimed for the current time slice by the first call which observes it as stale,
+     * so outcomes recorded concurrently with the claim might be lost, which only makes the window approximate.
+     */
+    static final class TimeBased extends OutcomeWindow {
+
+        private final long bucketNanos;
+        private final AtomicLongArray epochs;
+        private final AtomicLongArray counts;
+
+        TimeBased(int buckets, long bucketNanos) {
+            this.bucketNanos = bucketNanos;
+            this.epochs = new AtomicLongArray(buckets);
+            this.counts = new AtomicLongArray(buckets);
+            reset();
+        }
+
+        @Override
+        long record(boolean failure, long nowNanos) {
+            long epoch = Math.floorDiv(nowNanos, bucketNanos);
+            int buckets = epochs.length();
+            int index = (int) Math.floorMod(epoch, (long) buckets);
+            long claimed = epochs.get(index);
+            if (claimed != epoch && epochs.compareAndSet(index, claimed, epoch)) {
+                counts.set(index, 0);
+            }
+            counts.addAndGet(index, CALL + (failure ? 1 : 0));
+            if (!failure) {
+                return 0;
+            }
+
+            long sum = 0;
+            for (int i = 0; i < buckets; i++) {
+                long age = epoch - epochs.get(i);
+                if (age >= 0 && age < buckets) {
+                    sum += counts.get(i);
+                }
+            }
+            return sum;
+        }
+
+        @Override
+        void reset() {
+            for (int i = 0; i < epochs.length(); i++) {
+                epochs.set(i, Long.MIN_VALUE);
+                counts.set(i, 0);
+            }
+        }
+
+        @Override
+        boolean needsClock() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Fork-join behind the parallel bulk operations of {@link ThrowingFunction}.
+ * <p>
+ * The index range is split in halves down to {@code minSplitSize} elements. The first failure is published
+ * to a shared reference, which every leaf checks before processing the next element, so remaining work stops
+ * as soon as one element fails. The calling thread then throws the first exception as the cause of a
+ * {@link FailedIndexException} holding its index.
+ */
+final class ParallelBulk {
+
+    private ParallelBulk() {
+    }
+
+    static <T, R> List<R> map(List<? extends T> source, ThrowingFunction<? super T, ? extends R, ?> function, ForkJoinPool pool, int minSplitSize) {
+        requireNonNull(source);
+        Object[] input = source instanceof RandomAccess ? null : source.toArray();
+        Object[] output = new Object[input == null ? source.size() : input.length];
+        run(input == null ? source::get : i -> input[i], output, function, pool, minSplitSize);
+        @SuppressWarnings("unchecked")
+        List<R> result = (List<R>) new ArrayList<>(Arrays.asList(output));
+        return result;
+    }
+
+    static <T, R> R[] map(T[] source, R[] output, ThrowingFunction<? super T, ? extends R, ?> function, ForkJoinPool pool, int minSplitSize) {
+        requireNonNull(source);
+        if (output.length != source.length) {
+            throw new IllegalArgumentException("generator returned an array of length " + output.length + ", expected " + source.length);
+        }
+        run(i -> source[i], output, function, pool, minSplitSize);
+        return output;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void run(Indexed<?> input, Object[] output, ThrowingFunction<?, ?, ?> function, ForkJoinPool pool, int minSplitSize) {
+        requireNonNull(function);
+        requireNonNull(pool);
+        if (minSplitSize < 1) {
+            throw new IllegalArgumentException("minSplitSize must be positive");
+        }
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicInteger failedIndex = new AtomicInteger();
+        pool.invoke(new MapTask(input, output, (ThrowingFunction<Object, ?, ?>) function, failure, failedIndex, 0, output.length, minSplitSize));
+        Exception e = failure.get();
+        if (e != null) {
+            throw new FailedIndexException(failedIndex.get(), e);
+        }
+    }
+
+    static int defaultMinSplitSize(int size, ForkJoinPool pool) {
+        return Math.max(1, size / (pool.getParallelism() << 2));
+    }
+
+    @FunctionalInterface
+    interface Indexed<T> {
+        T get(int index);
+    }
+
+    private static final class MapTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Indexed<?> input;
+        private final transient Object[] output;
+        private final transient ThrowingFunction<Object, ?, ?> function;
+        private final transient AtomicReference<Exception> failure;
+        private final transient AtomicInteger failedIndex;
+        private final int from;
+        private final int to;
+        private final int minSplitSize;
+
+        MapTask(Indexed<?> input, Object[] output, ThrowingFunction<Object, ?, ?> function, AtomicReference<Exception> failure, AtomicInteger failedIndex, int from, int to, int minSplitSize) {
+            this.input = input;
+            this.output = output;
+            this.function = function;
+            this.failure = failure;
+            this.failedIndex = failedIndex;
+            this.from = from;
+            this.to = to;
+            this.minSplitSize = minSplitSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (failure.get() != null) {
+                return;
+            }
+            if (to - from <= minSplitSize) {
+                for (int i = from; i < to && failure.get() == null; i++) {
+                    try {
+                        output[i] = function.apply(input.get(i));
+                    } catch (final Exception e) {
+                        if (failure.compareAndSet(null, e)) {
+                            failedIndex.set(i);
+                        }
+                    }
+                }
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                  new MapTask(input, output, function, failure, failedIndex, from, mid, minSplitSize),
+                  new MapTask(input, output, function, failure, failedIndex, mid, to, minSplitSize));
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads batches ahead on a background task into a bounded buffer, so that fetching the next batches overlaps
+ * with processing the current one.
+ * <p>
+ * The background task is started on the first call to {@link #next()} and stops after the last batch, after the first
+ * failure, or once closed. Exceptions thrown while reading are handed over to the consuming thread and rethrown as-is.
+ * Only one thread at a time may consume batches.
+ * <p>
+ * The background task references its Prefetcher only weakly, and waits for space in the buffer in bounded steps,
+ * so it also stops once the Prefetcher becomes unreachable without being closed, e.g. after a short-circuiting
+ * terminal operation on a Stream which wasn't closed.
+ */
+final class Prefetcher<T> {
+
+    private static final Object END = new Object();
+    private static final long OWNER_CHECK_MILLIS = 100;
+
+    private final Reader<T> reader;
+    private final Executor executor;
+
+    private volatile FutureTask<Void> task;
+    private boolean done;
+
+    Prefetcher(ThrowingSupplier<? extends Collection<? extends T>, ?> batches, int capacity, Executor executor) {
+        this.reader = new Reader<>(batches, new ArrayBlockingQueue<>(capacity), new WeakReference<>(this));
+        this.executor = executor;
+    }
+
+    @SuppressWarnings("unchecked")
+    Collection<? extends T> next() {
+        if (done || reader.closed) {
+            return Collections.emptyList();
+        }
+        if (task == null) {
+            task = new FutureTask<>(reader, null);
+            executor.execute(task);
+        }
+        Object next;
+        try {
+            next = reader.buffer.take();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new CheckedException(e);
+        }
+        if (next == END) {
+            done = true;
+            return Collections.emptyList();
+        }
+        if (next instanceof Failure) {
+            done = true;
+            throw SneakyThrowUtil.rethrow(((Failure) next).exception);
+        }
+        return (Collection<? extends T>) next;
+    }
+
+    void close() {
+        reader.closed = true;
+        FutureTask<Void> current = task;
+        if (current != null) {
+            current.cancel(true);
+        }
+        // unblocks the reader if the interrupt got swallowed by the source
+        reader.buffer.clear();
+    }
+
+    static final class Reader<T> implements Runnable {
+
+        private final ThrowingSupplier<? extends Collection<? extends T>, ?> batches;
+        private final BlockingQueue<Object> buffer;
+        private final Reference<?> owner;
+        private volatile boolean closed;
+
+        /**
+         * @param owner the reference to the consuming Prefetcher, cleared once it becomes unreachable
+         */
+        Reader(ThrowingSupplier<? extends Collection<? extends T>, ?> batches, BlockingQueue<Object> buffer, Reference<?> owner) {
+            this.batches = batches;
+            this.buffer = buffer;
+            this.owner = owner;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    Collection<? extends T> batch;
+                    try {
+                        batch = batches.get();
+                    } catch (final Throwable e) {
+                        put(new Failure(e));
+                        return;
+                    }
+                    if (batch == null || batch.isEmpty()) {
+                        put(END);
+                        return;
+                    }
+                    if (!put(batch)) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                // closed while waiting for space in the buffer
+            }
+        }
+
+        /**
+         * Waits for space in the buffer, and gives up once closed or once nothing consumes the buffer anymore
+         */
+        private boolean put(Object next) throws InterruptedException {
+            while (!buffer.offer(next, OWNER_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (closed || owner.get() == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
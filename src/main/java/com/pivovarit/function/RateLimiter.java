@@ -0,0 +1,264 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Limits the rate of calls using the generic cell rate algorithm, a token bucket kept as a single
+ * theoretical arrival time in an {@link AtomicLong}. Permits are spread evenly over the period,
+ * and up to {@code burst} permits can be acquired at once after a quiet period.
+ * <p>
+ * Acquiring an available permit is a single compare-and-set and does not allocate. Decorated instances wait
+ * for a permit, wait at most a given timeout, or reject the call right away, depending on the configured mode,
+ * and throw a shared {@link CallNotPermittedException} when no permit was acquired.
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction#rateLimited(ThrowingFunction, RateLimiter)
+ * @see ThrowingConsumer#rateLimited(ThrowingConsumer, RateLimiter)
+ * @see KeyedRateLimiter
+ */
+public final class RateLimiter {
+
+    static final long REJECTED = -1;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long maxWaitNanos;
+    private final LongSupplier clock;
+    private final AtomicLong arrival;
+
+    RateLimiter(Builder builder) {
+        this.intervalNanos = builder.intervalNanos();
+        this.burstNanos = intervalNanos * builder.burst;
+        this.maxWaitNanos = builder.maxWaitNanos;
+        this.clock = builder.clock;
+        this.arrival = newArrival();
+    }
+
+    /**
+     * Returns a new builder of a RateLimiter. By default, decorated instances wait for a permit as long as needed,
+     * and the burst equals the number of permits per period
+     *
+     * @param permits the number of permits per period
+     * @param period  the period over which the permits are spread
+     * @return new RateLimiter builder
+     */
+    public static Builder builder(int permits, Duration period) {
+        return new Builder(permits, period);
+    }
+
+    /**
+     * Acquires a permit if one is available right away
+     *
+     * @return {@code true} if a permit was acquired, otherwise {@code false}
+     */
+    public boolean tryAcquire() {
+        return reserve(arrival, 0) == 0;
+    }
+
+    /**
+     * Acquires a permit, waiting if it becomes available within the given timeout
+     *
+     * @param timeout the maximum time to wait
+     * @return {@code true} if a permit was acquired, otherwise {@code false}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean tryAcquire(Duration timeout) throws InterruptedException {
+        long wait = reserve(arrival, Math.max(0, timeout.toNanos()));
+        if (wait == REJECTED) {
+            return false;
+        }
+        pause(wait);
+        return true;
+    }
+
+    /**
+     * Acquires a permit, waiting as long as needed
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        pause(reserve(arrival, Long.MAX_VALUE));
+    }
+
+    /**
+     * Acquires a permit in the configured mode, or throws {@link CallNotPermittedException}.
+     * An interrupted wait restores the interrupt flag of the thread and rejects the call
+     */
+    void acquirePermit() {
+        acquirePermit(arrival);
+    }
+
+    void acquirePermit(AtomicLong arrival) {
+        long wait = reserve(arrival, maxWaitNanos);
+        if (wait == REJECTED) {
+            throw CallNotPermittedException.INSTANCE;
+        }
+        try {
+            pause(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw CallNotPermittedException.INSTANCE;
+        }
+    }
+
+    /**
+     * Reserves the next permit if it becomes available within {@code maxWaitNanos}, and returns the time to wait for it,
+     * or {@link #REJECTED} without reserving it
+     */
+    long reserve(AtomicLong arrival, long maxWaitNanos) {
+        long now = clock.getAsLong();
+        for (;;) {
+            long current = arrival.get();
+            long start = current - now > 0 ? current : now;
+            long wait = start + intervalNanos - burstNanos - now;
+            if (wait > maxWaitNanos) {
+                return REJECTED;
+            }
+            if (arrival.compareAndSet(current, start + intervalNanos)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+
+    AtomicLong newArrival() {
+        return new AtomicLong(clock.getAsLong());
+    }
+
+    boolean isIdle(AtomicLong arrival) {
+        return arrival.get() - clock.getAsLong() <= 0;
+    }
+
+    private static void pause(long nanos) throws InterruptedException {
+        if (nanos == 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + nanos;
+        for (long remaining = nanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    /**
+     * Builder of {@link RateLimiter} and {@link KeyedRateLimiter} instances.
+     */
+    public static final class Builder {
+
+        private final int permits;
+        private final long periodNanos;
+        private int burst;
+        private long maxWaitNanos = Long.MAX_VALUE;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(int permits, Duration period) {
+            if (permits < 1) {
+                throw new IllegalArgumentException("permits must be positive, was: " + permits);
+            }
+            long nanos = period.toNanos();
+            if (nanos < permits) {
+                throw new IllegalArgumentException("period must be at least one nanosecond per permit, was: " + period);
+            }
+            this.permits = permits;
+            this.periodNanos = nanos;
+            this.burst = permits;
+        }
+
+        /**
+         * Sets the number of permits which can be acquired at once after a quiet period
+         *
+         * @param burst the maximum number of permits acquired without waiting
+         * @return this builder
+         */
+        public Builder burst(int burst) {
+            if (burst < 1) {
+                throw new IllegalArgumentException("burst must be positive, was: " + burst);
+            }
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Makes decorated instances wait for a permit as long as needed
+         *
+         * @return this builder
+         */
+        public Builder blocking() {
+            this.maxWaitNanos = Long.MAX_VALUE;
+            return this;
+        }
+
+        /**
+         * Makes decorated instances wait for a permit at most the given time, and reject the call if none becomes available
+         *
+         * @param timeout the maximum time to wait for a permit
+         * @return this builder
+         */
+        public Builder timeout(Duration timeout) {
+            if (timeout.isNegative()) {
+                throw new IllegalArgumentException("timeout must not be negative, was: " + timeout);
+            }
+            this.maxWaitNanos = timeout.toNanos();
+            return this;
+        }
+
+        /**
+         * Makes decorated instances reject the call right away if no permit is available
+         *
+         * @return this builder
+         */
+        public Builder nonBlocking() {
+            this.maxWaitNanos = 0;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = requireNonNull(clock);
+            return this;
+        }
+
+        long intervalNanos() {
+            return periodNanos / permits;
+        }
+
+        /**
+         * Builds the RateLimiter
+         *
+         * @return new RateLimiter instance
+         */
+        public RateLimiter build() {
+            return new RateLimiter(this);
+        }
+
+        /**
+         * Builds a KeyedRateLimiter, which limits the rate of calls separately for every key
+         *
+         * @param <K> the type of the keys
+         * @return new KeyedRateLimiter instance
+         */
+        public <K> KeyedRateLimiter<K> buildKeyed() {
+            return new KeyedRateLimiter<>(new RateLimiter(this));
+        }
+    }
+}
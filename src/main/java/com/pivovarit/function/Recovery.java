@@ -0,0 +1,162 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Handlers of exceptions registered per exception class, each either recovering with a value or translating
+ * the exception into another one. Exceptions without a handler are rethrown as-is.
+ * <p>
+ * The handler of an exception is the one registered for its nearest superclass, regardless of the registration order.
+ * It is resolved once per concrete exception class and cached in a {@link ClassValue}, so finding it afterwards
+ * costs a single lookup instead of a chain of {@code instanceof} checks.
+ *
+ * @param <R> the type of the values recovered with
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction#recovering(ThrowingFunction, Recovery)
+ * @see ThrowingSupplier#recovering(ThrowingSupplier, Recovery)
+ * @see ThrowingFunction#lifted(ThrowingFunction, Class[])
+ */
+public final class Recovery<R> {
+
+    private static final Function<Exception, Object> RETHROW = SneakyThrowUtil::sneakyThrow;
+
+    private final Map<Class<?>, Function<Exception, Object>> handlers;
+
+    private final ClassValue<Function<Exception, Object>> dispatch = new ClassValue<Function<Exception, Object>>() {
+        @Override
+        protected Function<Exception, Object> computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                Function<Exception, Object> handler = handlers.get(current);
+                if (handler != null) {
+                    return handler;
+                }
+            }
+            return RETHROW;
+        }
+    };
+
+    private Recovery(Builder<R> builder) {
+        this.handlers = new IdentityHashMap<>(builder.handlers);
+    }
+
+    /**
+     * Returns a new builder of a Recovery without any handlers
+     *
+     * @param <R> the type of the values recovered with
+     * @return new Recovery builder
+     */
+    public static <R> Builder<R> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns a Recovery which recovers from instances of the given exception types with an empty Optional
+     */
+    static <R> Recovery<Optional<R>> emptyOn(List<Class<? extends Exception>> types) {
+        Builder<Optional<R>> builder = builder();
+        for (Class<? extends Exception> type : types) {
+            if (!builder.handlers.containsKey(type)) {
+                builder.recover(type, Optional.empty());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the value recovered from the given exception, or throws the exception it translates into,
+     * or rethrows the given exception if there's no handler for it
+     */
+    @SuppressWarnings("unchecked")
+    R handle(Exception exception) {
+        return (R) dispatch.get(exception.getClass()).apply(exception);
+    }
+
+    /**
+     * Builder of {@link Recovery} instances.
+     *
+     * @param <R> the type of the values recovered with
+     */
+    public static final class Builder<R> {
+
+        private final Map<Class<?>, Function<Exception, Object>> handlers = new IdentityHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Recovers from instances of the given exception type with the value returned by the handler
+         *
+         * @param <X>     the type of the exception
+         * @param type    the class of the exception, matching its subclasses unless they have handlers of their own
+         * @param handler the Function returning the value to recover with
+         * @return this builder
+         */
+        public <X extends Exception> Builder<R> recover(Class<X> type, Function<? super X, ? extends R> handler) {
+            requireNonNull(handler);
+            return register(type, e -> handler.apply(type.cast(e)));
+        }
+
+        /**
+         * Recovers from instances of the given exception type with the given value
+         *
+         * @param type     the class of the exception, matching its subclasses unless they have handlers of their own
+         * @param fallback the value to recover with
+         * @return this builder
+         */
+        public Builder<R> recover(Class<? extends Exception> type, R fallback) {
+            return register(type, e -> fallback);
+        }
+
+        /**
+         * Translates instances of the given exception type into the exception returned by the translator,
+         * which is thrown instead, sneakily if checked
+         *
+         * @param <X>        the type of the exception
+         * @param type       the class of the exception, matching its subclasses unless they have handlers of their own
+         * @param translator the Function returning the exception to throw
+         * @return this builder
+         */
+        public <X extends Exception> Builder<R> translate(Class<X> type, Function<? super X, ? extends Exception> translator) {
+            requireNonNull(translator);
+            return register(type, e -> SneakyThrowUtil.sneakyThrow(translator.apply(type.cast(e))));
+        }
+
+        /**
+         * Builds the Recovery
+         *
+         * @return new Recovery instance
+         */
+        public Recovery<R> build() {
+            return new Recovery<>(this);
+        }
+
+        private Builder<R> register(Class<? extends Exception> type, Function<Exception, Object> handler) {
+            requireNonNull(type);
+            if (handlers.putIfAbsent(type, handler) != null) {
+                throw new IllegalArgumentException("handler already registered for: " + type.getName());
+            }
+            return this;
+        }
+    }
+}
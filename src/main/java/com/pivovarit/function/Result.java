@@ -0,0 +1,246 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The outcome of a computation which might have thrown an exception: either a value, or the thrown exception.
+ * <p>
+ * Successful results carrying {@code null} (for example, results of consumers and runnables) or a {@code Boolean}
+ * are shared instances. Transformations of a failed Result, and mappings which return the same value, return
+ * the same instance without allocating, so only stages which produce a new value allocate a new Result.
+ * To run a chain of transformations with at most one allocated Result, chain them on the {@link Attempt} returned
+ * by {@link ThrowingFunction#attempt(ThrowingFunction)} instead.
+ *
+ * @param <T> the type of the value
+ * @param <E> the type of the checked exception the computation might have thrown
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction#attempt(ThrowingFunction)
+ */
+public final class Result<T, E extends Exception> {
+
+    private static final Result<?, ?> EMPTY = new Result<>(null, null);
+    private static final Result<Boolean, ?> TRUE = new Result<>(true, null);
+    private static final Result<Boolean, ?> FALSE = new Result<>(false, null);
+
+    private final T value;
+    private final Exception exception;
+
+    private Result(T value, Exception exception) {
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns a successful Result holding the given value
+     *
+     * @param <T>   the type of the value
+     * @param <E>   the type of the checked exception
+     * @param value the value, possibly {@code null}
+     * @return successful Result instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E extends Exception> Result<T, E> success(T value) {
+        if (value == null) {
+            return (Result<T, E>) EMPTY;
+        }
+        if (value instanceof Boolean) {
+            return (Result<T, E>) ((Boolean) value ? TRUE : FALSE);
+        }
+        return new Result<>(value, null);
+    }
+
+    /**
+     * Returns a failed Result holding the given exception
+     *
+     * @param <T>       the type of the value
+     * @param <E>       the type of the checked exception
+     * @param exception the exception
+     * @return failed Result instance
+     */
+    public static <T, E extends Exception> Result<T, E> failure(E exception) {
+        return failed(requireNonNull(exception));
+    }
+
+    /**
+     * Returns a failed Result holding an exception thrown by a computation declaring {@code E},
+     * which is either an instance of {@code E} or an unchecked exception
+     */
+    static <T, E extends Exception> Result<T, E> failed(Exception exception) {
+        return new Result<>(null, exception);
+    }
+
+    /**
+     * Returns {@code true} if the computation completed normally
+     *
+     * @return {@code true} if this Result holds a value, otherwise {@code false}
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * Returns {@code true} if the computation threw an exception
+     *
+     * @return {@code true} if this Result holds an exception, otherwise {@code false}
+     */
+    public boolean isFailure() {
+        return exception != null;
+    }
+
+    /**
+     * Returns the value, or rethrows the exception of a failed Result as-is
+     *
+     * @return the value
+     * @throws E the checked exception thrown by the computation
+     */
+    public T get() throws E {
+        if (exception != null) {
+            return SneakyThrowUtil.sneakyThrow(exception);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the exception of a failed Result, which is either an instance of {@code E} or an unchecked exception
+     *
+     * @return the exception, or {@code null} if the computation completed normally
+     */
+    public Exception exception() {
+        return exception;
+    }
+
+    /**
+     * Returns the value, or {@code other} if the computation threw an exception
+     *
+     * @param other the value returned in case of a failure
+     * @return the value, or {@code other}
+     */
+    public T orElse(T other) {
+        return exception == null ? value : other;
+    }
+
+    /**
+     * Returns the value as an Optional, discarding the exception
+     *
+     * @return the value as an Optional, or an empty Optional in case of a failure
+     */
+    public Optional<T> toOptional() {
+        return exception == null ? Optional.ofNullable(value) : Optional.empty();
+    }
+
+    /**
+     * Applies the given function to the value of a successful Result. A failed Result is returned as-is
+     *
+     * @param <R>    the type of the new value
+     * @param mapper the ThrowingFunction to apply to the value
+     * @return Result of the mapping function, or this instance in case of a failure
+     */
+    public <R> Result<R, E> map(ThrowingFunction<? super T, ? extends R, ? extends E> mapper) {
+        requireNonNull(mapper);
+        if (exception != null) {
+            return self();
+        }
+        try {
+            R mapped = mapper.apply(value);
+            return mapped == value ? self() : success(mapped);
+        } catch (Exception e) {
+            return failed(e);
+        }
+    }
+
+    /**
+     * Applies the given Result-returning function to the value of a successful Result. A failed Result is returned as-is
+     *
+     * @param <R>    the type of the new value
+     * @param mapper the ThrowingFunction to apply to the value
+     * @return Result returned by the mapping function, or this instance in case of a failure
+     */
+    public <R> Result<R, E> flatMap(ThrowingFunction<? super T, Result<R, E>, ? extends E> mapper) {
+        requireNonNull(mapper);
+        if (exception != null) {
+            return self();
+        }
+        try {
+            return requireNonNull(mapper.apply(value));
+        } catch (Exception e) {
+            return failed(e);
+        }
+    }
+
+    /**
+     * Replaces the exception of a failed Result with the value returned by the given function. A successful Result is returned as-is
+     *
+     * @param recovery the ThrowingFunction computing a value from the exception
+     * @return Result of the recovery function, or this instance in case of a success
+     */
+    public Result<T, E> recover(ThrowingFunction<? super Exception, ? extends T, ? extends E> recovery) {
+        requireNonNull(recovery);
+        if (exception == null) {
+            return this;
+        }
+        try {
+            return success(recovery.apply(exception));
+        } catch (Exception e) {
+            return failed(e);
+        }
+    }
+
+    /**
+     * Applies {@code onSuccess} to the value, or {@code onFailure} to the exception
+     *
+     * @param <R>       the type of the result
+     * @param onSuccess the function applied to the value of a successful Result
+     * @param onFailure the function applied to the exception of a failed Result
+     * @return the result of the applied function
+     */
+    public <R> R fold(Function<? super T, ? extends R> onSuccess, Function<? super Exception, ? extends R> onFailure) {
+        return exception == null ? onSuccess.apply(value) : onFailure.apply(exception);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> Result<R, E> self() {
+        return (Result<R, E>) this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Result)) {
+            return false;
+        }
+        Result<?, ?> other = (Result<?, ?>) o;
+        return Objects.equals(value, other.value) && Objects.equals(exception, other.exception);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, exception);
+    }
+
+    @Override
+    public String toString() {
+        return exception == null ? "Success[" + value + "]" : "Failure[" + exception + "]";
+    }
+}
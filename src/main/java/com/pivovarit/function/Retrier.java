@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+final class Retrier {
+
+    private Retrier() {
+    }
+
+    static <T, E extends Exception> T call(ThrowingSupplier<? extends T, ? extends E> supplier, RetryPolicy policy) throws E {
+        long start = System.nanoTime();
+        long delay = 0;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return supplier.get();
+            } catch (Exception e) {
+                delay = policy.nextDelayNanos(e, attempt, delay, System.nanoTime() - start);
+                if (delay == RetryPolicy.GIVE_UP) {
+                    throw e;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    e.addSuppressed(interrupted);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    static <T> CompletableFuture<T> callAsync(ThrowingSupplier<? extends T, ?> supplier, RetryPolicy policy, ScheduledExecutorService scheduler) {
+        AsyncAttempt<T> attempt = new AsyncAttempt<>(supplier, policy, scheduler);
+        attempt.submit(0);
+        return attempt.result;
+    }
+
+    private static final class AsyncAttempt<T> implements Runnable {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final ThrowingSupplier<? extends T, ?> supplier;
+        private final RetryPolicy policy;
+        private final ScheduledExecutorService scheduler;
+        private final long start = System.nanoTime();
+
+        private int attempt;
+        private long delay;
+
+        AsyncAttempt(ThrowingSupplier<? extends T, ?> supplier, RetryPolicy policy, ScheduledExecutorService scheduler) {
+            this.supplier = supplier;
+            this.policy = policy;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                return;
+            }
+            attempt++;
+            try {
+                result.complete(supplier.get());
+            } catch (Exception e) {
+                delay = policy.nextDelayNanos(e, attempt, delay, System.nanoTime() - start);
+                if (delay == RetryPolicy.GIVE_UP) {
+                    result.completeExceptionally(e);
+                } else {
+                    submit(delay);
+                }
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void submit(long delayNanos) {
+            try {
+                if (delayNanos == 0) {
+                    scheduler.execute(this);
+                } else {
+                    scheduler.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+                }
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Describes which failures are retried, how many times, and how long to wait between attempts.
+ * <p>
+ * Instances are immutable and can be shared between decorators.
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction#retrying(ThrowingFunction, RetryPolicy)
+ * @see ThrowingSupplier#retrying(ThrowingSupplier, RetryPolicy)
+ */
+public final class RetryPolicy {
+
+    static final long GIVE_UP = -1;
+
+    private final Class<? extends Exception>[] retryOn;
+    private final int maxAttempts;
+    private final Backoff backoff;
+    private final long deadlineNanos;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private RetryPolicy(Builder builder) {
+        this.retryOn = builder.retryOn.isEmpty()
+          ? new Class[]{Exception.class}
+          : builder.retryOn.toArray(new Class[0]);
+        this.maxAttempts = builder.maxAttempts;
+        this.backoff = builder.backoff;
+        this.deadlineNanos = builder.deadlineNanos;
+    }
+
+    /**
+     * Returns a new builder of a RetryPolicy. By default, every exception is retried up to 3 attempts in total,
+     * with a fixed backoff of 100 milliseconds and no deadline
+     *
+     * @return new RetryPolicy builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the delay before the next attempt, or {@link #GIVE_UP} if the failure should be propagated
+     */
+    long nextDelayNanos(Exception failure, int attempt, long previousDelayNanos, long elapsedNanos) {
+        if (attempt >= maxAttempts || !isRetryable(failure)) {
+            return GIVE_UP;
+        }
+        long delay = backoff.delayNanos(attempt, previousDelayNanos);
+        if (deadlineNanos > 0 && elapsedNanos + delay >= deadlineNanos) {
+            return GIVE_UP;
+        }
+        return delay;
+    }
+
+    private boolean isRetryable(Exception failure) {
+        for (Class<? extends Exception> type : retryOn) {
+            if (type.isInstance(failure)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @FunctionalInterface
+    interface Backoff {
+        long delayNanos(int attempt, long previousDelayNanos);
+    }
+
+    /**
+     * Builder of {@link RetryPolicy} instances.
+     */
+    public static final class Builder {
+
+        private final List<Class<? extends Exception>> retryOn = new ArrayList<>();
+        private int maxAttempts = 3;
+        private Backoff backoff = fixed(Duration.ofMillis(100).toNanos());
+        private long deadlineNanos;
+
+        private Builder() {
+        }
+
+        /**
+         * Restricts retries to failures which are instances of the given exception types
+         *
+         * @param types exception types which should be retried
+         * @return this builder
+         */
+        @SafeVarargs
+        public final Builder retryOn(Class<? extends Exception>... types) {
+            for (Class<? extends Exception> type : types) {
+                retryOn.add(requireNonNull(type));
+            }
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of attempts, including the first one
+         *
+         * @param maxAttempts the maximum number of attempts
+         * @return this builder
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be positive, was: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Waits the same amount of time before every retry
+         *
+         * @param delay the delay between attempts
+         * @return this builder
+         */
+        public Builder fixedBackoff(Duration delay) {
+            this.backoff = fixed(nonNegativeNanos(delay));
+            return this;
+        }
+
+        /**
+         * Doubles the delay after every attempt, starting at {@code initialDelay} and never exceeding {@code maxDelay}
+         *
+         * @param initialDelay the delay before the first retry
+         * @param maxDelay     the upper bound of the delay
+         * @return this builder
+         */
+        public Builder exponentialBackoff(Duration initialDelay, Duration maxDelay) {
+            long initial = nonNegativeNanos(initialDelay);
+            long max = nonNegativeNanos(maxDelay);
+            this.backoff = (attempt, previous) -> (long) Math.min(max, initial * Math.pow(2, attempt - 1));
+            return this;
+        }
+
+        /**
+         * Picks a random delay between {@code baseDelay} and three times the previous delay, never exceeding {@code maxDelay},
+         * which spreads retries of many concurrent callers apart
+         *
+         * @param baseDelay the minimum delay
+         * @param maxDelay  the upper bound of the delay
+         * @return this builder
+         */
+        public Builder decorrelatedJitterBackoff(Duration baseDelay, Duration maxDelay) {
+            long base = nonNegativeNanos(baseDelay);
+            long max = nonNegativeNanos(maxDelay);
+            this.backoff = (attempt, previous) -> {
+                long upper = Math.max(base, Math.min(max, Math.max(previous, base) * 3));
+                return upper == base ? base : ThreadLocalRandom.current().nextLong(base, upper);
+            };
+            return this;
+        }
+
+        /**
+         * Stops retrying once the next attempt would start later than {@code deadline} after the first one
+         *
+         * @param deadline the total time budget of all attempts
+         * @return this builder
+         */
+        public Builder deadline(Duration deadline) {
+            long nanos = nonNegativeNanos(deadline);
+            if (nanos == 0) {
+                throw new IllegalArgumentException("deadline must be positive");
+            }
+            this.deadlineNanos = nanos;
+            return this;
+        }
+
+        /**
+         * Builds the RetryPolicy
+         *
+         * @return new RetryPolicy instance
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+
+        private static Backoff fixed(long delay) {
+            return (attempt, previous) -> delay;
+        }
+
+        private static long nonNegativeNanos(Duration duration) {
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException("duration must not be negative, was: " + duration);
+            }
+            return duration.toNanos();
+        }
+    }
+}
@@ -23,4 +23,18 @@ final class SneakyThrowUtil {
     static <T extends Exception, R> R sneakyThrow(Exception t) throws T {
         throw (T) t;
     }
+
+    /**
+     * Rethrows the given exception or error as-is, or returns any other throwable wrapped in a {@link CheckedException}
+     * for the caller to throw
+     */
+    static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof Exception) {
+            return sneakyThrow((Exception) failure);
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new CheckedException(failure);
+    }
 }
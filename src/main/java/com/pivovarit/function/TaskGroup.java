@@ -0,0 +1,256 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs a group of blocking tasks concurrently and waits for all of them, failing fast with the original exception.
+ * <p>
+ * Results are returned in submission order. The first failure cancels all other tasks with an interrupt, and is
+ * rethrown as-is once every started task has terminated, so no task outlives the call. Exceptions thrown by other
+ * tasks, including the ones thrown in response to the cancellation, are attached to it as suppressed exceptions.
+ * This modifies the rethrown exception, so a task throwing a shared or cached instance should create it with
+ * suppression disabled, or its suppressed exceptions grow with every failed call.
+ * <p>
+ * Without a given executor, tasks run on a shared pool of daemon threads, or on new virtual threads on Java 21
+ * and later.
+ *
+ * <pre>{@code
+ * List<Response> responses = TaskGroup.invokeAll(Arrays.asList(
+ *   () -> client.fetch(first),
+ *   () -> client.fetch(second))); // throws IOException
+ * }</pre>
+ *
+ * @author Grzegorz Piwowarek
+ */
+public final class TaskGroup {
+
+    private TaskGroup() {
+    }
+
+    /**
+     * Runs the given suppliers concurrently on a shared pool of daemon threads, or on new virtual threads on Java 21
+     * and later, and returns their results in submission order. The first exception thrown cancels all other
+     * suppliers and is rethrown as-is
+     *
+     * @param <T>       the type of results supplied by the suppliers
+     * @param <E>       the type of the thrown checked exception
+     * @param suppliers the ThrowingSuppliers to run
+     * @return the results of the suppliers, in submission order
+     * @throws E the first exception thrown by any of the suppliers
+     */
+    public static <T, E extends Exception> List<T> invokeAll(Collection<? extends ThrowingSupplier<? extends T, ? extends E>> suppliers) throws E {
+        return invokeAll(suppliers, BlockingExecutor.get());
+    }
+
+    /**
+     * Runs the given suppliers concurrently on the given executor and returns their results in submission order.
+     * The first exception thrown cancels all other suppliers and is rethrown as-is
+     *
+     * @param <T>       the type of results supplied by the suppliers
+     * @param <E>       the type of the thrown checked exception
+     * @param suppliers the ThrowingSuppliers to run
+     * @param executor  the Executor running the suppliers
+     * @return the results of the suppliers, in submission order
+     * @throws E the first exception thrown by any of the suppliers
+     */
+    public static <T, E extends Exception> List<T> invokeAll(Collection<? extends ThrowingSupplier<? extends T, ? extends E>> suppliers, Executor executor) throws E {
+        requireNonNull(suppliers);
+        requireNonNull(executor);
+        return new Group<T>(suppliers).invoke(executor);
+    }
+
+    /**
+     * Runs the given runnables concurrently on a shared pool of daemon threads, or on new virtual threads on Java 21
+     * and later, and waits for all of them. The first exception thrown cancels all other runnables and is rethrown
+     * as-is
+     *
+     * @param <E>       the type of the thrown checked exception
+     * @param runnables the ThrowingRunnables to run
+     * @throws E the first exception thrown by any of the runnables
+     */
+    public static <E extends Exception> void runAll(Collection<? extends ThrowingRunnable<? extends E>> runnables) throws E {
+        runAll(runnables, BlockingExecutor.get());
+    }
+
+    /**
+     * Runs the given runnables concurrently on the given executor and waits for all of them. The first exception
+     * thrown cancels all other runnables and is rethrown as-is
+     *
+     * @param <E>       the type of the thrown checked exception
+     * @param runnables the ThrowingRunnables to run
+     * @param executor  the Executor running the runnables
+     * @throws E the first exception thrown by any of the runnables
+     */
+    public static <E extends Exception> void runAll(Collection<? extends ThrowingRunnable<? extends E>> runnables, Executor executor) throws E {
+        requireNonNull(runnables);
+        requireNonNull(executor);
+        List<ThrowingSupplier<Void, E>> suppliers = new ArrayList<>(runnables.size());
+        for (ThrowingRunnable<? extends E> runnable : runnables) {
+            requireNonNull(runnable);
+            suppliers.add(() -> {
+                runnable.run();
+                return null;
+            });
+        }
+        new Group<Void>(suppliers).invoke(executor);
+    }
+
+    /**
+     * The tasks of a single invocation. The calling thread only submits tasks and waits for all of them to terminate:
+     * the first failing task cancels its siblings itself. Tasks cancelled before they started are not waited for.
+     */
+    private static final class Group<T> {
+
+        private final List<Task> tasks;
+        private final CountDownLatch terminated;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Group(Collection<? extends ThrowingSupplier<? extends T, ?>> suppliers) {
+            tasks = new ArrayList<>(suppliers.size());
+            for (ThrowingSupplier<? extends T, ?> supplier : suppliers) {
+                tasks.add(new Task(requireNonNull(supplier)));
+            }
+            terminated = new CountDownLatch(tasks.size());
+        }
+
+        List<T> invoke(Executor executor) {
+            if (tasks.isEmpty()) {
+                return Collections.emptyList();
+            }
+            for (Task task : tasks) {
+                if (failure.get() != null) {
+                    break;
+                }
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    task.reject(e);
+                }
+            }
+            try {
+                terminated.await();
+            } catch (InterruptedException e) {
+                cancelAll(null);
+                awaitUninterruptibly();
+                Thread.currentThread().interrupt();
+                throw new CheckedException(e);
+            }
+            Throwable first = failure.get();
+            if (first != null) {
+                for (Task task : tasks) {
+                    if (task.exception != null) {
+                        Failure.suppress(first, task.exception);
+                    }
+                }
+                throw SneakyThrowUtil.rethrow(first);
+            }
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Task task : tasks) {
+                results.add(task.value);
+            }
+            return results;
+        }
+
+        private void fail(Task failed, Throwable exception) {
+            if (failure.compareAndSet(null, exception)) {
+                cancelAll(failed);
+            }
+        }
+
+        private void cancelAll(Task except) {
+            for (Task task : tasks) {
+                if (task != except) {
+                    task.abort();
+                }
+            }
+        }
+
+        private void awaitUninterruptibly() {
+            for (;;) {
+                try {
+                    terminated.await();
+                    return;
+                } catch (InterruptedException ignored) {
+                    // the interrupt is restored by the caller
+                }
+            }
+        }
+
+        private final class Task extends FutureTask<T> {
+
+            private final AtomicBoolean claimed = new AtomicBoolean();
+
+            private T value;
+            private Throwable exception;
+
+            Task(ThrowingSupplier<? extends T, ?> supplier) {
+                super(supplier::get);
+            }
+
+            @Override
+            public void run() {
+                if (claimed.compareAndSet(false, true)) {
+                    try {
+                        super.run();
+                    } finally {
+                        terminated.countDown();
+                    }
+                }
+            }
+
+            @Override
+            protected void set(T value) {
+                this.value = value;
+                super.set(value);
+            }
+
+            @Override
+            protected void setException(Throwable exception) {
+                this.exception = exception;
+                super.setException(exception);
+                fail(this, exception);
+            }
+
+            void reject(RejectedExecutionException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    exception = e;
+                    fail(this, e);
+                    terminated.countDown();
+                }
+            }
+
+            void abort() {
+                cancel(true);
+                if (claimed.compareAndSet(false, true)) {
+                    terminated.countDown();
+                }
+            }
+        }
+    }
+}
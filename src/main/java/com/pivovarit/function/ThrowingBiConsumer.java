@@ -16,6 +16,7 @@
 package com.pivovarit.function;
 
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 
 import static java.util.Objects.requireNonNull;
 
@@ -81,4 +82,79 @@ public interface ThrowingBiConsumer<T1, T2, EX extends Exception> {
             }
         };
     }
+
+    /**
+     * Returns a new BiFunction instance which returns a {@link Result} holding either nothing or the thrown exception.
+     * Successful invocations return a shared Result instance
+     *
+     * @param <T>      the type of the first argument to the operation
+     * @param <U>      the type of the second argument to the operation
+     * @param <E>      the type of the thrown checked exception
+     * @param consumer the ThrowingBiConsumer to wrap
+     * @return BiFunction instance that returns a successful Result, or a failed Result holding the thrown exception
+     */
+    static <T, U, E extends Exception> BiFunction<T, U, Result<Void, E>> attempt(ThrowingBiConsumer<? super T, ? super U, ? extends E> consumer) {
+        requireNonNull(consumer);
+        return (t, u) -> {
+            try {
+                consumer.accept(t, u);
+                return Result.success(null);
+            } catch (final Exception e) {
+                return Result.failed(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingBiConsumer instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given consumer is invoked directly
+     *
+     * @param <T1>     the type of the first argument to the operation
+     * @param <T2>     the type of the second argument to the operation
+     * @param <E>      the type of the thrown checked exception
+     * @param consumer the ThrowingBiConsumer to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingBiConsumer instance that records its invocations
+     */
+    static <T1, T2, E extends Exception> ThrowingBiConsumer<T1, T2, E> instrumented(ThrowingBiConsumer<? super T1, ? super T2, ? extends E> consumer, InvocationMetrics metrics) {
+        requireNonNull(consumer);
+        requireNonNull(metrics);
+        return (t, t2) -> {
+            if (!metrics.isEnabled()) {
+                consumer.accept(t, t2);
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                consumer.accept(t, t2);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+        };
+    }
+
+    /**
+     * Returns a new BiConsumer instance which handles exceptions thrown by the given consumer using the given Recovery:
+     * calls the matching handler and discards its value, throws the exception it translates into, or rethrows
+     * the exception as-is if there is no handler for it
+     *
+     * @param <T>      the type of the first argument to the operation
+     * @param <U>      the type of the second argument to the operation
+     * @param consumer the ThrowingBiConsumer to wrap
+     * @param recovery the Recovery handling thrown exceptions
+     * @return BiConsumer instance recovering from exceptions with the given Recovery
+     */
+    static <T, U> BiConsumer<T, U> recovering(ThrowingBiConsumer<? super T, ? super U, ?> consumer, Recovery<?> recovery) {
+        requireNonNull(consumer);
+        requireNonNull(recovery);
+        return (t, u) -> {
+            try {
+                consumer.accept(t, u);
+            } catch (final Exception e) {
+                recovery.handle(e);
+            }
+        };
+    }
 }
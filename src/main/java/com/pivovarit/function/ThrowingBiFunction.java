@@ -45,6 +45,20 @@ public interface ThrowingBiFunction<T1, T2, R, E extends Exception> {
      */
     R apply(T1 arg1, T2 arg2) throws E;
 
+    /**
+     * Returns a composed function that first applies this function to its inputs, and then applies the {@code after}
+     * function to the result. Exceptions thrown by either function are propagated as-is, so the whole chain can be
+     * adapted once, e.g. using {@link #unchecked(ThrowingBiFunction)}, instead of adapting every stage
+     *
+     * @param <V>   the type of the result of the {@code after} function, and of the composed function
+     * @param after the function to apply after this function
+     * @return a composed function that first applies this function and then the {@code after} function
+     */
+    default <V> ThrowingBiFunction<T1, T2, V, E> andThen(ThrowingFunction<? super R, ? extends V, ? extends E> after) {
+        requireNonNull(after);
+        return (t1, t2) -> after.apply(apply(t1, t2));
+    }
+
     /**
      * Returns a new BiFunction instance which wraps the thrown checked exception instance into a {@link CheckedException}
      *
@@ -106,4 +120,81 @@ public interface ThrowingBiFunction<T1, T2, R, E extends Exception> {
             }
         };
     }
+
+    /**
+     * Returns a new BiFunction instance which returns the result as a {@link Result}, holding either the value or the thrown exception
+     *
+     * @param <T1>     the type of the first argument to the function
+     * @param <T2>     the type of the second argument to the function
+     * @param <R>      the type of the result of the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingBiFunction to wrap
+     * @return BiFunction instance that returns a successful Result, or a failed Result holding the thrown exception
+     */
+    static <T1, T2, R, E extends Exception> BiFunction<T1, T2, Result<R, E>> attempt(ThrowingBiFunction<? super T1, ? super T2, ? extends R, ? extends E> function) {
+        requireNonNull(function);
+        return (t1, t2) -> {
+            try {
+                return Result.success(function.apply(t1, t2));
+            } catch (final Exception e) {
+                return Result.failed(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingBiFunction instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given function is invoked directly
+     *
+     * @param <T1>     the type of the first argument to the function
+     * @param <T2>     the type of the second argument to the function
+     * @param <R>       the type of the result of the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingBiFunction to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingBiFunction instance that records its invocations
+     */
+    static <T1, T2, R, E extends Exception> ThrowingBiFunction<T1, T2, R, E> instrumented(ThrowingBiFunction<? super T1, ? super T2, ? extends R, ? extends E> function, InvocationMetrics metrics) {
+        requireNonNull(function);
+        requireNonNull(metrics);
+        return (arg1, arg2) -> {
+            if (!metrics.isEnabled()) {
+                return function.apply(arg1, arg2);
+            }
+            long start = System.nanoTime();
+            R result;
+            try {
+                result = function.apply(arg1, arg2);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new BiFunction instance which handles exceptions thrown by the given function using the given Recovery:
+     * recovers with the value of the matching handler, throws the exception it translates into, or rethrows
+     * the exception as-is if there is no handler for it
+     *
+     * @param <T1>     the type of the first argument to the function
+     * @param <T2>     the type of the second argument to the function
+     * @param <R>      the type of the result of the function
+     * @param function the ThrowingBiFunction to wrap
+     * @param recovery the Recovery handling thrown exceptions
+     * @return BiFunction instance recovering from exceptions with the given Recovery
+     */
+    static <T1, T2, R> BiFunction<T1, T2, R> recovering(ThrowingBiFunction<? super T1, ? super T2, ? extends R, ?> function, Recovery<? extends R> recovery) {
+        requireNonNull(function);
+        requireNonNull(recovery);
+        return (t1, t2) -> {
+            try {
+                return function.apply(t1, t2);
+            } catch (final Exception e) {
+                return recovery.handle(e);
+            }
+        };
+    }
 }
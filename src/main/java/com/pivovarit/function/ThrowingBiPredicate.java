@@ -16,6 +16,7 @@
 package com.pivovarit.function;
 
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 
 import static java.util.Objects.requireNonNull;
@@ -80,4 +81,78 @@ public interface ThrowingBiPredicate<T, U, E extends Exception> {
             }
         };
     }
+
+    /**
+     * Returns a new BiFunction instance which returns the result as a {@link Result}, holding either the value or the thrown exception
+     *
+     * @param <T>       the type of the first argument to the predicate
+     * @param <U>       the type of the second argument to the predicate
+     * @param <E>       the type of the thrown checked exception
+     * @param predicate the ThrowingBiPredicate to wrap
+     * @return BiFunction instance that returns a successful Result, or a failed Result holding the thrown exception
+     */
+    static <T, U, E extends Exception> BiFunction<T, U, Result<Boolean, E>> attempt(ThrowingBiPredicate<? super T, ? super U, ? extends E> predicate) {
+        requireNonNull(predicate);
+        return (t, u) -> {
+            try {
+                return Result.success(predicate.test(t, u));
+            } catch (final Exception e) {
+                return Result.failed(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingBiPredicate instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given predicate is invoked directly
+     *
+     * @param <T>       the type of the first argument to the predicate
+     * @param <U>       the type of the second argument to the predicate
+     * @param <E>       the type of the thrown checked exception
+     * @param predicate the ThrowingBiPredicate to instrument
+     * @param metrics   the InvocationMetrics instance recording the invocations
+     * @return ThrowingBiPredicate instance that records its invocations
+     */
+    static <T, U, E extends Exception> ThrowingBiPredicate<T, U, E> instrumented(ThrowingBiPredicate<? super T, ? super U, ? extends E> predicate, InvocationMetrics metrics) {
+        requireNonNull(predicate);
+        requireNonNull(metrics);
+        return (t, u) -> {
+            if (!metrics.isEnabled()) {
+                return predicate.test(t, u);
+            }
+            long start = System.nanoTime();
+            boolean result;
+            try {
+                result = predicate.test(t, u);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new BiPredicate instance which handles exceptions thrown by the given predicate using the given Recovery:
+     * recovers with the value of the matching handler, throws the exception it translates into, or rethrows
+     * the exception as-is if there is no handler for it. Recovered values must not be null
+     *
+     * @param <T>       the type of the first argument to the predicate
+     * @param <U>       the type of the second argument to the predicate
+     * @param predicate the ThrowingBiPredicate to wrap
+     * @param recovery  the Recovery handling thrown exceptions
+     * @return BiPredicate instance recovering from exceptions with the given Recovery
+     */
+    static <T, U> BiPredicate<T, U> recovering(ThrowingBiPredicate<? super T, ? super U, ?> predicate, Recovery<Boolean> recovery) {
+        requireNonNull(predicate);
+        requireNonNull(recovery);
+        return (t, u) -> {
+            try {
+                return predicate.test(t, u);
+            } catch (final Exception e) {
+                return recovery.handle(e);
+            }
+        };
+    }
 }
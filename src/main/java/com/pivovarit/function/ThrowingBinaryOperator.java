@@ -15,6 +15,7 @@
  */
 package com.pivovarit.function;
 
+import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 
 import static java.util.Objects.requireNonNull;
@@ -72,4 +73,75 @@ public interface ThrowingBinaryOperator<T, E extends Exception> extends Throwing
             }
         };
     }
+
+    /**
+     * Returns a new BiFunction instance which returns the result as a {@link Result}, holding either the value or the thrown exception
+     *
+     * @param <T>      the type of the operands and result of the operator
+     * @param <E>      the type of the thrown checked exception
+     * @param operator the ThrowingBinaryOperator to wrap
+     * @return BiFunction instance that returns a successful Result, or a failed Result holding the thrown exception
+     */
+    static <T, E extends Exception> BiFunction<T, T, Result<T, E>> attempt(ThrowingBinaryOperator<T, ? extends E> operator) {
+        requireNonNull(operator);
+        return (t1, t2) -> {
+            try {
+                return Result.success(operator.apply(t1, t2));
+            } catch (final Exception e) {
+                return Result.failed(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingBinaryOperator instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given operator is invoked directly
+     *
+     * @param <T>      the type of the operands and result of the operator
+     * @param <E>      the type of the thrown checked exception
+     * @param operator the ThrowingBinaryOperator to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingBinaryOperator instance that records its invocations
+     */
+    static <T, E extends Exception> ThrowingBinaryOperator<T, E> instrumented(ThrowingBinaryOperator<T, ? extends E> operator, InvocationMetrics metrics) {
+        requireNonNull(operator);
+        requireNonNull(metrics);
+        return (t1, t2) -> {
+            if (!metrics.isEnabled()) {
+                return operator.apply(t1, t2);
+            }
+            long start = System.nanoTime();
+            T result;
+            try {
+                result = operator.apply(t1, t2);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new BinaryOperator instance which handles exceptions thrown by the given operator using the given Recovery:
+     * recovers with the value of the matching handler, throws the exception it translates into, or rethrows
+     * the exception as-is if there is no handler for it
+     *
+     * @param <T>      the type of the operands and result of the operator
+     * @param operator the ThrowingBinaryOperator to wrap
+     * @param recovery the Recovery handling thrown exceptions
+     * @return BinaryOperator instance recovering from exceptions with the given Recovery
+     */
+    static <T> BinaryOperator<T> recovering(ThrowingBinaryOperator<T, ?> operator, Recovery<? extends T> recovery) {
+        requireNonNull(operator);
+        requireNonNull(recovery);
+        return (t1, t2) -> {
+            try {
+                return operator.apply(t1, t2);
+            } catch (final Exception e) {
+                return recovery.handle(e);
+            }
+        };
+    }
 }
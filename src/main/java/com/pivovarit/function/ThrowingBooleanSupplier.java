@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.function.BooleanSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a supplier of {@code boolean}-valued results.  This is the
+ * {@code boolean}-producing primitive specialization of {@link ThrowingSupplier}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingSupplier
+ */
+@FunctionalInterface
+public interface ThrowingBooleanSupplier<E extends Exception> {
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     * @throws E the checked exception type
+     */
+    boolean getAsBoolean() throws E;
+
+    /**
+     * Returns a new BooleanSupplier instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param supplier the ThrowingBooleanSupplier to wrap
+     * @return BooleanSupplier instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static BooleanSupplier unchecked(ThrowingBooleanSupplier<?> supplier) {
+        requireNonNull(supplier);
+        return () -> {
+            try {
+                return supplier.getAsBoolean();
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new BooleanSupplier instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param supplier the ThrowingBooleanSupplier to wrap
+     * @return BooleanSupplier instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static BooleanSupplier sneaky(ThrowingBooleanSupplier<?> supplier) {
+        requireNonNull(supplier);
+        return () -> {
+            try {
+                return supplier.getAsBoolean();
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingBooleanSupplier instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given supplier is invoked directly
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingBooleanSupplier to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingBooleanSupplier instance that records its invocations
+     */
+    static <E extends Exception> ThrowingBooleanSupplier<E> instrumented(ThrowingBooleanSupplier<? extends E> supplier, InvocationMetrics metrics) {
+        requireNonNull(supplier);
+        requireNonNull(metrics);
+        return () -> {
+            if (!metrics.isEnabled()) {
+                return supplier.getAsBoolean();
+            }
+            long start = System.nanoTime();
+            boolean result;
+            try {
+                result = supplier.getAsBoolean();
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
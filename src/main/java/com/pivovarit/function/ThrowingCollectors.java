@@ -0,0 +1,327 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collectors accepting throwing functions, which complete with a {@link Result} instead of throwing from inside
+ * the stream. Calling {@link Result#get()} on the collected Result returns the value, or rethrows the original
+ * exception with its type {@code E} preserved.
+ * <p>
+ * Once a function throws, the remaining elements are skipped. In parallel streams, every partition keeps its first
+ * failure: the Result holds the failure earliest in encounter order, with the failures of later partitions attached
+ * to it as suppressed exceptions, each exactly once. This modifies the exception held by the Result, so a function
+ * throwing a shared or cached instance should create it with suppression disabled.
+ *
+ * <pre>{@code
+ * Map<String, URI> byHost = urls.parallelStream()
+ *   .collect(ThrowingCollectors.toMap(url -> new URI(url).getHost(), URI::new))
+ *   .get(); // throws URISyntaxException
+ * }</pre>
+ *
+ * @author Grzegorz Piwowarek
+ */
+public final class ThrowingCollectors {
+
+    private ThrowingCollectors() {
+    }
+
+    /**
+     * Returns a Collector built from throwing functions, which completes with a successful Result holding the value
+     * returned by the finisher, or a failed Result holding the first thrown exception
+     *
+     * @param <T>         the type of input elements
+     * @param <A>         the mutable accumulation type
+     * @param <R>         the type of the result
+     * @param <E>         the type of the thrown checked exception
+     * @param supplier    the Supplier of new containers
+     * @param accumulator the ThrowingBiConsumer adding an element to a container
+     * @param combiner    the ThrowingBinaryOperator merging two containers
+     * @param finisher    the ThrowingFunction transforming the container into the result
+     * @return Collector completing with a Result
+     */
+    public static <T, A, R, E extends Exception> Collector<T, ?, Result<R, E>> of(Supplier<A> supplier, ThrowingBiConsumer<A, ? super T, ? extends E> accumulator, ThrowingBinaryOperator<A, ? extends E> combiner, ThrowingFunction<A, ? extends R, ? extends E> finisher) {
+        requireNonNull(supplier);
+        requireNonNull(accumulator);
+        requireNonNull(combiner);
+        requireNonNull(finisher);
+        return Collector.of(
+          () -> new Container<>(supplier.get()),
+          (container, t) -> container.accumulate(accumulator, t),
+          (left, right) -> left.combine(right, combiner),
+          container -> container.finish(finisher));
+    }
+
+    /**
+     * Returns a Collector accumulating elements into a Map, whose keys and values are the results of the given
+     * throwing functions. Duplicate keys result in a failed Result holding an {@link IllegalStateException}
+     *
+     * @param <T>         the type of input elements
+     * @param <K>         the type of keys
+     * @param <U>         the type of values
+     * @param <E>         the type of the thrown checked exception
+     * @param keyMapper   the ThrowingFunction producing keys
+     * @param valueMapper the ThrowingFunction producing values
+     * @return Collector completing with a Result holding a HashMap
+     */
+    public static <T, K, U, E extends Exception> Collector<T, ?, Result<Map<K, U>, E>> toMap(ThrowingFunction<? super T, ? extends K, ? extends E> keyMapper, ThrowingFunction<? super T, ? extends U, ? extends E> valueMapper) {
+        return toMap(keyMapper, valueMapper, (u1, u2) -> {
+            throw new IllegalStateException("Duplicate key (attempted merging values " + u1 + " and " + u2 + ")");
+        }, HashMap::new);
+    }
+
+    /**
+     * Returns a Collector accumulating elements into a Map, whose keys and values are the results of the given
+     * throwing functions. Values of duplicate keys are merged using the given merge function
+     *
+     * @param <T>           the type of input elements
+     * @param <K>           the type of keys
+     * @param <U>           the type of values
+     * @param <E>           the type of the thrown checked exception
+     * @param keyMapper     the ThrowingFunction producing keys
+     * @param valueMapper   the ThrowingFunction producing values
+     * @param mergeFunction the ThrowingBinaryOperator merging values of the same key
+     * @return Collector completing with a Result holding a HashMap
+     */
+    public static <T, K, U, E extends Exception> Collector<T, ?, Result<Map<K, U>, E>> toMap(ThrowingFunction<? super T, ? extends K, ? extends E> keyMapper, ThrowingFunction<? super T, ? extends U, ? extends E> valueMapper, ThrowingBinaryOperator<U, ? extends E> mergeFunction) {
+        return toMap(keyMapper, valueMapper, mergeFunction, HashMap::new);
+    }
+
+    /**
+     * Returns a Collector accumulating elements into a Map created by the given factory, whose keys and values
+     * are the results of the given throwing functions. Values of duplicate keys are merged using the given merge function
+     *
+     * @param <T>           the type of input elements
+     * @param <K>           the type of keys
+     * @param <U>           the type of values
+     * @param <M>           the type of the Map
+     * @param <E>           the type of the thrown checked exception
+     * @param keyMapper     the ThrowingFunction producing keys
+     * @param valueMapper   the ThrowingFunction producing values
+     * @param mergeFunction the ThrowingBinaryOperator merging values of the same key
+     * @param mapFactory    the Supplier of new, empty maps
+     * @return Collector completing with a Result holding a Map created by the given factory
+     */
+    public static <T, K, U, M extends Map<K, U>, E extends Exception> Collector<T, ?, Result<M, E>> toMap(ThrowingFunction<? super T, ? extends K, ? extends E> keyMapper, ThrowingFunction<? super T, ? extends U, ? extends E> valueMapper, ThrowingBinaryOperator<U, ? extends E> mergeFunction, Supplier<M> mapFactory) {
+        requireNonNull(keyMapper);
+        requireNonNull(valueMapper);
+        requireNonNull(mergeFunction);
+        return ThrowingCollectors.<T, M, M, E>of(mapFactory,
+          (map, t) -> merge(map, keyMapper.apply(t), requireNonNull(valueMapper.apply(t)), mergeFunction),
+          (left, right) -> {
+              for (Map.Entry<K, U> entry : right.entrySet()) {
+                  merge(left, entry.getKey(), entry.getValue(), mergeFunction);
+              }
+              return left;
+          },
+          map -> map);
+    }
+
+    /**
+     * Returns a Collector grouping elements into lists by the keys returned by the given throwing classifier
+     *
+     * @param <T>        the type of input elements
+     * @param <K>        the type of keys
+     * @param <E>        the type of the thrown checked exception
+     * @param classifier the ThrowingFunction mapping elements to keys
+     * @return Collector completing with a Result holding a HashMap of lists
+     */
+    public static <T, K, E extends Exception> Collector<T, ?, Result<Map<K, List<T>>, E>> groupingBy(ThrowingFunction<? super T, ? extends K, ? extends E> classifier) {
+        return groupingBy(classifier, Collectors.toList());
+    }
+
+    /**
+     * Returns a Collector grouping elements by the keys returned by the given throwing classifier,
+     * and collecting the elements of every group using the given downstream Collector
+     *
+     * @param <T>        the type of input elements
+     * @param <K>        the type of keys
+     * @param <A>        the intermediate accumulation type of the downstream collector
+     * @param <D>        the result type of the downstream collector
+     * @param <E>        the type of the thrown checked exception
+     * @param classifier the ThrowingFunction mapping elements to keys
+     * @param downstream the Collector reducing the elements of every group
+     * @return Collector completing with a Result holding a HashMap of downstream results
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, K, A, D, E extends Exception> Collector<T, ?, Result<Map<K, D>, E>> groupingBy(ThrowingFunction<? super T, ? extends K, ? extends E> classifier, Collector<? super T, A, D> downstream) {
+        requireNonNull(classifier);
+        Supplier<A> downstreamSupplier = downstream.supplier();
+        BiConsumer<A, ? super T> downstreamAccumulator = downstream.accumulator();
+        BinaryOperator<A> downstreamCombiner = downstream.combiner();
+        Function<A, D> downstreamFinisher = downstream.finisher();
+        boolean identityFinish = downstream.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH);
+        return ThrowingCollectors.<T, Map<K, A>, Map<K, D>, E>of(HashMap::new,
+          (map, t) -> {
+              K key = requireNonNull(classifier.apply(t), "element cannot be mapped to a null key");
+              downstreamAccumulator.accept(map.computeIfAbsent(key, k -> downstreamSupplier.get()), t);
+          },
+          (left, right) -> {
+              for (Map.Entry<K, A> entry : right.entrySet()) {
+                  left.merge(entry.getKey(), entry.getValue(), downstreamCombiner);
+              }
+              return left;
+          },
+          map -> {
+              if (!identityFinish) {
+                  ((Map<K, Object>) (Map<K, ?>) map).replaceAll((k, v) -> downstreamFinisher.apply((A) v));
+              }
+              return (Map<K, D>) (Map<K, ?>) map;
+          });
+    }
+
+    /**
+     * Returns a Collector applying the given throwing mapper to every element before passing it to the given
+     * downstream Collector
+     *
+     * @param <T>        the type of input elements
+     * @param <U>        the type of elements accepted by the downstream collector
+     * @param <A>        the intermediate accumulation type of the downstream collector
+     * @param <R>        the result type of the downstream collector
+     * @param <E>        the type of the thrown checked exception
+     * @param mapper     the ThrowingFunction applied to input elements
+     * @param downstream the Collector accepting mapped elements
+     * @return Collector completing with a Result holding the result of the downstream collector
+     */
+    public static <T, U, A, R, E extends Exception> Collector<T, ?, Result<R, E>> mapping(ThrowingFunction<? super T, ? extends U, ? extends E> mapper, Collector<? super U, A, R> downstream) {
+        requireNonNull(mapper);
+        BiConsumer<A, ? super U> downstreamAccumulator = downstream.accumulator();
+        BinaryOperator<A> downstreamCombiner = downstream.combiner();
+        Function<A, R> downstreamFinisher = downstream.finisher();
+        return ThrowingCollectors.<T, A, R, E>of(downstream.supplier(),
+          (container, t) -> downstreamAccumulator.accept(container, mapper.apply(t)),
+          downstreamCombiner::apply,
+          downstreamFinisher::apply);
+    }
+
+    /**
+     * Returns a Collector reducing elements using the given throwing operator and identity
+     *
+     * @param <T>      the type of input elements
+     * @param <E>      the type of the thrown checked exception
+     * @param identity the identity value of the reduction
+     * @param op       the ThrowingBinaryOperator reducing two values
+     * @return Collector completing with a Result holding the reduced value
+     */
+    public static <T, E extends Exception> Collector<T, ?, Result<T, E>> reducing(T identity, ThrowingBinaryOperator<T, ? extends E> op) {
+        return reducing(identity, t -> t, op);
+    }
+
+    /**
+     * Returns a Collector reducing elements mapped by the given throwing mapper, using the given throwing operator
+     * and identity
+     *
+     * @param <T>      the type of input elements
+     * @param <U>      the type of mapped values
+     * @param <E>      the type of the thrown checked exception
+     * @param identity the identity value of the reduction
+     * @param mapper   the ThrowingFunction applied to input elements
+     * @param op       the ThrowingBinaryOperator reducing two values
+     * @return Collector completing with a Result holding the reduced value
+     */
+    public static <T, U, E extends Exception> Collector<T, ?, Result<U, E>> reducing(U identity, ThrowingFunction<? super T, ? extends U, ? extends E> mapper, ThrowingBinaryOperator<U, ? extends E> op) {
+        requireNonNull(mapper);
+        requireNonNull(op);
+        return ThrowingCollectors.<T, Box<U>, U, E>of(() -> new Box<>(identity),
+          (box, t) -> box.value = op.apply(box.value, mapper.apply(t)),
+          (left, right) -> {
+              left.value = op.apply(left.value, right.value);
+              return left;
+          },
+          box -> box.value);
+    }
+
+    private static <K, U, E extends Exception> void merge(Map<K, U> map, K key, U value, ThrowingBinaryOperator<U, ? extends E> mergeFunction) throws E {
+        U existing = map.putIfAbsent(key, value);
+        if (existing != null) {
+            map.put(key, mergeFunction.apply(existing, value));
+        }
+    }
+
+    private static final class Box<U> {
+
+        private U value;
+
+        Box(U value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * A mutable container, together with the first exception thrown while accumulating into it. Once failed,
+     * it ignores further elements, and a combined container keeps the failure of the left one, which comes earlier
+     * in encounter order, and suppresses the other one.
+     */
+    private static final class Container<A> {
+
+        private A value;
+        private Exception failure;
+
+        Container(A value) {
+            this.value = value;
+        }
+
+        <T> void accumulate(ThrowingBiConsumer<A, ? super T, ?> accumulator, T t) {
+            if (failure != null) {
+                return;
+            }
+            try {
+                accumulator.accept(value, t);
+            } catch (final Exception e) {
+                failure = e;
+            }
+        }
+
+        Container<A> combine(Container<A> right, ThrowingBinaryOperator<A, ?> combiner) {
+            if (failure != null || right.failure != null) {
+                if (failure == null) {
+                    failure = right.failure;
+                } else if (right.failure != null) {
+                    Failure.suppress(failure, right.failure);
+                }
+                return this;
+            }
+            try {
+                value = combiner.apply(value, right.value);
+            } catch (final Exception e) {
+                failure = e;
+            }
+            return this;
+        }
+
+        <R, E extends Exception> Result<R, E> finish(ThrowingFunction<A, ? extends R, ?> finisher) {
+            if (failure != null) {
+                return Result.failed(failure);
+            }
+            try {
+                return Result.success(finisher.apply(value));
+            } catch (final Exception e) {
+                return Result.failed(e);
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@ package com.pivovarit.function;
 
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
 
@@ -40,6 +41,22 @@ public interface ThrowingConsumer<T, E extends Exception> {
      */
     void accept(T t) throws E;
 
+    /**
+     * Returns a composed consumer that performs this operation followed by the {@code after} operation. An exception
+     * thrown by this operation is propagated as-is and skips the {@code after} operation, so the whole chain can be
+     * adapted once, e.g. using {@link #unchecked(ThrowingConsumer)}, instead of adapting every stage
+     *
+     * @param after the operation to perform after this operation
+     * @return a composed consumer that performs this operation followed by the {@code after} operation
+     */
+    default ThrowingConsumer<T, E> andThen(ThrowingConsumer<? super T, ? extends E> after) {
+        requireNonNull(after);
+        return t -> {
+            accept(t);
+            after.accept(t);
+        };
+    }
+
     /**
      * Returns a new Consumer instance which wraps the thrown checked exception instance into a {@link CheckedException}
      *
@@ -75,4 +92,117 @@ public interface ThrowingConsumer<T, E extends Exception> {
             }
         };
     }
+
+    /**
+     * Returns a new Function instance which returns a {@link Result} holding either nothing or the thrown exception.
+     * Successful invocations return a shared Result instance
+     *
+     * @param <T>      the type of the input to the operation
+     * @param <E>      the type of the thrown checked exception
+     * @param consumer the ThrowingConsumer to wrap
+     * @return Function instance that returns a successful Result, or a failed Result holding the thrown exception
+     */
+    static <T, E extends Exception> Function<T, Result<Void, E>> attempt(ThrowingConsumer<? super T, ? extends E> consumer) {
+        requireNonNull(consumer);
+        return t -> {
+            try {
+                consumer.accept(t);
+                return Result.success(null);
+            } catch (final Exception e) {
+                return Result.failed(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingConsumer instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given consumer is invoked directly
+     *
+     * @param <T>      the type of the input to the function
+     * @param <E>      the type of the thrown checked exception
+     * @param consumer the ThrowingConsumer to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingConsumer instance that records its invocations
+     */
+    static <T, E extends Exception> ThrowingConsumer<T, E> instrumented(ThrowingConsumer<? super T, ? extends E> consumer, InvocationMetrics metrics) {
+        requireNonNull(consumer);
+        requireNonNull(metrics);
+        return t -> {
+            if (!metrics.isEnabled()) {
+                consumer.accept(t);
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                consumer.accept(t);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+        };
+    }
+
+    /**
+     * Returns a new ThrowingConsumer instance which acquires a permit from the given RateLimiter before every call.
+     * Calls without a permit throw a shared {@link CallNotPermittedException}
+     *
+     * @param <T>      the type of the input to the operation
+     * @param <E>      the type of the thrown checked exception
+     * @param consumer the ThrowingConsumer to limit
+     * @param limiter  the RateLimiter issuing permits
+     * @return ThrowingConsumer instance limited by the given RateLimiter
+     */
+    static <T, E extends Exception> ThrowingConsumer<T, E> rateLimited(ThrowingConsumer<? super T, ? extends E> consumer, RateLimiter limiter) {
+        requireNonNull(consumer);
+        requireNonNull(limiter);
+        return t -> {
+            limiter.acquirePermit();
+            consumer.accept(t);
+        };
+    }
+
+    /**
+     * Returns a new ThrowingConsumer instance which acquires a permit for the key of the argument from the given
+     * KeyedRateLimiter before every call. Calls without a permit throw a shared {@link CallNotPermittedException}
+     *
+     * @param <T>      the type of the input to the operation
+     * @param <K>      the type of the keys
+     * @param <E>      the type of the thrown checked exception
+     * @param consumer the ThrowingConsumer to limit
+     * @param limiter  the KeyedRateLimiter issuing permits
+     * @param key      the Function extracting the key from the argument
+     * @return ThrowingConsumer instance limited by the given KeyedRateLimiter
+     */
+    static <T, K, E extends Exception> ThrowingConsumer<T, E> rateLimited(ThrowingConsumer<? super T, ? extends E> consumer, KeyedRateLimiter<K> limiter, Function<? super T, ? extends K> key) {
+        requireNonNull(consumer);
+        requireNonNull(limiter);
+        requireNonNull(key);
+        return t -> {
+            limiter.acquirePermit(key.apply(t));
+            consumer.accept(t);
+        };
+    }
+
+    /**
+     * Returns a new Consumer instance which handles exceptions thrown by the given consumer using the given Recovery:
+     * calls the matching handler and discards its value, throws the exception it translates into, or rethrows
+     * the exception as-is if there is no handler for it
+     *
+     * @param <T>      the type of the input to the operation
+     * @param consumer the ThrowingConsumer to wrap
+     * @param recovery the Recovery handling thrown exceptions
+     * @return Consumer instance recovering from exceptions with the given Recovery
+     */
+    static <T> Consumer<T> recovering(ThrowingConsumer<? super T, ?> consumer, Recovery<?> recovery) {
+        requireNonNull(consumer);
+        requireNonNull(recovery);
+        return t -> {
+            try {
+                consumer.accept(t);
+            } catch (final Exception e) {
+                recovery.handle(e);
+            }
+        };
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.Optional;
+import java.util.function.DoubleFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a function that accepts a double-valued argument and produces a
+ * result.  This is the {@code double}-consuming primitive specialization for
+ * {@link ThrowingFunction}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <R> the type of the result of the function
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction
+ */
+@FunctionalInterface
+public interface ThrowingDoubleFunction<R, E extends Exception> {
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param value the function argument
+     * @return the function result
+     * @throws E the checked exception type
+     */
+    R apply(double value) throws E;
+
+    /**
+     * Returns a new DoubleFunction instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param <R>      the type of the result of the function
+     * @param function the ThrowingDoubleFunction to wrap
+     * @return DoubleFunction instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static <R> DoubleFunction<R> unchecked(ThrowingDoubleFunction<? extends R, ?> function) {
+        requireNonNull(function);
+        return value -> {
+            try {
+                return function.apply(value);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new DoubleFunction instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param <R>      the type of the result of the function
+     * @param function the ThrowingDoubleFunction to wrap
+     * @return DoubleFunction instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static <R> DoubleFunction<R> sneaky(ThrowingDoubleFunction<? extends R, ?> function) {
+        requireNonNull(function);
+        return value -> {
+            try {
+                return function.apply(value);
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new DoubleFunction instance which returns the result as an Optional, or an empty Optional in case of a thrown exception
+     *
+     * @param <R>      the type of the result of the function
+     * @param function the ThrowingDoubleFunction to wrap
+     * @return DoubleFunction instance that returns the result as an Optional, or empty Optional in case of a thrown exception
+     */
+    static <R> DoubleFunction<Optional<R>> optional(ThrowingDoubleFunction<? extends R, ?> function) {
+        requireNonNull(function);
+        return value -> {
+            try {
+                return Optional.ofNullable(function.apply(value));
+            } catch (final Exception e) {
+                return Optional.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingDoubleFunction instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given function is invoked directly
+     *
+     * @param <R>      the type of the result of the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingDoubleFunction to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingDoubleFunction instance that records its invocations
+     */
+    static <R, E extends Exception> ThrowingDoubleFunction<R, E> instrumented(ThrowingDoubleFunction<? extends R, ? extends E> function, InvocationMetrics metrics) {
+        requireNonNull(function);
+        requireNonNull(metrics);
+        return value -> {
+            if (!metrics.isEnabled()) {
+                return function.apply(value);
+            }
+            long start = System.nanoTime();
+            R result;
+            try {
+                result = function.apply(value);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.function.DoublePredicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a predicate (boolean-valued function) of one {@code double}-valued
+ * argument. This is the {@code double}-consuming primitive type specialization of
+ * {@link ThrowingPredicate}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingPredicate
+ */
+@FunctionalInterface
+public interface ThrowingDoublePredicate<E extends Exception> {
+    /**
+     * Evaluates this predicate on the given argument.
+     *
+     * @param value the input argument
+     * @return {@code true} if the input argument matches the predicate, otherwise {@code false}
+     * @throws E the checked exception type
+     */
+    boolean test(double value) throws E;
+
+    /**
+     * Returns a new DoublePredicate instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param predicate the ThrowingDoublePredicate to wrap
+     * @return DoublePredicate instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static DoublePredicate unchecked(ThrowingDoublePredicate<?> predicate) {
+        requireNonNull(predicate);
+        return value -> {
+            try {
+                return predicate.test(value);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new DoublePredicate instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param predicate the ThrowingDoublePredicate to wrap
+     * @return DoublePredicate instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static DoublePredicate sneaky(ThrowingDoublePredicate<?> predicate) {
+        requireNonNull(predicate);
+        return value -> {
+            try {
+                return predicate.test(value);
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingDoublePredicate instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given predicate is invoked directly
+     *
+     * @param <E>       the type of the thrown checked exception
+     * @param predicate the ThrowingDoublePredicate to instrument
+     * @param metrics   the InvocationMetrics instance recording the invocations
+     * @return ThrowingDoublePredicate instance that records its invocations
+     */
+    static <E extends Exception> ThrowingDoublePredicate<E> instrumented(ThrowingDoublePredicate<? extends E> predicate, InvocationMetrics metrics) {
+        requireNonNull(predicate);
+        requireNonNull(metrics);
+        return value -> {
+            if (!metrics.isEnabled()) {
+                return predicate.test(value);
+            }
+            long start = System.nanoTime();
+            boolean result;
+            try {
+                result = predicate.test(value);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
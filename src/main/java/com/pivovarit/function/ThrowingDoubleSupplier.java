@@ -0,0 +1,123 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.OptionalDouble;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a supplier of {@code double}-valued results.  This is the
+ * {@code double}-producing primitive specialization of {@link ThrowingSupplier}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingSupplier
+ */
+@FunctionalInterface
+public interface ThrowingDoubleSupplier<E extends Exception> {
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     * @throws E the checked exception type
+     */
+    double getAsDouble() throws E;
+
+    /**
+     * Returns a new DoubleSupplier instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param supplier the ThrowingDoubleSupplier to wrap
+     * @return DoubleSupplier instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static DoubleSupplier unchecked(ThrowingDoubleSupplier<?> supplier) {
+        requireNonNull(supplier);
+        return () -> {
+            try {
+                return supplier.getAsDouble();
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new DoubleSupplier instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param supplier the ThrowingDoubleSupplier to wrap
+     * @return DoubleSupplier instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static DoubleSupplier sneaky(ThrowingDoubleSupplier<?> supplier) {
+        requireNonNull(supplier);
+        return () -> {
+            try {
+                return supplier.getAsDouble();
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new Supplier instance which returns the result as an OptionalDouble, or an empty OptionalDouble in case of a thrown exception
+     *
+     * @param supplier the ThrowingDoubleSupplier to wrap
+     * @return Supplier instance that returns the result as an OptionalDouble, or empty OptionalDouble in case of a thrown exception
+     */
+    static Supplier<OptionalDouble> optional(ThrowingDoubleSupplier<?> supplier) {
+        requireNonNull(supplier);
+        return () -> {
+            try {
+                return OptionalDouble.of(supplier.getAsDouble());
+            } catch (final Exception e) {
+                return OptionalDouble.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingDoubleSupplier instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given supplier is invoked directly
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingDoubleSupplier to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingDoubleSupplier instance that records its invocations
+     */
+    static <E extends Exception> ThrowingDoubleSupplier<E> instrumented(ThrowingDoubleSupplier<? extends E> supplier, InvocationMetrics metrics) {
+        requireNonNull(supplier);
+        requireNonNull(metrics);
+        return () -> {
+            if (!metrics.isEnabled()) {
+                return supplier.getAsDouble();
+            }
+            long start = System.nanoTime();
+            double result;
+            try {
+                result = supplier.getAsDouble();
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.OptionalLong;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToLongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a function that accepts a double-valued argument and produces a
+ * long-valued result.  This is the {@code double}-to-{@code long} primitive
+ * specialization for {@link ThrowingFunction}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction
+ */
+@FunctionalInterface
+public interface ThrowingDoubleToLongFunction<E extends Exception> {
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param value the function argument
+     * @return the function result
+     * @throws E the checked exception type
+     */
+    long applyAsLong(double value) throws E;
+
+    /**
+     * Returns a new DoubleToLongFunction instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param function the ThrowingDoubleToLongFunction to wrap
+     * @return DoubleToLongFunction instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static DoubleToLongFunction unchecked(ThrowingDoubleToLongFunction<?> function) {
+        requireNonNull(function);
+        return value -> {
+            try {
+                return function.applyAsLong(value);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new DoubleToLongFunction instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param function the ThrowingDoubleToLongFunction to wrap
+     * @return DoubleToLongFunction instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static DoubleToLongFunction sneaky(ThrowingDoubleToLongFunction<?> function) {
+        requireNonNull(function);
+        return value -> {
+            try {
+                return function.applyAsLong(value);
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new DoubleFunction instance which returns the result as an OptionalLong, or an empty OptionalLong in case of a thrown exception
+     *
+     * @param function the ThrowingDoubleToLongFunction to wrap
+     * @return DoubleFunction instance that returns the result as an OptionalLong, or empty OptionalLong in case of a thrown exception
+     */
+    static DoubleFunction<OptionalLong> optional(ThrowingDoubleToLongFunction<?> function) {
+        requireNonNull(function);
+        return value -> {
+            try {
+                return OptionalLong.of(function.applyAsLong(value));
+            } catch (final Exception e) {
+                return OptionalLong.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingDoubleToLongFunction instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given function is invoked directly
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingDoubleToLongFunction to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingDoubleToLongFunction instance that records its invocations
+     */
+    static <E extends Exception> ThrowingDoubleToLongFunction<E> instrumented(ThrowingDoubleToLongFunction<? extends E> function, InvocationMetrics metrics) {
+        requireNonNull(function);
+        requireNonNull(metrics);
+        return value -> {
+            if (!metrics.isEnabled()) {
+                return function.applyAsLong(value);
+            }
+            long start = System.nanoTime();
+            long result;
+            try {
+                result = function.applyAsLong(value);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
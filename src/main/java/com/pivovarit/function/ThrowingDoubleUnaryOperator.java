@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.OptionalDouble;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an operation on a single {@code double}-valued operand that produces
+ * a {@code double}-valued result.  This is the primitive type specialization of
+ * {@link ThrowingUnaryOperator} for {@code double}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingUnaryOperator
+ */
+@FunctionalInterface
+public interface ThrowingDoubleUnaryOperator<E extends Exception> {
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand the operand
+     * @return the operator result
+     * @throws E the checked exception type
+     */
+    double applyAsDouble(double operand) throws E;
+
+    /**
+     * Returns a new DoubleUnaryOperator instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param operator the ThrowingDoubleUnaryOperator to wrap
+     * @return DoubleUnaryOperator instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static DoubleUnaryOperator unchecked(ThrowingDoubleUnaryOperator<?> operator) {
+        requireNonNull(operator);
+        return operand -> {
+            try {
+                return operator.applyAsDouble(operand);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new DoubleUnaryOperator instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param operator the ThrowingDoubleUnaryOperator to wrap
+     * @return DoubleUnaryOperator instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static DoubleUnaryOperator sneaky(ThrowingDoubleUnaryOperator<?> operator) {
+        requireNonNull(operator);
+        return operand -> {
+            try {
+                return operator.applyAsDouble(operand);
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new DoubleFunction instance which returns the result as an OptionalDouble, or an empty OptionalDouble in case of a thrown exception
+     *
+     * @param operator the ThrowingDoubleUnaryOperator to wrap
+     * @return DoubleFunction instance that returns the result as an OptionalDouble, or empty OptionalDouble in case of a thrown exception
+     */
+    static DoubleFunction<OptionalDouble> optional(ThrowingDoubleUnaryOperator<?> operator) {
+        requireNonNull(operator);
+        return operand -> {
+            try {
+                return OptionalDouble.of(operator.applyAsDouble(operand));
+            } catch (final Exception e) {
+                return OptionalDouble.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingDoubleUnaryOperator instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given operator is invoked directly
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param operator the ThrowingDoubleUnaryOperator to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingDoubleUnaryOperator instance that records its invocations
+     */
+    static <E extends Exception> ThrowingDoubleUnaryOperator<E> instrumented(ThrowingDoubleUnaryOperator<? extends E> operator, InvocationMetrics metrics) {
+        requireNonNull(operator);
+        requireNonNull(metrics);
+        return operand -> {
+            if (!metrics.isEnabled()) {
+                return operator.applyAsDouble(operand);
+            }
+            long start = System.nanoTime();
+            double result;
+            try {
+                result = operator.applyAsDouble(operand);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
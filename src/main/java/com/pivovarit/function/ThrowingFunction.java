@@ -15,8 +15,15 @@
  */
 package com.pivovarit.function;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 
 import static java.util.Objects.requireNonNull;
 
@@ -40,6 +47,34 @@ public interface ThrowingFunction<T, R, E extends Exception> {
      */
     R apply(T arg) throws E;
 
+    /**
+     * Returns a composed function that first applies this function to its input, and then applies the {@code after}
+     * function to the result. Exceptions thrown by either function are propagated as-is, so the whole chain can be
+     * adapted once, e.g. using {@link #unchecked(ThrowingFunction)}, instead of adapting every stage
+     *
+     * @param <V>   the type of the result of the {@code after} function, and of the composed function
+     * @param after the function to apply after this function
+     * @return a composed function that first applies this function and then the {@code after} function
+     */
+    default <V> ThrowingFunction<T, V, E> andThen(ThrowingFunction<? super R, ? extends V, ? extends E> after) {
+        requireNonNull(after);
+        return t -> after.apply(apply(t));
+    }
+
+    /**
+     * Returns a composed function that first applies the {@code before} function to its input, and then applies this
+     * function to the result. Exceptions thrown by either function are propagated as-is, so the whole chain can be
+     * adapted once, e.g. using {@link #unchecked(ThrowingFunction)}, instead of adapting every stage
+     *
+     * @param <V>    the type of the input to the {@code before} function, and to the composed function
+     * @param before the function to apply before this function
+     * @return a composed function that first applies the {@code before} function and then this function
+     */
+    default <V> ThrowingFunction<V, R, E> compose(ThrowingFunction<? super V, ? extends T, ? extends E> before) {
+        requireNonNull(before);
+        return v -> apply(before.apply(v));
+    }
+
     /**
      * Returns a new Function instance which returns the result as an Optional, or an empty Optional in case of a thrown exception
      *
@@ -61,6 +96,35 @@ public interface ThrowingFunction<T, R, E extends Exception> {
         };
     }
 
+    /**
+     * Returns a new Function instance which returns the result as an Optional, or an empty Optional in case of a thrown
+     * exception of one of the given types. Other exceptions are rethrown as-is using the Sneaky Throws pattern
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param function the ThrowingFunction to wrap
+     * @param types    the exception types resulting in an empty Optional
+     * @return a Function that returns the result of the given function as an Optional instance.
+     * In case of a failure with one of the given types, empty Optional is returned
+     */
+    @SafeVarargs
+    static <T, R> Function<T, Optional<R>> lifted(final ThrowingFunction<? super T, ? extends R, ?> function, Class<? extends Exception>... types) {
+        requireNonNull(function);
+        List<Class<? extends Exception>> emptyOn = new ArrayList<>(types.length);
+        for (Class<? extends Exception> type : types) {
+            emptyOn.add(type);
+        }
+        Recovery<Optional<R>> recovery = Recovery.emptyOn(emptyOn);
+
+        return t -> {
+            try {
+                return Optional.ofNullable(function.apply(t));
+            } catch (final Exception e) {
+                return recovery.handle(e);
+            }
+        };
+    }
+
     /**
      * Returns a new Function instance which wraps the thrown checked exception instance into a {@link CheckedException}
      *
@@ -113,4 +177,447 @@ public interface ThrowingFunction<T, R, E extends Exception> {
             }
         };
     }
+
+    /**
+     * Returns a new MemoizedFunction instance which remembers up to {@code maxSize} results of the given function.
+     * Failures are not remembered, and the function is invoked again on the next call with the same argument
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingFunction to memoize
+     * @param maxSize  the maximum number of remembered results
+     * @return MemoizedFunction instance backed by a bounded cache
+     */
+    static <T, R, E extends Exception> MemoizedFunction<T, R, E> memoized(ThrowingFunction<? super T, ? extends R, ? extends E> function, int maxSize) {
+        return memoized(function, maxSize, FailurePolicy.RETRY);
+    }
+
+    /**
+     * Returns a new MemoizedFunction instance which remembers up to {@code maxSize} results of the given function.
+     * Results which have not been used recently are evicted first
+     *
+     * @param <T>           the type of the input to the function
+     * @param <R>           the type of the result of the function
+     * @param <E>           the type of the thrown checked exception
+     * @param function      the ThrowingFunction to memoize
+     * @param maxSize       the maximum number of remembered results
+     * @param failurePolicy whether a thrown exception is remembered for the given argument, or the function is invoked again
+     * @return MemoizedFunction instance backed by a bounded cache
+     */
+    static <T, R, E extends Exception> MemoizedFunction<T, R, E> memoized(ThrowingFunction<? super T, ? extends R, ? extends E> function, int maxSize, FailurePolicy failurePolicy) {
+        requireNonNull(function);
+        requireNonNull(failurePolicy);
+        return new MemoizedFunction<>(function, maxSize, failurePolicy);
+    }
+
+    /**
+     * Returns a new ThrowingFunction instance which shares a single in-flight invocation of the given function between
+     * concurrent calls with an equal argument. Callers arriving while the invocation is in flight wait for it and
+     * receive its result, or the same exception instance it threw. Nothing is remembered once the invocation completes
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingFunction to coalesce calls of
+     * @return ThrowingFunction instance coalescing concurrent calls with an equal argument
+     */
+    static <T, R, E extends Exception> ThrowingFunction<T, R, E> coalescing(ThrowingFunction<? super T, ? extends R, ? extends E> function) {
+        requireNonNull(function);
+        return new CoalescingFunction<>(function);
+    }
+
+    /**
+     * Returns a new ThrowingFunction instance which retries the given function according to the given policy,
+     * blocking the calling thread between attempts. The last failure is rethrown once the policy gives up
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingFunction to retry
+     * @param policy   the RetryPolicy deciding which failures are retried and when
+     * @return ThrowingFunction instance that retries failed attempts
+     */
+    static <T, R, E extends Exception> ThrowingFunction<T, R, E> retrying(ThrowingFunction<? super T, ? extends R, ? extends E> function, RetryPolicy policy) {
+        requireNonNull(function);
+        requireNonNull(policy);
+        return t -> Retrier.call(() -> function.apply(t), policy);
+    }
+
+    /**
+     * Returns a new Function instance which runs the given function on the given scheduler and schedules retries
+     * according to the given policy instead of blocking a thread between attempts.
+     * The returned future is completed exceptionally with the last failure once the policy gives up
+     *
+     * @param <T>       the type of the input to the function
+     * @param <R>       the type of the result of the function
+     * @param function  the ThrowingFunction to retry
+     * @param policy    the RetryPolicy deciding which failures are retried and when
+     * @param scheduler the ScheduledExecutorService running the attempts
+     * @return Function instance that starts a new sequence of attempts on every call
+     */
+    static <T, R> Function<T, CompletableFuture<R>> retryingAsync(ThrowingFunction<? super T, ? extends R, ?> function, RetryPolicy policy, ScheduledExecutorService scheduler) {
+        requireNonNull(function);
+        requireNonNull(policy);
+        requireNonNull(scheduler);
+        return t -> Retrier.callAsync(() -> function.apply(t), policy, scheduler);
+    }
+
+    /**
+     * Returns a new Function instance which returns the result as a {@link Result}, holding either the value or the thrown exception
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingFunction to wrap
+     * @return Function instance that returns a successful Result, or a failed Result holding the thrown exception.
+     * Transformations chained on it with {@link Attempt#map(ThrowingFunction)} are fused into a single call
+     */
+    static <T, R, E extends Exception> Attempt<T, R, E> attempt(ThrowingFunction<? super T, ? extends R, ? extends E> function) {
+        return new Attempt<>(requireNonNull(function));
+    }
+
+    /**
+     * Applies the given function to every element of the list using an indexed loop, and returns the results
+     * in a new list of the same size. Stops at the first failure and throws
+     * a {@link FailedIndexException} holding its exception and the index of the failed element
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param source   the list to map, preferably a {@link java.util.RandomAccess} one
+     * @param function the ThrowingFunction to apply
+     * @return a new list holding the results, in the order of the source list
+     * @throws FailedIndexException if the function fails for an element, with the first failure as its cause
+     */
+    static <T, R> List<R> mapAll(List<? extends T> source, ThrowingFunction<? super T, ? extends R, ?> function) {
+        return Bulk.map(source, function, null);
+    }
+
+    /**
+     * Applies the given function to every element of the list using an indexed loop, and returns the results
+     * in a new list of the same size. Every failure is recorded in {@code failures} instead of stopping the loop,
+     * and the result of a failed element is {@code null}
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param source   the list to map, preferably a {@link java.util.RandomAccess} one
+     * @param function the ThrowingFunction to apply
+     * @param failures the IndexedFailures instance recording every failure
+     * @return a new list holding the results, in the order of the source list
+     */
+    static <T, R> List<R> mapAll(List<? extends T> source, ThrowingFunction<? super T, ? extends R, ?> function, IndexedFailures failures) {
+        return Bulk.map(source, function, requireNonNull(failures));
+    }
+
+    /**
+     * Applies the given function to every element of the array, and returns the results in a new array of the same length.
+     * Stops at the first failure and throws a {@link FailedIndexException} holding its exception
+     * and the index of the failed element
+     *
+     * @param <T>       the type of the input to the function
+     * @param <R>       the type of the result of the function
+     * @param source    the array to map
+     * @param generator the function creating the result array of the given length, e.g. {@code String[]::new}
+     * @param function  the ThrowingFunction to apply
+     * @return a new array holding the results, in the order of the source array
+     * @throws FailedIndexException if the function fails for an element, with the first failure as its cause
+     */
+    static <T, R> R[] mapAll(T[] source, IntFunction<R[]> generator, ThrowingFunction<? super T, ? extends R, ?> function) {
+        return Bulk.map(source, requireNonNull(generator), function, null);
+    }
+
+    /**
+     * Applies the given function to every element of the array, and returns the results in a new array of the same length.
+     * Every failure is recorded in {@code failures} instead of stopping the loop, and the result of a failed element is {@code null}
+     *
+     * @param <T>       the type of the input to the function
+     * @param <R>       the type of the result of the function
+     * @param source    the array to map
+     * @param generator the function creating the result array of the given length, e.g. {@code String[]::new}
+     * @param function  the ThrowingFunction to apply
+     * @param failures  the IndexedFailures instance recording every failure
+     * @return a new array holding the results, in the order of the source array
+     */
+    static <T, R> R[] mapAll(T[] source, IntFunction<R[]> generator, ThrowingFunction<? super T, ? extends R, ?> function, IndexedFailures failures) {
+        return Bulk.map(source, requireNonNull(generator), function, requireNonNull(failures));
+    }
+
+    /**
+     * Applies the given function to every element of the list in parallel, using the common {@link ForkJoinPool},
+     * and returns the results in a new list of the same size. Stops all remaining work at the first failure and throws
+     * a {@link FailedIndexException} holding its exception and the index of the failed element
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param source   the list to map, preferably a {@link java.util.RandomAccess} one
+     * @param function the ThrowingFunction to apply, which must be safe to call concurrently
+     * @return a new list holding the results, in the order of the source list
+     * @throws FailedIndexException if the function fails for an element, with the first failure as its cause
+     */
+    static <T, R> List<R> parallelMapAll(List<? extends T> source, ThrowingFunction<? super T, ? extends R, ?> function) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        return ParallelBulk.map(source, function, pool, ParallelBulk.defaultMinSplitSize(source.size(), pool));
+    }
+
+    /**
+     * Applies the given function to every element of the list in parallel, using the given {@link ForkJoinPool},
+     * and returns the results in a new list of the same size. Stops all remaining work at the first failure and throws
+     * a {@link FailedIndexException} holding its exception and the index of the failed element
+     *
+     * @param <T>          the type of the input to the function
+     * @param <R>          the type of the result of the function
+     * @param source       the list to map, preferably a {@link java.util.RandomAccess} one
+     * @param function     the ThrowingFunction to apply, which must be safe to call concurrently
+     * @param pool         the ForkJoinPool to run the work on
+     * @param minSplitSize the number of elements below which a range is processed sequentially
+     * @return a new list holding the results, in the order of the source list
+     * @throws FailedIndexException if the function fails for an element, with the first failure as its cause
+     */
+    static <T, R> List<R> parallelMapAll(List<? extends T> source, ThrowingFunction<? super T, ? extends R, ?> function, ForkJoinPool pool, int minSplitSize) {
+        return ParallelBulk.map(source, function, pool, minSplitSize);
+    }
+
+    /**
+     * Applies the given function to every element of the array in parallel, using the common {@link ForkJoinPool},
+     * and returns the results in a new array of the same length. Stops all remaining work at the first failure and throws
+     * a {@link FailedIndexException} holding its exception and the index of the failed element
+     *
+     * @param <T>       the type of the input to the function
+     * @param <R>       the type of the result of the function
+     * @param source    the array to map
+     * @param generator the function creating the result array of the given length, e.g. {@code String[]::new}
+     * @param function  the ThrowingFunction to apply, which must be safe to call concurrently
+     * @return a new array holding the results, in the order of the source array
+     * @throws FailedIndexException if the function fails for an element, with the first failure as its cause
+     */
+    static <T, R> R[] parallelMapAll(T[] source, IntFunction<R[]> generator, ThrowingFunction<? super T, ? extends R, ?> function) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        return ParallelBulk.map(source, generator.apply(source.length), function, pool, ParallelBulk.defaultMinSplitSize(source.length, pool));
+    }
+
+    /**
+     * Applies the given function to every element of the array in parallel, using the given {@link ForkJoinPool},
+     * and returns the results in a new array of the same length. Stops all remaining work at the first failure and throws
+     * a {@link FailedIndexException} holding its exception and the index of the failed element
+     *
+     * @param <T>          the type of the input to the function
+     * @param <R>          the type of the result of the function
+     * @param source       the array to map
+     * @param generator    the function creating the result array of the given length, e.g. {@code String[]::new}
+     * @param function     the ThrowingFunction to apply, which must be safe to call concurrently
+     * @param pool         the ForkJoinPool to run the work on
+     * @param minSplitSize the number of elements below which a range is processed sequentially
+     * @return a new array holding the results, in the order of the source array
+     * @throws FailedIndexException if the function fails for an element, with the first failure as its cause
+     */
+    static <T, R> R[] parallelMapAll(T[] source, IntFunction<R[]> generator, ThrowingFunction<? super T, ? extends R, ?> function, ForkJoinPool pool, int minSplitSize) {
+        return ParallelBulk.map(source, generator.apply(source.length), function, pool, minSplitSize);
+    }
+
+    /**
+     * Returns a new Function instance which applies the given function on the given executor. The returned future
+     * is completed exceptionally with the thrown exception as-is, without wrapping it
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param function the ThrowingFunction to apply
+     * @param executor the Executor running the function
+     * @return Function instance that submits the given function on every call
+     * @see CheckedFutures#join(CompletableFuture, Class)
+     */
+    static <T, R> Function<T, CompletableFuture<R>> async(ThrowingFunction<? super T, ? extends R, ?> function, Executor executor) {
+        requireNonNull(function);
+        requireNonNull(executor);
+        return t -> CheckedFutures.supply(() -> function.apply(t), executor);
+    }
+
+    /**
+     * Returns a new ThrowingFunction instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given function is invoked directly
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingFunction to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingFunction instance that records its invocations
+     */
+    static <T, R, E extends Exception> ThrowingFunction<T, R, E> instrumented(ThrowingFunction<? super T, ? extends R, ? extends E> function, InvocationMetrics metrics) {
+        requireNonNull(function);
+        requireNonNull(metrics);
+        return arg -> {
+            if (!metrics.isEnabled()) {
+                return function.apply(arg);
+            }
+            long start = System.nanoTime();
+            R result;
+            try {
+                result = function.apply(arg);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new ThrowingFunction instance which calls the given function only while the given CircuitBreaker
+     * permits it, and records the outcome of every call. Rejected calls throw a shared {@link CallNotPermittedException}
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingFunction to protect
+     * @param breaker  the CircuitBreaker deciding whether calls are permitted
+     * @return ThrowingFunction instance that fails fast while the breaker is open
+     */
+    static <T, R, E extends Exception> ThrowingFunction<T, R, E> circuitBreaking(ThrowingFunction<? super T, ? extends R, ? extends E> function, CircuitBreaker breaker) {
+        requireNonNull(function);
+        requireNonNull(breaker);
+        return t -> {
+            int permit = breaker.acquire();
+            if (permit == CircuitBreaker.DENIED) {
+                throw CircuitBreaker.rejected();
+            }
+            R result;
+            try {
+                result = function.apply(t);
+            } catch (final Throwable e) {
+                breaker.onFailure(permit, e);
+                throw e;
+            }
+            breaker.onSuccess(permit);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new ThrowingFunction instance which calls the given function only while the given CircuitBreaker
+     * permits it, and records the outcome of every call. Rejected calls return the result of the fallback function
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingFunction to protect
+     * @param breaker  the CircuitBreaker deciding whether calls are permitted
+     * @param fallback the Function computing the result of a rejected call
+     * @return ThrowingFunction instance that falls back while the breaker is open
+     */
+    static <T, R, E extends Exception> ThrowingFunction<T, R, E> circuitBreaking(ThrowingFunction<? super T, ? extends R, ? extends E> function, CircuitBreaker breaker, Function<? super T, ? extends R> fallback) {
+        requireNonNull(function);
+        requireNonNull(breaker);
+        requireNonNull(fallback);
+        return t -> {
+            int permit = breaker.acquire();
+            if (permit == CircuitBreaker.DENIED) {
+                return fallback.apply(t);
+            }
+            R result;
+            try {
+                result = function.apply(t);
+            } catch (final Throwable e) {
+                breaker.onFailure(permit, e);
+                throw e;
+            }
+            breaker.onSuccess(permit);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new ThrowingFunction instance which acquires a permit from the given RateLimiter before every call.
+     * Calls without a permit throw a shared {@link CallNotPermittedException}
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingFunction to limit
+     * @param limiter  the RateLimiter issuing permits
+     * @return ThrowingFunction instance limited by the given RateLimiter
+     */
+    static <T, R, E extends Exception> ThrowingFunction<T, R, E> rateLimited(ThrowingFunction<? super T, ? extends R, ? extends E> function, RateLimiter limiter) {
+        requireNonNull(function);
+        requireNonNull(limiter);
+        return t -> {
+            limiter.acquirePermit();
+            return function.apply(t);
+        };
+    }
+
+    /**
+     * Returns a new ThrowingFunction instance which acquires a permit for the key of the argument from the given
+     * KeyedRateLimiter before every call. Calls without a permit throw a shared {@link CallNotPermittedException}
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param <K>      the type of the keys
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingFunction to limit
+     * @param limiter  the KeyedRateLimiter issuing permits
+     * @param key      the Function extracting the key from the argument
+     * @return ThrowingFunction instance limited by the given KeyedRateLimiter
+     */
+    static <T, R, K, E extends Exception> ThrowingFunction<T, R, E> rateLimited(ThrowingFunction<? super T, ? extends R, ? extends E> function, KeyedRateLimiter<K> limiter, Function<? super T, ? extends K> key) {
+        requireNonNull(function);
+        requireNonNull(limiter);
+        requireNonNull(key);
+        return t -> {
+            limiter.acquirePermit(key.apply(t));
+            return function.apply(t);
+        };
+    }
+
+    /**
+     * Returns a new ThrowingFunction instance which acquires a permit from the given Bulkhead before every call,
+     * and reports the latency and the outcome of the call to it. Calls without a permit throw a shared
+     * {@link CallNotPermittedException}
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingFunction to limit
+     * @param bulkhead the Bulkhead limiting concurrent calls
+     * @return ThrowingFunction instance limited by the given Bulkhead
+     */
+    static <T, R, E extends Exception> ThrowingFunction<T, R, E> concurrencyLimited(ThrowingFunction<? super T, ? extends R, ? extends E> function, Bulkhead bulkhead) {
+        requireNonNull(function);
+        requireNonNull(bulkhead);
+        return t -> {
+            long start = bulkhead.acquirePermit();
+            R result;
+            try {
+                result = function.apply(t);
+            } catch (final Throwable e) {
+                bulkhead.onFailure(start, e);
+                throw e;
+            }
+            bulkhead.onSuccess(start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new Function instance which handles exceptions thrown by the given function using the given Recovery:
+     * recovers with the value of the matching handler, throws the exception it translates into, or rethrows
+     * the exception as-is if there is no handler for it
+     *
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @param function the ThrowingFunction to wrap
+     * @param recovery the Recovery handling thrown exceptions
+     * @return Function instance recovering from exceptions with the given Recovery
+     */
+    static <T, R> Function<T, R> recovering(ThrowingFunction<? super T, ? extends R, ?> function, Recovery<? extends R> recovery) {
+        requireNonNull(function);
+        requireNonNull(recovery);
+        return t -> {
+            try {
+                return function.apply(t);
+            } catch (final Exception e) {
+                return recovery.handle(e);
+            }
+        };
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.function.IntBinaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an operation upon two {@code int}-valued operands and producing a
+ * {@code int}-valued result.  This is the primitive type specialization of
+ * {@link ThrowingBinaryOperator} for {@code int}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingBinaryOperator
+ */
+@FunctionalInterface
+public interface ThrowingIntBinaryOperator<E extends Exception> {
+    /**
+     * Applies this operator to the given operands.
+     *
+     * @param left  the first operand
+     * @param right the second operand
+     * @return the operator result
+     * @throws E the checked exception type
+     */
+    int applyAsInt(int left, int right) throws E;
+
+    /**
+     * Returns a new IntBinaryOperator instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param operator the ThrowingIntBinaryOperator to wrap
+     * @return IntBinaryOperator instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static IntBinaryOperator unchecked(ThrowingIntBinaryOperator<?> operator) {
+        requireNonNull(operator);
+        return (left, right) -> {
+            try {
+                return operator.applyAsInt(left, right);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new IntBinaryOperator instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param operator the ThrowingIntBinaryOperator to wrap
+     * @return IntBinaryOperator instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static IntBinaryOperator sneaky(ThrowingIntBinaryOperator<?> operator) {
+        requireNonNull(operator);
+        return (left, right) -> {
+            try {
+                return operator.applyAsInt(left, right);
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingIntBinaryOperator instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given operator is invoked directly
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param operator the ThrowingIntBinaryOperator to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingIntBinaryOperator instance that records its invocations
+     */
+    static <E extends Exception> ThrowingIntBinaryOperator<E> instrumented(ThrowingIntBinaryOperator<? extends E> operator, InvocationMetrics metrics) {
+        requireNonNull(operator);
+        requireNonNull(metrics);
+        return (left, right) -> {
+            if (!metrics.isEnabled()) {
+                return operator.applyAsInt(left, right);
+            }
+            long start = System.nanoTime();
+            int result;
+            try {
+                result = operator.applyAsInt(left, right);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
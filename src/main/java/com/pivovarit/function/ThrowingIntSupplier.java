@@ -0,0 +1,123 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.OptionalInt;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a supplier of {@code int}-valued results.  This is the
+ * {@code int}-producing primitive specialization of {@link ThrowingSupplier}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingSupplier
+ */
+@FunctionalInterface
+public interface ThrowingIntSupplier<E extends Exception> {
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     * @throws E the checked exception type
+     */
+    int getAsInt() throws E;
+
+    /**
+     * Returns a new IntSupplier instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param supplier the ThrowingIntSupplier to wrap
+     * @return IntSupplier instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static IntSupplier unchecked(ThrowingIntSupplier<?> supplier) {
+        requireNonNull(supplier);
+        return () -> {
+            try {
+                return supplier.getAsInt();
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new IntSupplier instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param supplier the ThrowingIntSupplier to wrap
+     * @return IntSupplier instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static IntSupplier sneaky(ThrowingIntSupplier<?> supplier) {
+        requireNonNull(supplier);
+        return () -> {
+            try {
+                return supplier.getAsInt();
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new Supplier instance which returns the result as an OptionalInt, or an empty OptionalInt in case of a thrown exception
+     *
+     * @param supplier the ThrowingIntSupplier to wrap
+     * @return Supplier instance that returns the result as an OptionalInt, or empty OptionalInt in case of a thrown exception
+     */
+    static Supplier<OptionalInt> optional(ThrowingIntSupplier<?> supplier) {
+        requireNonNull(supplier);
+        return () -> {
+            try {
+                return OptionalInt.of(supplier.getAsInt());
+            } catch (final Exception e) {
+                return OptionalInt.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingIntSupplier instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given supplier is invoked directly
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingIntSupplier to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingIntSupplier instance that records its invocations
+     */
+    static <E extends Exception> ThrowingIntSupplier<E> instrumented(ThrowingIntSupplier<? extends E> supplier, InvocationMetrics metrics) {
+        requireNonNull(supplier);
+        requireNonNull(metrics);
+        return () -> {
+            if (!metrics.isEnabled()) {
+                return supplier.getAsInt();
+            }
+            long start = System.nanoTime();
+            int result;
+            try {
+                result = supplier.getAsInt();
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.OptionalInt;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an operation on a single {@code int}-valued operand that produces
+ * an {@code int}-valued result.  This is the primitive type specialization of
+ * {@link ThrowingUnaryOperator} for {@code int}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingUnaryOperator
+ */
+@FunctionalInterface
+public interface ThrowingIntUnaryOperator<E extends Exception> {
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand the operand
+     * @return the operator result
+     * @throws E the checked exception type
+     */
+    int applyAsInt(int operand) throws E;
+
+    /**
+     * Returns a new IntUnaryOperator instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param operator the ThrowingIntUnaryOperator to wrap
+     * @return IntUnaryOperator instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static IntUnaryOperator unchecked(ThrowingIntUnaryOperator<?> operator) {
+        requireNonNull(operator);
+        return operand -> {
+            try {
+                return operator.applyAsInt(operand);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new IntUnaryOperator instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param operator the ThrowingIntUnaryOperator to wrap
+     * @return IntUnaryOperator instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static IntUnaryOperator sneaky(ThrowingIntUnaryOperator<?> operator) {
+        requireNonNull(operator);
+        return operand -> {
+            try {
+                return operator.applyAsInt(operand);
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new IntFunction instance which returns the result as an OptionalInt, or an empty OptionalInt in case of a thrown exception
+     *
+     * @param operator the ThrowingIntUnaryOperator to wrap
+     * @return IntFunction instance that returns the result as an OptionalInt, or empty OptionalInt in case of a thrown exception
+     */
+    static IntFunction<OptionalInt> optional(ThrowingIntUnaryOperator<?> operator) {
+        requireNonNull(operator);
+        return operand -> {
+            try {
+                return OptionalInt.of(operator.applyAsInt(operand));
+            } catch (final Exception e) {
+                return OptionalInt.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingIntUnaryOperator instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given operator is invoked directly
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param operator the ThrowingIntUnaryOperator to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingIntUnaryOperator instance that records its invocations
+     */
+    static <E extends Exception> ThrowingIntUnaryOperator<E> instrumented(ThrowingIntUnaryOperator<? extends E> operator, InvocationMetrics metrics) {
+        requireNonNull(operator);
+        requireNonNull(metrics);
+        return operand -> {
+            if (!metrics.isEnabled()) {
+                return operator.applyAsInt(operand);
+            }
+            long start = System.nanoTime();
+            int result;
+            try {
+                result = operator.applyAsInt(operand);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an iterator over a source that might throw a checked exception instance while advancing,
+ * such as a database cursor, a paged remote reader or a {@link java.io.BufferedReader}.
+ *
+ * @param <T> the type of elements returned by this iterator
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingSpliterator
+ */
+public interface ThrowingIterator<T, E extends Exception> {
+
+    /**
+     * Returns true if the iteration has more elements.
+     *
+     * @return true if the iteration has more elements
+     * @throws E the checked exception type
+     */
+    boolean hasNext() throws E;
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws E the checked exception type
+     * @throws NoSuchElementException if the iteration has no more elements
+     */
+    T next() throws E;
+
+    /**
+     * Performs the given action for each remaining element, in iteration order.
+     *
+     * @param action the action to be performed for each element
+     * @throws E the checked exception type
+     */
+    default void forEachRemaining(ThrowingConsumer<? super T, ? extends E> action) throws E {
+        requireNonNull(action);
+        while (hasNext()) {
+            action.accept(next());
+        }
+    }
+
+    /**
+     * Returns a new ThrowingIterator instance over the elements of batches returned by the given supplier,
+     * which is called only once the previous batch has been iterated over. A null or empty batch ends the iteration
+     *
+     * @param <T>     the type of elements returned by the iterator
+     * @param <E>     the type of the thrown checked exception
+     * @param batches the ThrowingSupplier of consecutive batches
+     * @return ThrowingIterator instance over the elements of consecutive batches
+     */
+    static <T, E extends Exception> ThrowingIterator<T, E> ofBatches(ThrowingSupplier<? extends Collection<? extends T>, ? extends E> batches) {
+        requireNonNull(batches);
+        return new ThrowingIterator<T, E>() {
+
+            private Iterator<? extends T> batch = Collections.emptyIterator();
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() throws E {
+                if (batch.hasNext()) {
+                    return true;
+                }
+                if (exhausted) {
+                    return false;
+                }
+                Collection<? extends T> next = batches.get();
+                if (next == null || next.isEmpty()) {
+                    exhausted = true;
+                    return false;
+                }
+                batch = next.iterator();
+                return true;
+            }
+
+            @Override
+            public T next() throws E {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return batch.next();
+            }
+        };
+    }
+}
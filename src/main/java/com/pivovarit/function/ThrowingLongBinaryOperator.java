@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.function.LongBinaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an operation upon two {@code long}-valued operands and producing a
+ * {@code long}-valued result.  This is the primitive type specialization of
+ * {@link ThrowingBinaryOperator} for {@code long}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingBinaryOperator
+ */
+@FunctionalInterface
+public interface ThrowingLongBinaryOperator<E extends Exception> {
+    /**
+     * Applies this operator to the given operands.
+     *
+     * @param left  the first operand
+     * @param right the second operand
+     * @return the operator result
+     * @throws E the checked exception type
+     */
+    long applyAsLong(long left, long right) throws E;
+
+    /**
+     * Returns a new LongBinaryOperator instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param operator the ThrowingLongBinaryOperator to wrap
+     * @return LongBinaryOperator instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static LongBinaryOperator unchecked(ThrowingLongBinaryOperator<?> operator) {
+        requireNonNull(operator);
+        return (left, right) -> {
+            try {
+                return operator.applyAsLong(left, right);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new LongBinaryOperator instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param operator the ThrowingLongBinaryOperator to wrap
+     * @return LongBinaryOperator instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static LongBinaryOperator sneaky(ThrowingLongBinaryOperator<?> operator) {
+        requireNonNull(operator);
+        return (left, right) -> {
+            try {
+                return operator.applyAsLong(left, right);
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingLongBinaryOperator instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given operator is invoked directly
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param operator the ThrowingLongBinaryOperator to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingLongBinaryOperator instance that records its invocations
+     */
+    static <E extends Exception> ThrowingLongBinaryOperator<E> instrumented(ThrowingLongBinaryOperator<? extends E> operator, InvocationMetrics metrics) {
+        requireNonNull(operator);
+        requireNonNull(metrics);
+        return (left, right) -> {
+            if (!metrics.isEnabled()) {
+                return operator.applyAsLong(left, right);
+            }
+            long start = System.nanoTime();
+            long result;
+            try {
+                result = operator.applyAsLong(left, right);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.function.LongConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an operation that accepts a single {@code long}-valued argument and
+ * returns no result.  This is the primitive type specialization of
+ * {@link ThrowingConsumer} for {@code long}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingConsumer
+ */
+@FunctionalInterface
+public interface ThrowingLongConsumer<E extends Exception> {
+    /**
+     * Performs this operation on the given argument.
+     *
+     * @param value the input argument
+     * @throws E the checked exception type
+     */
+    void accept(long value) throws E;
+
+    /**
+     * Returns a new LongConsumer instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param consumer the ThrowingLongConsumer to wrap
+     * @return LongConsumer instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static LongConsumer unchecked(ThrowingLongConsumer<?> consumer) {
+        requireNonNull(consumer);
+        return value -> {
+            try {
+                consumer.accept(value);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new LongConsumer instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param consumer the ThrowingLongConsumer to wrap
+     * @return LongConsumer instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static LongConsumer sneaky(ThrowingLongConsumer<?> consumer) {
+        requireNonNull(consumer);
+        return value -> {
+            try {
+                consumer.accept(value);
+            } catch (final Exception e) {
+                SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingLongConsumer instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given consumer is invoked directly
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param consumer the ThrowingLongConsumer to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingLongConsumer instance that records its invocations
+     */
+    static <E extends Exception> ThrowingLongConsumer<E> instrumented(ThrowingLongConsumer<? extends E> consumer, InvocationMetrics metrics) {
+        requireNonNull(consumer);
+        requireNonNull(metrics);
+        return value -> {
+            if (!metrics.isEnabled()) {
+                consumer.accept(value);
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                consumer.accept(value);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+        };
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a supplier of {@code long}-valued results.  This is the
+ * {@code long}-producing primitive specialization of {@link ThrowingSupplier}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingSupplier
+ */
+@FunctionalInterface
+public interface ThrowingLongSupplier<E extends Exception> {
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     * @throws E the checked exception type
+     */
+    long getAsLong() throws E;
+
+    /**
+     * Returns a new LongSupplier instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param supplier the ThrowingLongSupplier to wrap
+     * @return LongSupplier instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static LongSupplier unchecked(ThrowingLongSupplier<?> supplier) {
+        requireNonNull(supplier);
+        return () -> {
+            try {
+                return supplier.getAsLong();
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new LongSupplier instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param supplier the ThrowingLongSupplier to wrap
+     * @return LongSupplier instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static LongSupplier sneaky(ThrowingLongSupplier<?> supplier) {
+        requireNonNull(supplier);
+        return () -> {
+            try {
+                return supplier.getAsLong();
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new Supplier instance which returns the result as an OptionalLong, or an empty OptionalLong in case of a thrown exception
+     *
+     * @param supplier the ThrowingLongSupplier to wrap
+     * @return Supplier instance that returns the result as an OptionalLong, or empty OptionalLong in case of a thrown exception
+     */
+    static Supplier<OptionalLong> optional(ThrowingLongSupplier<?> supplier) {
+        requireNonNull(supplier);
+        return () -> {
+            try {
+                return OptionalLong.of(supplier.getAsLong());
+            } catch (final Exception e) {
+                return OptionalLong.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingLongSupplier instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given supplier is invoked directly
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingLongSupplier to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingLongSupplier instance that records its invocations
+     */
+    static <E extends Exception> ThrowingLongSupplier<E> instrumented(ThrowingLongSupplier<? extends E> supplier, InvocationMetrics metrics) {
+        requireNonNull(supplier);
+        requireNonNull(metrics);
+        return () -> {
+            if (!metrics.isEnabled()) {
+                return supplier.getAsLong();
+            }
+            long start = System.nanoTime();
+            long result;
+            try {
+                result = supplier.getAsLong();
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
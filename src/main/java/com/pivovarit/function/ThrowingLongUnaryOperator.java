@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.OptionalLong;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an operation on a single {@code long}-valued operand that produces
+ * a {@code long}-valued result.  This is the primitive type specialization of
+ * {@link ThrowingUnaryOperator} for {@code long}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingUnaryOperator
+ */
+@FunctionalInterface
+public interface ThrowingLongUnaryOperator<E extends Exception> {
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand the operand
+     * @return the operator result
+     * @throws E the checked exception type
+     */
+    long applyAsLong(long operand) throws E;
+
+    /**
+     * Returns a new LongUnaryOperator instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param operator the ThrowingLongUnaryOperator to wrap
+     * @return LongUnaryOperator instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static LongUnaryOperator unchecked(ThrowingLongUnaryOperator<?> operator) {
+        requireNonNull(operator);
+        return operand -> {
+            try {
+                return operator.applyAsLong(operand);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new LongUnaryOperator instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param operator the ThrowingLongUnaryOperator to wrap
+     * @return LongUnaryOperator instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static LongUnaryOperator sneaky(ThrowingLongUnaryOperator<?> operator) {
+        requireNonNull(operator);
+        return operand -> {
+            try {
+                return operator.applyAsLong(operand);
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new LongFunction instance which returns the result as an OptionalLong, or an empty OptionalLong in case of a thrown exception
+     *
+     * @param operator the ThrowingLongUnaryOperator to wrap
+     * @return LongFunction instance that returns the result as an OptionalLong, or empty OptionalLong in case of a thrown exception
+     */
+    static LongFunction<OptionalLong> optional(ThrowingLongUnaryOperator<?> operator) {
+        requireNonNull(operator);
+        return operand -> {
+            try {
+                return OptionalLong.of(operator.applyAsLong(operand));
+            } catch (final Exception e) {
+                return OptionalLong.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingLongUnaryOperator instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given operator is invoked directly
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param operator the ThrowingLongUnaryOperator to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingLongUnaryOperator instance that records its invocations
+     */
+    static <E extends Exception> ThrowingLongUnaryOperator<E> instrumented(ThrowingLongUnaryOperator<? extends E> operator, InvocationMetrics metrics) {
+        requireNonNull(operator);
+        requireNonNull(metrics);
+        return operand -> {
+            if (!metrics.isEnabled()) {
+                return operator.applyAsLong(operand);
+            }
+            long start = System.nanoTime();
+            long result;
+            try {
+                result = operator.applyAsLong(operand);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
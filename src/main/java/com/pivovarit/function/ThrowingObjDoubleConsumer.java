@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.function.ObjDoubleConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an operation that accepts an object-valued and a
+ * {@code double}-valued argument, and returns no result.  This is the
+ * {@code (reference, double)} specialization of {@link ThrowingBiConsumer}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <T> the type of the object argument to the operation
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingBiConsumer
+ */
+@FunctionalInterface
+public interface ThrowingObjDoubleConsumer<T, E extends Exception> {
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param t     the first input argument
+     * @param value the second input argument
+     * @throws E the checked exception type
+     */
+    void accept(T t, double value) throws E;
+
+    /**
+     * Returns a new ObjDoubleConsumer instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param <T>      the type of the object argument to the operation
+     * @param consumer the ThrowingObjDoubleConsumer to wrap
+     * @return ObjDoubleConsumer instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static <T> ObjDoubleConsumer<T> unchecked(ThrowingObjDoubleConsumer<? super T, ?> consumer) {
+        requireNonNull(consumer);
+        return (t, value) -> {
+            try {
+                consumer.accept(t, value);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ObjDoubleConsumer instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param <T>      the type of the object argument to the operation
+     * @param consumer the ThrowingObjDoubleConsumer to wrap
+     * @return ObjDoubleConsumer instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static <T> ObjDoubleConsumer<T> sneaky(ThrowingObjDoubleConsumer<? super T, ?> consumer) {
+        requireNonNull(consumer);
+        return (t, value) -> {
+            try {
+                consumer.accept(t, value);
+            } catch (final Exception e) {
+                SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingObjDoubleConsumer instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given consumer is invoked directly
+     *
+     * @param <T>      the type of the object argument to the operation
+     * @param <E>      the type of the thrown checked exception
+     * @param consumer the ThrowingObjDoubleConsumer to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingObjDoubleConsumer instance that records its invocations
+     */
+    static <T, E extends Exception> ThrowingObjDoubleConsumer<T, E> instrumented(ThrowingObjDoubleConsumer<? super T, ? extends E> consumer, InvocationMetrics metrics) {
+        requireNonNull(consumer);
+        requireNonNull(metrics);
+        return (t, value) -> {
+            if (!metrics.isEnabled()) {
+                consumer.accept(t, value);
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                consumer.accept(t, value);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+        };
+    }
+}
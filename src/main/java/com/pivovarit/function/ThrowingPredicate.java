@@ -15,7 +15,9 @@
  */
 package com.pivovarit.function;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
@@ -40,6 +42,41 @@ public interface ThrowingPredicate<T, E extends Exception> {
      */
     boolean test(T t) throws E;
 
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical AND of this predicate and another.
+     * Exceptions thrown by either predicate are propagated as-is, so the whole chain can be adapted once,
+     * e.g. using {@link #unchecked(ThrowingPredicate)}, instead of adapting every stage
+     *
+     * @param other the predicate to AND with this predicate
+     * @return a composed predicate that represents the short-circuiting logical AND of this predicate and the other
+     */
+    default ThrowingPredicate<T, E> and(ThrowingPredicate<? super T, ? extends E> other) {
+        requireNonNull(other);
+        return t -> test(t) && other.test(t);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical OR of this predicate and another.
+     * Exceptions thrown by either predicate are propagated as-is, so the whole chain can be adapted once,
+     * e.g. using {@link #unchecked(ThrowingPredicate)}, instead of adapting every stage
+     *
+     * @param other the predicate to OR with this predicate
+     * @return a composed predicate that represents the short-circuiting logical OR of this predicate and the other
+     */
+    default ThrowingPredicate<T, E> or(ThrowingPredicate<? super T, ? extends E> other) {
+        requireNonNull(other);
+        return t -> test(t) || other.test(t);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this predicate
+     *
+     * @return a predicate that represents the logical negation of this predicate
+     */
+    default ThrowingPredicate<T, E> negate() {
+        return t -> !test(t);
+    }
+
     /**
      * Returns a new Predicate instance which wraps the thrown checked exception instance into a {@link CheckedException}
      *
@@ -75,4 +112,133 @@ public interface ThrowingPredicate<T, E extends Exception> {
             }
         };
     }
+
+    /**
+     * Returns a new Function instance which returns the result as a {@link Result}, holding either the value or the thrown exception
+     *
+     * @param <T>       the type of the input to the predicate
+     * @param <E>       the type of the thrown checked exception
+     * @param predicate the ThrowingPredicate to wrap
+     * @return Function instance that returns a successful Result, or a failed Result holding the thrown exception
+     */
+    static <T, E extends Exception> Function<T, Result<Boolean, E>> attempt(ThrowingPredicate<? super T, ? extends E> predicate) {
+        requireNonNull(predicate);
+        return t -> {
+            try {
+                return Result.success(predicate.test(t));
+            } catch (final Exception e) {
+                return Result.failed(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new list holding the elements of the given list which match the predicate, tested using an indexed loop.
+     * Stops at the first failure and throws a {@link FailedIndexException} holding its exception
+     * and the index of the failed element
+     *
+     * @param <T>       the type of the input to the predicate
+     * @param source    the list to filter, preferably a {@link java.util.RandomAccess} one
+     * @param predicate the ThrowingPredicate to test the elements with
+     * @return a new list holding the matching elements, in the order of the source list
+     * @throws FailedIndexException if the predicate fails for an element, with the first failure as its cause
+     */
+    static <T> List<T> filterAll(List<T> source, ThrowingPredicate<? super T, ?> predicate) {
+        return Bulk.filter(source, predicate, null);
+    }
+
+    /**
+     * Returns a new list holding the elements of the given list which match the predicate, tested using an indexed loop.
+     * Every failure is recorded in {@code failures} instead of stopping the loop, and the failed element is left out
+     *
+     * @param <T>       the type of the input to the predicate
+     * @param source    the list to filter, preferably a {@link java.util.RandomAccess} one
+     * @param predicate the ThrowingPredicate to test the elements with
+     * @param failures  the IndexedFailures instance recording every failure
+     * @return a new list holding the matching elements, in the order of the source list
+     */
+    static <T> List<T> filterAll(List<T> source, ThrowingPredicate<? super T, ?> predicate, IndexedFailures failures) {
+        return Bulk.filter(source, predicate, requireNonNull(failures));
+    }
+
+    /**
+     * Returns a new array holding the elements of the given array which match the predicate.
+     * Stops at the first failure and throws a {@link FailedIndexException} holding its exception
+     * and the index of the failed element
+     *
+     * @param <T>       the type of the input to the predicate
+     * @param source    the array to filter
+     * @param predicate the ThrowingPredicate to test the elements with
+     * @return a new array holding the matching elements, in the order of the source array
+     * @throws FailedIndexException if the predicate fails for an element, with the first failure as its cause
+     */
+    static <T> T[] filterAll(T[] source, ThrowingPredicate<? super T, ?> predicate) {
+        return Bulk.filter(source, predicate, null);
+    }
+
+    /**
+     * Returns a new array holding the elements of the given array which match the predicate.
+     * Every failure is recorded in {@code failures} instead of stopping the loop, and the failed element is left out
+     *
+     * @param <T>       the type of the input to the predicate
+     * @param source    the array to filter
+     * @param predicate the ThrowingPredicate to test the elements with
+     * @param failures  the IndexedFailures instance recording every failure
+     * @return a new array holding the matching elements, in the order of the source array
+     */
+    static <T> T[] filterAll(T[] source, ThrowingPredicate<? super T, ?> predicate, IndexedFailures failures) {
+        return Bulk.filter(source, predicate, requireNonNull(failures));
+    }
+
+    /**
+     * Returns a new ThrowingPredicate instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given predicate is invoked directly
+     *
+     * @param <T>       the type of the input to the function
+     * @param <E>       the type of the thrown checked exception
+     * @param predicate the ThrowingPredicate to instrument
+     * @param metrics   the InvocationMetrics instance recording the invocations
+     * @return ThrowingPredicate instance that records its invocations
+     */
+    static <T, E extends Exception> ThrowingPredicate<T, E> instrumented(ThrowingPredicate<? super T, ? extends E> predicate, InvocationMetrics metrics) {
+        requireNonNull(predicate);
+        requireNonNull(metrics);
+        return t -> {
+            if (!metrics.isEnabled()) {
+                return predicate.test(t);
+            }
+            long start = System.nanoTime();
+            boolean result;
+            try {
+                result = predicate.test(t);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new Predicate instance which handles exceptions thrown by the given predicate using the given Recovery:
+     * recovers with the value of the matching handler, throws the exception it translates into, or rethrows
+     * the exception as-is if there is no handler for it. Recovered values must not be null
+     *
+     * @param <T>       the type of the input to the predicate
+     * @param predicate the ThrowingPredicate to wrap
+     * @param recovery  the Recovery handling thrown exceptions
+     * @return Predicate instance recovering from exceptions with the given Recovery
+     */
+    static <T> Predicate<T> recovering(ThrowingPredicate<? super T, ?> predicate, Recovery<Boolean> recovery) {
+        requireNonNull(predicate);
+        requireNonNull(recovery);
+        return t -> {
+            try {
+                return predicate.test(t);
+            } catch (final Exception e) {
+                return recovery.handle(e);
+            }
+        };
+    }
 }
@@ -15,7 +15,11 @@
  */
 package com.pivovarit.function;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -69,4 +73,126 @@ public interface ThrowingRunnable<E extends Exception> {
             }
         };
     }
+
+    /**
+     * Returns a new Supplier instance which returns a {@link Result} holding either nothing or the thrown exception.
+     * Successful invocations return a shared Result instance
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param runnable the ThrowingRunnable to wrap
+     * @return Supplier instance that returns a successful Result, or a failed Result holding the thrown exception
+     */
+    static <E extends Exception> Supplier<Result<Void, E>> attempt(ThrowingRunnable<? extends E> runnable) {
+        requireNonNull(runnable);
+        return () -> {
+            try {
+                runnable.run();
+                return Result.success(null);
+            } catch (final Exception e) {
+                return Result.failed(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new Supplier instance which runs the given runnable on the given executor. The returned future
+     * is completed exceptionally with the thrown exception as-is, without wrapping it
+     *
+     * @param runnable the ThrowingRunnable to run
+     * @param executor the Executor running the runnable
+     * @return Supplier instance that submits the given runnable on every call
+     * @see CheckedFutures#join(CompletableFuture, Class)
+     */
+    static Supplier<CompletableFuture<Void>> async(ThrowingRunnable<?> runnable, Executor executor) {
+        requireNonNull(runnable);
+        requireNonNull(executor);
+        return () -> CheckedFutures.supply(() -> {
+            runnable.run();
+            return null;
+        }, executor);
+    }
+
+    /**
+     * Returns a new ThrowingRunnable instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given runnable is invoked directly
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param runnable the ThrowingRunnable to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingRunnable instance that records its invocations
+     */
+    static <E extends Exception> ThrowingRunnable<E> instrumented(ThrowingRunnable<? extends E> runnable, InvocationMetrics metrics) {
+        requireNonNull(runnable);
+        requireNonNull(metrics);
+        return () -> {
+            if (!metrics.isEnabled()) {
+                runnable.run();
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                runnable.run();
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+        };
+    }
+
+    /**
+     * Returns a new ThrowingRunnable instance which runs the given runnable on a shared pool of daemon threads,
+     * or on a new virtual thread on Java 21 and later, and waits for it at most the given time. On expiry, the call is interrupted and a {@link CallTimeoutException}
+     * is thrown; an exception thrown by the runnable in time is rethrown as-is
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param runnable the ThrowingRunnable to limit
+     * @param timeout  the maximum time to wait for completion
+     * @return ThrowingRunnable instance limited by the given timeout
+     */
+    static <E extends Exception> ThrowingRunnable<E> timeLimited(ThrowingRunnable<? extends E> runnable, Duration timeout) {
+        return timeLimited(runnable, timeout, BlockingExecutor.get());
+    }
+
+    /**
+     * Returns a new ThrowingRunnable instance which runs the given runnable on the given executor and waits for it
+     * at most the given time. On expiry, the call is interrupted and a {@link CallTimeoutException} is thrown;
+     * an exception thrown by the runnable in time is rethrown as-is
+     *
+     * @param <E>      the type of the thrown checked exception
+     * @param runnable the ThrowingRunnable to limit
+     * @param timeout  the maximum time to wait for completion
+     * @param executor the Executor running the runnable
+     * @return ThrowingRunnable instance limited by the given timeout
+     */
+    static <E extends Exception> ThrowingRunnable<E> timeLimited(ThrowingRunnable<? extends E> runnable, Duration timeout, Executor executor) {
+        requireNonNull(runnable);
+        requireNonNull(executor);
+        Timeouts.requirePositive(timeout);
+        return () -> Timeouts.call(() -> {
+            runnable.run();
+            return null;
+        }, timeout, executor);
+    }
+
+    /**
+     * Returns a new Runnable instance which handles exceptions thrown by the given runnable using the given Recovery:
+     * calls the matching handler and discards its value, throws the exception it translates into, or rethrows
+     * the exception as-is if there is no handler for it
+     *
+     * @param runnable the ThrowingRunnable to wrap
+     * @param recovery the Recovery handling thrown exceptions
+     * @return Runnable instance recovering from exceptions with the given Recovery
+     */
+    static Runnable recovering(ThrowingRunnable<?> runnable, Recovery<?> recovery) {
+        requireNonNull(runnable);
+        requireNonNull(recovery);
+        return () -> {
+            try {
+                runnable.run();
+            } catch (final Exception e) {
+                recovery.handle(e);
+            }
+        };
+    }
 }
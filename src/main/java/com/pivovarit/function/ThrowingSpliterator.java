@@ -0,0 +1,250 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A Spliterator over a source that might throw a checked exception instance while reading the next batch of elements.
+ * Exceptions thrown by the source are rethrown as-is, without being wrapped, by the traversing operation, such as
+ * the terminal operation of a Stream.
+ * <p>
+ * Splitting hands off whole batches, which are further split by index, so parallel streams scale with the batch size
+ * instead of waiting for a single thread to iterate over the source.
+ *
+ * <pre>{@code
+ * List<Row> rows = ThrowingSpliterator.ofBatches(reader::nextPage, 2)
+ *   .withStream(s -> s.parallel().map(Row::parse).collect(toList())); // throws IOException
+ * }</pre>
+ *
+ * @param <T> the type of elements returned by this Spliterator
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingIterator
+ */
+public final class ThrowingSpliterator<T, E extends Exception> implements Spliterator<T>, AutoCloseable {
+
+    private static final int ITERATOR_BATCH_SIZE = 1024;
+
+    private static final Object[] NO_ELEMENTS = {};
+
+    private final ThrowingSupplier<? extends Collection<? extends T>, ?> batches;
+    private final Runnable onClose;
+
+    private Object[] batch = NO_ELEMENTS;
+    private int index;
+    private boolean exhausted;
+
+    private ThrowingSpliterator(ThrowingSupplier<? extends Collection<? extends T>, ?> batches, Runnable onClose) {
+        this.batches = batches;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Returns a new ThrowingSpliterator instance over the elements of batches returned by the given supplier,
+     * which is called only once the previous batch has been handed out. A null or empty batch ends the iteration
+     *
+     * @param <T>     the type of elements returned by the Spliterator
+     * @param <E>     the type of the thrown checked exception
+     * @param batches the ThrowingSupplier of consecutive batches
+     * @return ThrowingSpliterator instance over the elements of consecutive batches
+     */
+    public static <T, E extends Exception> ThrowingSpliterator<T, E> ofBatches(ThrowingSupplier<? extends Collection<? extends T>, ? extends E> batches) {
+        requireNonNull(batches);
+        return new ThrowingSpliterator<>(batches, () -> {});
+    }
+
+    /**
+     * Returns a new ThrowingSpliterator instance over the elements of batches returned by the given supplier, which
+     * is called ahead on a background thread, a virtual thread on Java 21 and later, until the given number of batches
+     * is buffered. A null or empty batch ends the iteration.
+     * <p>
+     * Reading starts on the first traversal and stops once the Spliterator is closed. A Spliterator which is not closed,
+     * for example after a short-circuiting operation on a Stream which wasn't closed, stops reading once it becomes
+     * unreachable, so closing it, e.g. with {@link #withStream(Function)}, releases the source sooner
+     *
+     * @param <T>      the type of elements returned by the Spliterator
+     * @param <E>      the type of the thrown checked exception
+     * @param batches  the ThrowingSupplier of consecutive batches
+     * @param prefetch the maximum number of batches read ahead
+     * @return ThrowingSpliterator instance over the elements of consecutive batches, read ahead in the background
+     */
+    public static <T, E extends Exception> ThrowingSpliterator<T, E> ofBatches(ThrowingSupplier<? extends Collection<? extends T>, ? extends E> batches, int prefetch) {
+        return ofBatches(batches, prefetch, BlockingExecutor.get());
+    }
+
+    /**
+     * Returns a new ThrowingSpliterator instance over the elements of batches returned by the given supplier, which
+     * is called ahead on the given executor until the given number of batches is buffered. A null or empty batch ends
+     * the iteration.
+     * <p>
+     * Reading starts on the first traversal and stops once the Spliterator is closed. A Spliterator which is not closed,
+     * for example after a short-circuiting operation on a Stream which wasn't closed, stops reading once it becomes
+     * unreachable, so closing it, e.g. with {@link #withStream(Function)}, releases the source sooner
+     *
+     * @param <T>      the type of elements returned by the Spliterator
+     * @param <E>      the type of the thrown checked exception
+     * @param batches  the ThrowingSupplier of consecutive batches
+     * @param prefetch the maximum number of batches read ahead
+     * @param executor the Executor reading batches ahead
+     * @return ThrowingSpliterator instance over the elements of consecutive batches, read ahead on the given executor
+     */
+    public static <T, E extends Exception> ThrowingSpliterator<T, E> ofBatches(ThrowingSupplier<? extends Collection<? extends T>, ? extends E> batches, int prefetch, Executor executor) {
+        requireNonNull(batches);
+        requireNonNull(executor);
+        if (prefetch < 1) {
+            throw new IllegalArgumentException("prefetch must be positive, was: " + prefetch);
+        }
+        Prefetcher<T> prefetcher = new Prefetcher<>(batches, prefetch, executor);
+        return new ThrowingSpliterator<>(prefetcher::next, prefetcher::close);
+    }
+
+    /**
+     * Returns a new ThrowingSpliterator instance over the elements of the given iterator, which are read in batches
+     * of up to 1024 elements
+     *
+     * @param <T>      the type of elements returned by the Spliterator
+     * @param <E>      the type of the thrown checked exception
+     * @param iterator the ThrowingIterator to read
+     * @return ThrowingSpliterator instance over the elements of the given iterator
+     */
+    public static <T, E extends Exception> ThrowingSpliterator<T, E> of(ThrowingIterator<? extends T, ? extends E> iterator) {
+        requireNonNull(iterator);
+        return new ThrowingSpliterator<>(() -> {
+            List<T> batch = new ArrayList<>();
+            while (batch.size() < ITERATOR_BATCH_SIZE && iterator.hasNext()) {
+                batch.add(iterator.next());
+            }
+            return batch;
+        }, () -> {});
+    }
+
+    /**
+     * Returns a sequential Stream over the elements of this Spliterator, which closes it when closed. Exceptions
+     * thrown by the source are rethrown as-is by the terminal operation
+     *
+     * @return Stream over the elements of this Spliterator
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(this, false).onClose(this::close);
+    }
+
+    /**
+     * Applies the given terminal function to a sequential Stream over the elements of this Spliterator, closes
+     * the Stream and returns the result. Exceptions thrown by the source are rethrown as-is, with their type declared
+     *
+     * @param <R>      the type of the result
+     * @param terminal the function consuming the Stream
+     * @return the result of the given function
+     * @throws E the checked exception thrown by the source
+     */
+    public <R> R withStream(Function<? super Stream<T>, ? extends R> terminal) throws E {
+        requireNonNull(terminal);
+        try (Stream<T> stream = stream()) {
+            return terminal.apply(stream);
+        }
+    }
+
+    /**
+     * Stops reading batches ahead, if enabled. Elements already handed out by splitting remain available
+     */
+    @Override
+    public void close() {
+        onClose.run();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        requireNonNull(action);
+        if (index == batch.length && !fill()) {
+            return false;
+        }
+        action.accept(element(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        requireNonNull(action);
+        do {
+            while (index < batch.length) {
+                action.accept(element(index++));
+            }
+        } while (fill());
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (index == batch.length && !fill()) {
+            return null;
+        }
+        Spliterator<T> prefix = Spliterators.spliterator(batch, index, batch.length, ORDERED);
+        batch = NO_ELEMENTS;
+        index = 0;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return exhausted ? batch.length - index : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+
+    private boolean fill() {
+        if (exhausted) {
+            return false;
+        }
+        Collection<? extends T> next = nextBatch();
+        if (next == null || next.isEmpty()) {
+            exhausted = true;
+            batch = NO_ELEMENTS;
+            index = 0;
+            return false;
+        }
+        batch = next.toArray();
+        index = 0;
+        return true;
+    }
+
+    private Collection<? extends T> nextBatch() {
+        try {
+            return batches.get();
+        } catch (final Exception e) {
+            return SneakyThrowUtil.sneakyThrow(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int index) {
+        return (T) batch[index];
+    }
+}
@@ -15,7 +15,13 @@
  */
 package com.pivovarit.function;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
@@ -74,6 +80,33 @@ public interface ThrowingSupplier<T, E extends Exception> {
         };
     }
 
+    /**
+     * Returns a new Supplier instance which returns the result as an Optional, or an empty Optional in case of a thrown
+     * exception of one of the given types. Other exceptions are rethrown as-is using the Sneaky Throws pattern
+     *
+     * @param <T>      the type of results supplied by this supplier
+     * @param supplier the ThrowingSupplier to wrap
+     * @param types    the exception types resulting in an empty Optional
+     * @return Supplier instance that returns the result as an Optional, or empty Optional in case of a thrown exception
+     * of one of the given types
+     */
+    @SafeVarargs
+    static <T> Supplier<Optional<T>> optional(ThrowingSupplier<? extends T, ?> supplier, Class<? extends Exception>... types) {
+        requireNonNull(supplier);
+        List<Class<? extends Exception>> emptyOn = new ArrayList<>(types.length);
+        for (Class<? extends Exception> type : types) {
+            emptyOn.add(type);
+        }
+        Recovery<Optional<T>> recovery = Recovery.emptyOn(emptyOn);
+        return () -> {
+            try {
+                return Optional.ofNullable(supplier.get());
+            } catch (final Exception e) {
+                return recovery.handle(e);
+            }
+        };
+    }
+
     /**
      * Returns a new Supplier instance which rethrows the checked exception using the Sneaky Throws pattern
      *
@@ -91,4 +124,278 @@ public interface ThrowingSupplier<T, E extends Exception> {
             }
         };
     }
+
+    /**
+     * Returns a new ThrowingSupplier instance which computes the value of the given supplier at most once
+     * and returns it on every subsequent call. Failures are not remembered, and the computation is attempted again on the next call
+     *
+     * @param <T>      the type of results supplied by this supplier
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingSupplier to memoize
+     * @return ThrowingSupplier instance that computes the value at most once
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> memoized(ThrowingSupplier<? extends T, ? extends E> supplier) {
+        return memoized(supplier, FailurePolicy.RETRY);
+    }
+
+    /**
+     * Returns a new ThrowingSupplier instance which computes the value of the given supplier at most once, even under contention,
+     * and returns it on every subsequent call. Once computed, the value is read without locking
+     *
+     * @param <T>           the type of results supplied by this supplier
+     * @param <E>           the type of the thrown checked exception
+     * @param supplier      the ThrowingSupplier to memoize
+     * @param failurePolicy whether a thrown exception is rethrown on subsequent calls, or the computation is retried
+     * @return ThrowingSupplier instance that computes the value at most once
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> memoized(ThrowingSupplier<? extends T, ? extends E> supplier, FailurePolicy failurePolicy) {
+        requireNonNull(supplier);
+        requireNonNull(failurePolicy);
+        return new MemoizingSupplier<>(supplier, failurePolicy);
+    }
+
+    /**
+     * Returns a new ThrowingSupplier instance which retries the given supplier according to the given policy,
+     * blocking the calling thread between attempts. The last failure is rethrown once the policy gives up
+     *
+     * @param <T>      the type of results supplied by this supplier
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingSupplier to retry
+     * @param policy   the RetryPolicy deciding which failures are retried and when
+     * @return ThrowingSupplier instance that retries failed attempts
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> retrying(ThrowingSupplier<? extends T, ? extends E> supplier, RetryPolicy policy) {
+        requireNonNull(supplier);
+        requireNonNull(policy);
+        return () -> Retrier.call(supplier, policy);
+    }
+
+    /**
+     * Returns a new Supplier instance which runs the given supplier on the given scheduler and schedules retries
+     * according to the given policy instead of blocking a thread between attempts.
+     * The returned future is completed exceptionally with the last failure once the policy gives up
+     *
+     * @param <T>       the type of results supplied by this supplier
+     * @param supplier  the ThrowingSupplier to retry
+     * @param policy    the RetryPolicy deciding which failures are retried and when
+     * @param scheduler the ScheduledExecutorService running the attempts
+     * @return Supplier instance that starts a new sequence of attempts on every call
+     */
+    static <T> Supplier<CompletableFuture<T>> retryingAsync(ThrowingSupplier<? extends T, ?> supplier, RetryPolicy policy, ScheduledExecutorService scheduler) {
+        requireNonNull(supplier);
+        requireNonNull(policy);
+        requireNonNull(scheduler);
+        return () -> Retrier.callAsync(supplier, policy, scheduler);
+    }
+
+    /**
+     * Returns a new Supplier instance which returns the result as a {@link Result}, holding either the value or the thrown exception
+     *
+     * @param <T>      the type of results supplied by this supplier
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingSupplier to wrap
+     * @return Supplier instance that returns a successful Result, or a failed Result holding the thrown exception
+     */
+    static <T, E extends Exception> Supplier<Result<T, E>> attempt(ThrowingSupplier<? extends T, ? extends E> supplier) {
+        requireNonNull(supplier);
+        return () -> {
+            try {
+                return Result.success(supplier.get());
+            } catch (final Exception e) {
+                return Result.failed(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new Supplier instance which runs the given supplier on the given executor. The returned future
+     * is completed exceptionally with the thrown exception as-is, without wrapping it
+     *
+     * @param <T>      the type of results supplied by this supplier
+     * @param supplier the ThrowingSupplier to run
+     * @param executor the Executor running the supplier
+     * @return Supplier instance that submits the given supplier on every call
+     * @see CheckedFutures#join(CompletableFuture, Class)
+     */
+    static <T> Supplier<CompletableFuture<T>> async(ThrowingSupplier<? extends T, ?> supplier, Executor executor) {
+        requireNonNull(supplier);
+        requireNonNull(executor);
+        return () -> CheckedFutures.supply(supplier, executor);
+    }
+
+    /**
+     * Returns a new ThrowingSupplier instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given supplier is invoked directly
+     *
+     * @param <T>      the type of the output to the function
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingSupplier to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingSupplier instance that records its invocations
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> instrumented(ThrowingSupplier<? extends T, ? extends E> supplier, InvocationMetrics metrics) {
+        requireNonNull(supplier);
+        requireNonNull(metrics);
+        return () -> {
+            if (!metrics.isEnabled()) {
+                return supplier.get();
+            }
+            long start = System.nanoTime();
+            T result;
+            try {
+                result = supplier.get();
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new ThrowingSupplier instance which calls the given supplier only while the given CircuitBreaker
+     * permits it, and records the outcome of every call. Rejected calls throw a shared {@link CallNotPermittedException}
+     *
+     * @param <T>      the type of results supplied by this supplier
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingSupplier to protect
+     * @param breaker  the CircuitBreaker deciding whether calls are permitted
+     * @return ThrowingSupplier instance that fails fast while the breaker is open
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> circuitBreaking(ThrowingSupplier<? extends T, ? extends E> supplier, CircuitBreaker breaker) {
+        requireNonNull(supplier);
+        requireNonNull(breaker);
+        return () -> {
+            int permit = breaker.acquire();
+            if (permit == CircuitBreaker.DENIED) {
+                throw CircuitBreaker.rejected();
+            }
+            T result;
+            try {
+                result = supplier.get();
+            } catch (final Throwable e) {
+                breaker.onFailure(permit, e);
+                throw e;
+            }
+            breaker.onSuccess(permit);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new ThrowingSupplier instance which calls the given supplier only while the given CircuitBreaker
+     * permits it, and records the outcome of every call. Rejected calls return the value of the fallback supplier
+     *
+     * @param <T>      the type of results supplied by this supplier
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingSupplier to protect
+     * @param breaker  the CircuitBreaker deciding whether calls are permitted
+     * @param fallback the Supplier of the value returned by a rejected call
+     * @return ThrowingSupplier instance that falls back while the breaker is open
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> circuitBreaking(ThrowingSupplier<? extends T, ? extends E> supplier, CircuitBreaker breaker, Supplier<? extends T> fallback) {
+        requireNonNull(supplier);
+        requireNonNull(breaker);
+        requireNonNull(fallback);
+        return () -> {
+            int permit = breaker.acquire();
+            if (permit == CircuitBreaker.DENIED) {
+                return fallback.get();
+            }
+            T result;
+            try {
+                result = supplier.get();
+            } catch (final Throwable e) {
+                breaker.onFailure(permit, e);
+                throw e;
+            }
+            breaker.onSuccess(permit);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new ThrowingSupplier instance which acquires a permit from the given Bulkhead before every call,
+     * and reports the latency and the outcome of the call to it. Calls without a permit throw a shared
+     * {@link CallNotPermittedException}
+     *
+     * @param <T>      the type of results supplied by this supplier
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingSupplier to limit
+     * @param bulkhead the Bulkhead limiting concurrent calls
+     * @return ThrowingSupplier instance limited by the given Bulkhead
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> concurrencyLimited(ThrowingSupplier<? extends T, ? extends E> supplier, Bulkhead bulkhead) {
+        requireNonNull(supplier);
+        requireNonNull(bulkhead);
+        return () -> {
+            long start = bulkhead.acquirePermit();
+            T result;
+            try {
+                result = supplier.get();
+            } catch (final Throwable e) {
+                bulkhead.onFailure(start, e);
+                throw e;
+            }
+            bulkhead.onSuccess(start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new ThrowingSupplier instance which runs the given supplier on a shared pool of daemon threads,
+     * or on a new virtual thread on Java 21 and later, and waits for it at most the given time. On expiry, the call is interrupted and a {@link CallTimeoutException}
+     * is thrown; an exception thrown by the supplier in time is rethrown as-is
+     *
+     * @param <T>      the type of results supplied by this supplier
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingSupplier to limit
+     * @param timeout  the maximum time to wait for the result
+     * @return ThrowingSupplier instance limited by the given timeout
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> timeLimited(ThrowingSupplier<? extends T, ? extends E> supplier, Duration timeout) {
+        return timeLimited(supplier, timeout, BlockingExecutor.get());
+    }
+
+    /**
+     * Returns a new ThrowingSupplier instance which runs the given supplier on the given executor and waits for it
+     * at most the given time. On expiry, the call is interrupted and a {@link CallTimeoutException} is thrown;
+     * an exception thrown by the supplier in time is rethrown as-is
+     *
+     * @param <T>      the type of results supplied by this supplier
+     * @param <E>      the type of the thrown checked exception
+     * @param supplier the ThrowingSupplier to limit
+     * @param timeout  the maximum time to wait for the result
+     * @param executor the Executor running the supplier
+     * @return ThrowingSupplier instance limited by the given timeout
+     */
+    static <T, E extends Exception> ThrowingSupplier<T, E> timeLimited(ThrowingSupplier<? extends T, ? extends E> supplier, Duration timeout, Executor executor) {
+        requireNonNull(supplier);
+        requireNonNull(executor);
+        Timeouts.requirePositive(timeout);
+        return () -> Timeouts.call(supplier, timeout, executor);
+    }
+
+    /**
+     * Returns a new Supplier instance which handles exceptions thrown by the given supplier using the given Recovery:
+     * recovers with the value of the matching handler, throws the exception it translates into, or rethrows
+     * the exception as-is if there is no handler for it
+     *
+     * @param <T>      the type of results supplied by this supplier
+     * @param supplier the ThrowingSupplier to wrap
+     * @param recovery the Recovery handling thrown exceptions
+     * @return Supplier instance recovering from exceptions with the given Recovery
+     */
+    static <T> Supplier<T> recovering(ThrowingSupplier<? extends T, ?> supplier, Recovery<? extends T> recovery) {
+        requireNonNull(supplier);
+        requireNonNull(recovery);
+        return () -> {
+            try {
+                return supplier.get();
+            } catch (final Exception e) {
+                return recovery.handle(e);
+            }
+        };
+    }
 }
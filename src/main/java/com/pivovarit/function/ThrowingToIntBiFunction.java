@@ -0,0 +1,136 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.OptionalInt;
+import java.util.function.BiFunction;
+import java.util.function.ToIntBiFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a function that accepts two arguments and produces an int-valued
+ * result.  This is the {@code int}-producing primitive specialization for
+ * {@link ThrowingBiFunction}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <T> the type of the first argument to the function
+ * @param <U> the type of the second argument to the function
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingBiFunction
+ */
+@FunctionalInterface
+public interface ThrowingToIntBiFunction<T, U, E extends Exception> {
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t the first function argument
+     * @param u the second function argument
+     * @return the function result
+     * @throws E the checked exception type
+     */
+    int applyAsInt(T t, U u) throws E;
+
+    /**
+     * Returns a new ToIntBiFunction instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param <T>      the type of the first argument to the function
+     * @param <U>      the type of the second argument to the function
+     * @param function the ThrowingToIntBiFunction to wrap
+     * @return ToIntBiFunction instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static <T, U> ToIntBiFunction<T, U> unchecked(ThrowingToIntBiFunction<? super T, ? super U, ?> function) {
+        requireNonNull(function);
+        return (t, u) -> {
+            try {
+                return function.applyAsInt(t, u);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ToIntBiFunction instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param <T>      the type of the first argument to the function
+     * @param <U>      the type of the second argument to the function
+     * @param function the ThrowingToIntBiFunction to wrap
+     * @return ToIntBiFunction instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static <T, U> ToIntBiFunction<T, U> sneaky(ThrowingToIntBiFunction<? super T, ? super U, ?> function) {
+        requireNonNull(function);
+        return (t, u) -> {
+            try {
+                return function.applyAsInt(t, u);
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new BiFunction instance which returns the result as an OptionalInt, or an empty OptionalInt in case of a thrown exception
+     *
+     * @param <T>      the type of the first argument to the function
+     * @param <U>      the type of the second argument to the function
+     * @param function the ThrowingToIntBiFunction to wrap
+     * @return BiFunction instance that returns the result as an OptionalInt, or empty OptionalInt in case of a thrown exception
+     */
+    static <T, U> BiFunction<T, U, OptionalInt> optional(ThrowingToIntBiFunction<? super T, ? super U, ?> function) {
+        requireNonNull(function);
+        return (t, u) -> {
+            try {
+                return OptionalInt.of(function.applyAsInt(t, u));
+            } catch (final Exception e) {
+                return OptionalInt.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingToIntBiFunction instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given function is invoked directly
+     *
+     * @param <T>      the type of the first argument to the function
+     * @param <U>      the type of the second argument to the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingToIntBiFunction to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingToIntBiFunction instance that records its invocations
+     */
+    static <T, U, E extends Exception> ThrowingToIntBiFunction<T, U, E> instrumented(ThrowingToIntBiFunction<? super T, ? super U, ? extends E> function, InvocationMetrics metrics) {
+        requireNonNull(function);
+        requireNonNull(metrics);
+        return (t, u) -> {
+            if (!metrics.isEnabled()) {
+                return function.applyAsInt(t, u);
+            }
+            long start = System.nanoTime();
+            int result;
+            try {
+                result = function.applyAsInt(t, u);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
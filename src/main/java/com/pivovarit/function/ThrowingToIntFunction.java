@@ -0,0 +1,129 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a function that produces an int-valued result.  This is the
+ * {@code int}-producing primitive specialization for {@link ThrowingFunction}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <T> the type of the input to the function
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingFunction
+ */
+@FunctionalInterface
+public interface ThrowingToIntFunction<T, E extends Exception> {
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param arg the function argument
+     * @return the function result
+     * @throws E the checked exception type
+     */
+    int applyAsInt(T arg) throws E;
+
+    /**
+     * Returns a new ToIntFunction instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param <T>      the type of the input to the function
+     * @param function the ThrowingToIntFunction to wrap
+     * @return ToIntFunction instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static <T> ToIntFunction<T> unchecked(ThrowingToIntFunction<? super T, ?> function) {
+        requireNonNull(function);
+        return arg -> {
+            try {
+                return function.applyAsInt(arg);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ToIntFunction instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param <T>      the type of the input to the function
+     * @param function the ThrowingToIntFunction to wrap
+     * @return ToIntFunction instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static <T> ToIntFunction<T> sneaky(ThrowingToIntFunction<? super T, ?> function) {
+        requireNonNull(function);
+        return arg -> {
+            try {
+                return function.applyAsInt(arg);
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new Function instance which returns the result as an OptionalInt, or an empty OptionalInt in case of a thrown exception
+     *
+     * @param <T>      the type of the input to the function
+     * @param function the ThrowingToIntFunction to wrap
+     * @return Function instance that returns the result as an OptionalInt, or empty OptionalInt in case of a thrown exception
+     */
+    static <T> Function<T, OptionalInt> optional(ThrowingToIntFunction<? super T, ?> function) {
+        requireNonNull(function);
+        return arg -> {
+            try {
+                return OptionalInt.of(function.applyAsInt(arg));
+            } catch (final Exception e) {
+                return OptionalInt.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingToIntFunction instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given function is invoked directly
+     *
+     * @param <T>      the type of the input to the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingToIntFunction to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingToIntFunction instance that records its invocations
+     */
+    static <T, E extends Exception> ThrowingToIntFunction<T, E> instrumented(ThrowingToIntFunction<? super T, ? extends E> function, InvocationMetrics metrics) {
+        requireNonNull(function);
+        requireNonNull(metrics);
+        return arg -> {
+            if (!metrics.isEnabled()) {
+                return function.applyAsInt(arg);
+            }
+            long start = System.nanoTime();
+            int result;
+            try {
+                result = function.applyAsInt(arg);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.OptionalLong;
+import java.util.function.BiFunction;
+import java.util.function.ToLongBiFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents a function that accepts two arguments and produces a long-valued
+ * result.  This is the {@code long}-producing primitive specialization for
+ * {@link ThrowingBiFunction}.
+ * Function might throw a checked exception instance.
+ *
+ * @param <T> the type of the first argument to the function
+ * @param <U> the type of the second argument to the function
+ * @param <E> the type of the thrown checked exception
+ *
+ * @author Grzegorz Piwowarek
+ * @see ThrowingBiFunction
+ */
+@FunctionalInterface
+public interface ThrowingToLongBiFunction<T, U, E extends Exception> {
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t the first function argument
+     * @param u the second function argument
+     * @return the function result
+     * @throws E the checked exception type
+     */
+    long applyAsLong(T t, U u) throws E;
+
+    /**
+     * Returns a new ToLongBiFunction instance which wraps the thrown checked exception instance into a {@link CheckedException}
+     *
+     * @param <T>      the type of the first argument to the function
+     * @param <U>      the type of the second argument to the function
+     * @param function the ThrowingToLongBiFunction to wrap
+     * @return ToLongBiFunction instance that wraps the checked exception into a {@link CheckedException}
+     */
+    static <T, U> ToLongBiFunction<T, U> unchecked(ThrowingToLongBiFunction<? super T, ? super U, ?> function) {
+        requireNonNull(function);
+        return (t, u) -> {
+            try {
+                return function.applyAsLong(t, u);
+            } catch (final Exception e) {
+                throw new CheckedException(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ToLongBiFunction instance which rethrows the checked exception using the Sneaky Throws pattern
+     *
+     * @param <T>      the type of the first argument to the function
+     * @param <U>      the type of the second argument to the function
+     * @param function the ThrowingToLongBiFunction to wrap
+     * @return ToLongBiFunction instance that rethrows the checked exception using the Sneaky Throws pattern
+     */
+    static <T, U> ToLongBiFunction<T, U> sneaky(ThrowingToLongBiFunction<? super T, ? super U, ?> function) {
+        requireNonNull(function);
+        return (t, u) -> {
+            try {
+                return function.applyAsLong(t, u);
+            } catch (final Exception e) {
+                return SneakyThrowUtil.sneakyThrow(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new BiFunction instance which returns the result as an OptionalLong, or an empty OptionalLong in case of a thrown exception
+     *
+     * @param <T>      the type of the first argument to the function
+     * @param <U>      the type of the second argument to the function
+     * @param function the ThrowingToLongBiFunction to wrap
+     * @return BiFunction instance that returns the result as an OptionalLong, or empty OptionalLong in case of a thrown exception
+     */
+    static <T, U> BiFunction<T, U, OptionalLong> optional(ThrowingToLongBiFunction<? super T, ? super U, ?> function) {
+        requireNonNull(function);
+        return (t, u) -> {
+            try {
+                return OptionalLong.of(function.applyAsLong(t, u));
+            } catch (final Exception e) {
+                return OptionalLong.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingToLongBiFunction instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given function is invoked directly
+     *
+     * @param <T>      the type of the first argument to the function
+     * @param <U>      the type of the second argument to the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingToLongBiFunction to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingToLongBiFunction instance that records its invocations
+     */
+    static <T, U, E extends Exception> ThrowingToLongBiFunction<T, U, E> instrumented(ThrowingToLongBiFunction<? super T, ? super U, ? extends E> function, InvocationMetrics metrics) {
+        requireNonNull(function);
+        requireNonNull(metrics);
+        return (t, u) -> {
+            if (!metrics.isEnabled()) {
+                return function.applyAsLong(t, u);
+            }
+            long start = System.nanoTime();
+            long result;
+            try {
+                result = function.applyAsLong(t, u);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+}
@@ -15,6 +15,8 @@
  */
 package com.pivovarit.function;
 
+import java.util.OptionalLong;
+import java.util.function.Function;
 import java.util.function.ToLongFunction;
 
 import static java.util.Objects.requireNonNull;
@@ -73,4 +75,93 @@ public interface ThrowingToLongFunction<T, E extends Exception> {
             }
         };
     }
+
+    /**
+     * Returns a new Function instance which returns the result as an OptionalLong, or an empty OptionalLong in case of a thrown exception
+     *
+     * @param <T>      the type of the input to the function
+     * @param function the ThrowingToLongFunction to wrap
+     * @return Function instance that returns the result as an OptionalLong, or empty OptionalLong in case of a thrown exception
+     */
+    static <T> Function<T, OptionalLong> optional(final ThrowingToLongFunction<? super T, ?> function) {
+        requireNonNull(function);
+        return t -> {
+            try {
+                return OptionalLong.of(function.applyAsLong(t));
+            } catch (final Exception e) {
+                return OptionalLong.empty();
+            }
+        };
+    }
+
+    /**
+     * Returns a new Function instance which returns the result as a {@link Result}, holding either the value or the thrown exception
+     *
+     * @param <T>      the type of the input to the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingToLongFunction to wrap
+     * @return Function instance that returns a successful Result, or a failed Result holding the thrown exception
+     */
+    static <T, E extends Exception> Function<T, Result<Long, E>> attempt(ThrowingToLongFunction<? super T, ? extends E> function) {
+        requireNonNull(function);
+        return t -> {
+            try {
+                return Result.success(function.applyAsLong(t));
+            } catch (final Exception e) {
+                return Result.failed(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingToLongFunction instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given function is invoked directly
+     *
+     * @param <T>      the type of the input to the function
+     * @param <E>      the type of the thrown checked exception
+     * @param function the ThrowingToLongFunction to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingToLongFunction instance that records its invocations
+     */
+    static <T, E extends Exception> ThrowingToLongFunction<T, E> instrumented(ThrowingToLongFunction<? super T, ? extends E> function, InvocationMetrics metrics) {
+        requireNonNull(function);
+        requireNonNull(metrics);
+        return arg -> {
+            if (!metrics.isEnabled()) {
+                return function.applyAsLong(arg);
+            }
+            long start = System.nanoTime();
+            long result;
+            try {
+                result = function.applyAsLong(arg);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new ToLongFunction instance which handles exceptions thrown by the given function using the given Recovery:
+     * recovers with the value of the matching handler, throws the exception it translates into, or rethrows
+     * the exception as-is if there is no handler for it. Recovered values must not be null
+     *
+     * @param <T>      the type of the input to the function
+     * @param function the ThrowingToLongFunction to wrap
+     * @param recovery the Recovery handling thrown exceptions
+     * @return ToLongFunction instance recovering from exceptions with the given Recovery
+     */
+    static <T> ToLongFunction<T> recovering(ThrowingToLongFunction<? super T, ?> function, Recovery<Long> recovery) {
+        requireNonNull(function);
+        requireNonNull(recovery);
+        return t -> {
+            try {
+                return function.applyAsLong(t);
+            } catch (final Exception e) {
+                return recovery.handle(e);
+            }
+        };
+    }
 }
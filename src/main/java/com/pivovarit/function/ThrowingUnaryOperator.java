@@ -15,6 +15,9 @@
  */
 package com.pivovarit.function;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 import static java.util.Objects.requireNonNull;
@@ -35,6 +38,31 @@ import static java.util.Objects.requireNonNull;
 @FunctionalInterface
 public interface ThrowingUnaryOperator<T, E extends Exception> extends ThrowingFunction<T, T, E> {
 
+    /**
+     * Returns a ThrowingUnaryOperator instance which applies the given operators in order, each to the result
+     * of the previous one, in a single loop instead of nesting a call per stage. Exceptions are propagated as-is,
+     * and skip the remaining operators
+     *
+     * @param <T>       the type of the operand and result of the operators
+     * @param <E>       the type of the thrown checked exception
+     * @param operators the ThrowingUnaryOperators to apply in order
+     * @return ThrowingUnaryOperator instance applying all given operators in order
+     */
+    @SafeVarargs
+    static <T, E extends Exception> ThrowingUnaryOperator<T, E> chain(ThrowingUnaryOperator<T, ? extends E>... operators) {
+        List<ThrowingUnaryOperator<T, ? extends E>> stages = new ArrayList<>(operators.length);
+        for (ThrowingUnaryOperator<T, ? extends E> operator : operators) {
+            stages.add(requireNonNull(operator));
+        }
+        return t -> {
+            T result = t;
+            for (ThrowingUnaryOperator<T, ? extends E> stage : stages) {
+                result = stage.apply(result);
+            }
+            return result;
+        };
+    }
+
     /**
      * Returns a new UnaryOperator instance which wraps the thrown checked exception instance into a {@link CheckedException}
      *
@@ -70,4 +98,75 @@ public interface ThrowingUnaryOperator<T, E extends Exception> extends ThrowingF
             }
         };
     }
+
+    /**
+     * Returns a new Function instance which returns the result as a {@link Result}, holding either the value or the thrown exception
+     *
+     * @param <T>      the type of the operand and result of the operator
+     * @param <E>      the type of the thrown checked exception
+     * @param operator the ThrowingUnaryOperator to wrap
+     * @return Function instance that returns a successful Result, or a failed Result holding the thrown exception
+     */
+    static <T, E extends Exception> Function<T, Result<T, E>> attempt(ThrowingUnaryOperator<T, ? extends E> operator) {
+        requireNonNull(operator);
+        return t -> {
+            try {
+                return Result.success(operator.apply(t));
+            } catch (final Exception e) {
+                return Result.failed(e);
+            }
+        };
+    }
+
+    /**
+     * Returns a new ThrowingUnaryOperator instance which records every invocation, its latency and its failure
+     * in the given InvocationMetrics instance. While the metrics are disabled, the given operator is invoked directly
+     *
+     * @param <T>      the type of the operand and result of the operator
+     * @param <E>      the type of the thrown checked exception
+     * @param operator the ThrowingUnaryOperator to instrument
+     * @param metrics  the InvocationMetrics instance recording the invocations
+     * @return ThrowingUnaryOperator instance that records its invocations
+     */
+    static <T, E extends Exception> ThrowingUnaryOperator<T, E> instrumented(ThrowingUnaryOperator<T, ? extends E> operator, InvocationMetrics metrics) {
+        requireNonNull(operator);
+        requireNonNull(metrics);
+        return t -> {
+            if (!metrics.isEnabled()) {
+                return operator.apply(t);
+            }
+            long start = System.nanoTime();
+            T result;
+            try {
+                result = operator.apply(t);
+            } catch (final Exception e) {
+                metrics.recordFailure(start, e);
+                throw e;
+            }
+            metrics.recordSuccess(start);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a new UnaryOperator instance which handles exceptions thrown by the given operator using the given Recovery:
+     * recovers with the value of the matching handler, throws the exception it translates into, or rethrows
+     * the exception as-is if there is no handler for it
+     *
+     * @param <T>      the type of the operand and result of the operator
+     * @param operator the ThrowingUnaryOperator to wrap
+     * @param recovery the Recovery handling thrown exceptions
+     * @return UnaryOperator instance recovering from exceptions with the given Recovery
+     */
+    static <T> UnaryOperator<T> recovering(ThrowingUnaryOperator<T, ?> operator, Recovery<? extends T> recovery) {
+        requireNonNull(operator);
+        requireNonNull(recovery);
+        return t -> {
+            try {
+                return operator.apply(t);
+            } catch (final Exception e) {
+                return recovery.handle(e);
+            }
+        };
+    }
 }
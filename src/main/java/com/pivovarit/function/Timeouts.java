@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs calls on an executor while the calling thread waits for them with a deadline.
+ * <p>
+ * The deadline is enforced by the timed wait of the calling thread itself, so no timer thread or timer task
+ * is involved. On expiry, the call is cancelled with an interrupt and a {@link CallTimeoutException} is thrown.
+ * If the call completes first, its result is returned and its exception is rethrown as-is.
+ */
+final class Timeouts {
+
+    private Timeouts() {
+    }
+
+    static <T> T call(ThrowingSupplier<? extends T, ?> supplier, Duration timeout, Executor executor) {
+        FutureTask<T> task = new FutureTask<>(supplier::get);
+        executor.execute(task);
+        try {
+            return task.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (task.cancel(true)) {
+                throw new CallTimeoutException(timeout);
+            }
+            // completed while timing out
+            return report(task);
+        } catch (ExecutionException e) {
+            throw SneakyThrowUtil.rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CheckedException(e);
+        }
+    }
+
+    static void requirePositive(Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive, was: " + timeout);
+        }
+    }
+
+    private static <T> T report(FutureTask<T> task) {
+        boolean interrupted = false;
+        try {
+            for (;;) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    throw SneakyThrowUtil.rethrow(e.getCause());
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
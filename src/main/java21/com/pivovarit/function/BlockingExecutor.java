@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014-2016 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The executor running blocking calls when no executor is given: starts a new virtual thread per call.
+ */
+final class BlockingExecutor {
+
+    private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("throwing-function-", 1).factory();
+
+    private static final Executor INSTANCE = runnable -> VIRTUAL_THREADS.newThread(runnable).start();
+
+    private BlockingExecutor() {
+    }
+
+    static Executor get() {
+        return INSTANCE;
+    }
+}
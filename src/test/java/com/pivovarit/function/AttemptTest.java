@@ -0,0 +1,108 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttemptTest {
+
+    @Test
+    void shouldApplyFusedStages() throws IOException {
+        // given
+        Attempt<String, String, IOException> attempt = ThrowingFunction.<String, Integer, IOException>attempt(Integer::parseInt)
+          .map(i -> i + 1)
+          .flatMap(i -> Result.success(i * 2))
+          .map(String::valueOf);
+
+        // when
+        Result<String, IOException> result = attempt.apply("20");
+
+        // then
+        assertThat(result.get()).isEqualTo("42");
+    }
+
+    @Test
+    void shouldSkipRemainingStagesOnFailure() {
+        IOException cause = new IOException("some message");
+        AtomicInteger calls = new AtomicInteger();
+
+        // given
+        Attempt<Integer, Integer, IOException> attempt = ThrowingFunction.<Integer, Integer, IOException>attempt(i -> {
+              if (i > 0) {
+                  throw cause;
+              }
+              return i;
+          })
+          .map(calls::addAndGet)
+          .map(calls::addAndGet);
+
+        // when
+        Result<Integer, IOException> result = attempt.apply(1);
+
+        // then
+        assertThat(result.exception()).isSameAs(cause);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    void shouldRecoverFromFailureOfPreviousStages() throws IOException {
+        // given
+        Attempt<Integer, Integer, IOException> attempt = ThrowingFunction.<Integer, Integer, IOException>attempt(i -> i)
+          .<Integer>map(i -> {
+              throw new IOException("some message");
+          })
+          .recover(e -> -1)
+          .map(i -> i * 2);
+
+        // when
+        Result<Integer, IOException> result = attempt.apply(42);
+
+        // then
+        assertThat(result.get()).isEqualTo(-2);
+    }
+
+    @Test
+    void shouldReturnFailureOfFlatMappedResult() {
+        IOException cause = new IOException("some message");
+
+        // given
+        Attempt<Integer, Integer, IOException> attempt = ThrowingFunction.<Integer, Integer, IOException>attempt(i -> i)
+          .flatMap(i -> Result.failure(cause));
+
+        // when
+        Result<Integer, IOException> result = attempt.apply(42);
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.exception()).isSameAs(cause);
+    }
+
+    @Test
+    void shouldShareEmptyAndBooleanResults() {
+        // given
+        Attempt<Integer, Boolean, IOException> attempt = ThrowingFunction.<Integer, Integer, IOException>attempt(i -> i).map(i -> i > 0);
+
+        // when
+        Result<Boolean, IOException> result = attempt.apply(42);
+
+        // then
+        assertThat(result).isSameAs(Result.success(true));
+    }
+}
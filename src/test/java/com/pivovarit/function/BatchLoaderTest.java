@@ -0,0 +1,147 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchLoaderTest {
+
+    private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    private final ThrowingFunction<List<Integer>, Map<Integer, String>, IOException> bulk = keys -> {
+        batches.add(keys);
+        return keys.stream().collect(Collectors.toMap(Function.identity(), String::valueOf));
+    };
+
+    @Test
+    void shouldDispatchDistinctKeysOnceBatchIsFull() throws IOException {
+        // given
+        BatchLoader<Integer, String, IOException> loader = BatchLoader.builder(bulk)
+          .maxBatchSize(3)
+          .maxDelay(Duration.ofMinutes(1))
+          .build();
+
+        // when
+        List<CompletableFuture<String>> results = Arrays.asList(
+          loader.loadAsync(1), loader.loadAsync(2), loader.loadAsync(1), loader.loadAsync(3));
+
+        // then
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(CheckedFutures.join(results.get(i), IOException.class)).isEqualTo(String.valueOf(Arrays.asList(1, 2, 1, 3).get(i)));
+        }
+        assertThat(batches).containsExactly(Arrays.asList(1, 2, 3));
+    }
+
+    @Test
+    void shouldDispatchBatchOnceDelayElapses() throws IOException {
+        // given
+        BatchLoader<Integer, String, IOException> loader = BatchLoader.builder(bulk)
+          .maxDelay(Duration.ofMillis(50))
+          .build();
+
+        // when
+        CompletableFuture<String> first = loader.loadAsync(1);
+        CompletableFuture<String> second = loader.loadAsync(2);
+
+        // then
+        assertThat(CheckedFutures.join(first, IOException.class)).isEqualTo("1");
+        assertThat(CheckedFutures.join(second, IOException.class)).isEqualTo("2");
+        assertThat(batches).containsExactly(Arrays.asList(1, 2));
+    }
+
+    @Test
+    void shouldStartNewBatchAfterDispatch() throws IOException {
+        // given
+        BatchLoader<Integer, String, IOException> loader = BatchLoader.builder(bulk)
+          .maxDelay(Duration.ZERO)
+          .build();
+
+        // when
+        loader.apply(1);
+        loader.apply(1);
+
+        // then
+        assertThat(batches).containsExactly(Collections.singletonList(1), Collections.singletonList(1));
+    }
+
+    @Test
+    void shouldPassBulkFailureToEveryCaller() {
+        IOException cause = new IOException("some message");
+
+        // given
+        BatchLoader<Integer, String, IOException> loader = BatchLoader.<Integer, String, IOException>builder(keys -> { throw cause; })
+          .maxBatchSize(2)
+          .maxDelay(Duration.ofMinutes(1))
+          .build();
+
+        // when
+        CompletableFuture<String> first = loader.loadAsync(1);
+        assertThatThrownBy(() -> loader.apply(2)).isSameAs(cause);
+
+        // then
+        assertThatThrownBy(() -> CheckedFutures.join(first, IOException.class)).isSameAs(cause);
+    }
+
+    @Test
+    void shouldReturnNullForMissingKeys() throws IOException {
+        // given
+        BatchLoader<Integer, String, IOException> loader = BatchLoader.<Integer, String, IOException>builder(keys -> Collections.emptyMap())
+          .maxDelay(Duration.ZERO)
+          .build();
+
+        // when
+        String result = loader.apply(42);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void shouldFailBatchRejectedByExecutor() {
+        // given
+        BatchLoader<Integer, String, IOException> loader = BatchLoader.builder(bulk)
+          .executor(runnable -> { throw new RejectedExecutionException(); })
+          .build();
+
+        // when
+        assertThatThrownBy(() -> loader.apply(1)).isInstanceOf(RejectedExecutionException.class);
+
+        // then
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> BatchLoader.builder(bulk).maxBatchSize(0))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchLoader.builder(bulk).maxDelay(Duration.ofMillis(-1)))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+}
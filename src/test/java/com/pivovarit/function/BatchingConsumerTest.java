@@ -0,0 +1,303 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchingConsumerTest {
+
+    private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    private final ThrowingConsumer<List<Integer>, IOException> sink = batch -> batches.add(new ArrayList<>(batch));
+
+    @Test
+    void shouldFlushFullBatches() throws IOException {
+        // given
+        BatchingConsumer<Integer, IOException> consumer = BatchingConsumer.builder(sink)
+          .maxBatchSize(3)
+          .maxLatency(Duration.ofMinutes(1))
+          .build();
+
+        // when
+        for (int i = 1; i <= 6; i++) {
+            consumer.accept(i);
+        }
+        consumer.close();
+
+        // then
+        assertThat(batches).containsExactly(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6));
+    }
+
+    @Test
+    void shouldFlushIncompleteBatchOnceLatencyElapses() throws IOException, InterruptedException {
+        CountDownLatch flushed = new CountDownLatch(1);
+
+        // given
+        BatchingConsumer<Integer, IOException> consumer = BatchingConsumer.<Integer, IOException>builder(batch -> {
+              batches.add(new ArrayList<>(batch));
+              flushed.countDown();
+          })
+          .maxLatency(Duration.ofMillis(20))
+          .build();
+
+        // when
+        long start = System.nanoTime();
+        consumer.accept(1);
+        consumer.accept(2);
+
+        // then
+        assertThat(flushed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(15).toNanos());
+        assertThat(batches).containsExactly(Arrays.asList(1, 2));
+    }
+
+    @Test
+    void shouldReuseBatchList() throws IOException {
+        List<List<Integer>> received = new ArrayList<>();
+
+        // given
+        BatchingConsumer<Integer, IOException> consumer = BatchingConsumer.<Integer, IOException>builder(received::add)
+          .maxBatchSize(1)
+          .build();
+
+        // when
+        consumer.accept(1);
+        consumer.flush();
+        consumer.accept(2);
+        consumer.flush();
+
+        // then
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0)).isSameAs(received.get(1)).isEmpty();
+        assertThatThrownBy(() -> received.get(0).add(3)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldRethrowFailedFlushToProducer() throws IOException {
+        IOException cause = new IOException("some message");
+
+        // given
+        BatchingConsumer<Integer, IOException> consumer = BatchingConsumer.<Integer, IOException>builder(batch -> {
+              if (batch.contains(1)) {
+                  throw cause;
+              }
+              batches.add(new ArrayList<>(batch));
+          })
+          .build();
+
+        // when
+        consumer.accept(1);
+        assertThatThrownBy(consumer::flush).isSameAs(cause);
+        consumer.accept(2);
+        consumer.close();
+
+        // then
+        assertThat(batches).containsExactly(Collections.singletonList(2));
+    }
+
+    @Test
+    void shouldPassFailedFlushToErrorHandler() throws IOException {
+        IOException cause = new IOException("some message");
+        AtomicReference<Exception> handled = new AtomicReference<>();
+
+        // given
+        BatchingConsumer<Integer, IOException> consumer = BatchingConsumer.<Integer, IOException>builder(batch -> { throw cause; })
+          .onFailure(handled::set)
+          .build();
+
+        // when
+        consumer.accept(1);
+        consumer.close();
+
+        // then
+        assertThat(handled).hasValue(cause);
+    }
+
+    @Test
+    void shouldKeepFlushingWhenErrorHandlerThrows() throws IOException {
+        IllegalStateException handlerFailure = new IllegalStateException("handler failed");
+        List<Runnable> tasks = new ArrayList<>();
+
+        // given
+        BatchingConsumer<Integer, IOException> consumer = BatchingConsumer.<Integer, IOException>builder(batch -> {
+              if (batch.contains(1)) {
+                  throw new IOException("some message");
+              }
+              batches.add(new ArrayList<>(batch));
+          })
+          .maxBatchSize(1)
+          .onFailure(e -> { throw handlerFailure; })
+          .executor(tasks::add)
+          .build();
+
+        // when
+        consumer.accept(1);
+        consumer.accept(2);
+        consumer.accept(3);
+        tasks.get(0).run();
+
+        // then
+        assertThatThrownBy(consumer::flush).isSameAs(handlerFailure);
+        assertThat(batches).containsExactly(Collections.singletonList(2), Collections.singletonList(3));
+        consumer.close();
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    void shouldRethrowErrorOfSinkToProducer() throws IOException {
+        AssertionError cause = new AssertionError("some message");
+        AtomicReference<Exception> handled = new AtomicReference<>();
+
+        // given
+        BatchingConsumer<Integer, IOException> consumer = BatchingConsumer.<Integer, IOException>builder(batch -> {
+              if (batch.contains(1)) {
+                  throw cause;
+              }
+              batches.add(new ArrayList<>(batch));
+          })
+          .onFailure(handled::set)
+          .build();
+
+        // when
+        consumer.accept(1);
+        assertThatThrownBy(consumer::flush).isSameAs(cause);
+        consumer.accept(2);
+        consumer.close();
+
+        // then
+        assertThat(batches).containsExactly(Collections.singletonList(2));
+        assertThat(handled).hasValue(null);
+    }
+
+    @Test
+    void shouldRejectWaitingForFlushFromWithinSink() throws IOException {
+        AtomicReference<BatchingConsumer<Integer, IOException>> self = new AtomicReference<>();
+        List<Throwable> rejected = Collections.synchronizedList(new ArrayList<>());
+
+        // given
+        BatchingConsumer<Integer, IOException> consumer = BatchingConsumer.<Integer, IOException>builder(batch -> {
+              batches.add(new ArrayList<>(batch));
+              try {
+                  self.get().flush();
+              } catch (IllegalStateException e) {
+                  rejected.add(e);
+              }
+              try {
+                  self.get().close();
+              } catch (IllegalStateException e) {
+                  rejected.add(e);
+              }
+          })
+          .build();
+        self.set(consumer);
+
+        // when
+        consumer.accept(1);
+        consumer.close();
+
+        // then
+        assertThat(batches).containsExactly(Collections.singletonList(1));
+        assertThat(rejected).hasSize(2);
+    }
+
+    @Test
+    void shouldRejectItemsWhenBufferIsFull() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // given
+        BatchingConsumer<Integer, Exception> consumer = BatchingConsumer.<Integer, Exception>builder(batch -> {
+              writing.countDown();
+              release.await();
+          })
+          .maxBatchSize(1)
+          .capacity(1)
+          .nonBlocking()
+          .build();
+
+        // when
+        consumer.accept(1);
+        assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+        consumer.accept(2);
+
+        // then
+        assertThatThrownBy(() -> consumer.accept(3)).isSameAs(CallNotPermittedException.INSTANCE);
+        release.countDown();
+        consumer.close();
+    }
+
+    @Test
+    void shouldWaitForSpaceAtMostTimeout() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // given
+        BatchingConsumer<Integer, Exception> consumer = BatchingConsumer.<Integer, Exception>builder(batch -> {
+              writing.countDown();
+              release.await();
+          })
+          .maxBatchSize(1)
+          .capacity(1)
+          .timeout(Duration.ofMillis(20))
+          .build();
+
+        // when
+        consumer.accept(1);
+        assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+        consumer.accept(2);
+        long start = System.nanoTime();
+
+        // then
+        assertThatThrownBy(() -> consumer.accept(3)).isInstanceOf(CallNotPermittedException.class);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(15).toNanos());
+        release.countDown();
+        consumer.close();
+    }
+
+    @Test
+    void shouldRejectItemsOnceClosed() throws IOException {
+        // given
+        BatchingConsumer<Integer, IOException> consumer = BatchingConsumer.builder(sink).build();
+
+        // when
+        consumer.close();
+
+        // then
+        assertThatThrownBy(() -> consumer.accept(1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> BatchingConsumer.builder(sink).maxBatchSize(0))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchingConsumer.builder(sink).capacity(0))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchingConsumer.builder(sink).maxLatency(Duration.ofMillis(-1)))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+}
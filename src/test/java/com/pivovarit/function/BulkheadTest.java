@@ -0,0 +1,225 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldRejectCallsOverLimit() {
+        // given
+        Bulkhead bulkhead = Bulkhead.builder()
+          .initialLimit(2)
+          .build();
+
+        // when
+        bulkhead.acquirePermit();
+        bulkhead.acquirePermit();
+
+        // then
+        assertThatThrownBy(bulkhead::acquirePermit).isSameAs(CallNotPermittedException.INSTANCE);
+        assertThat(bulkhead.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReleasePermitWhateverTheOutcome() {
+        // given
+        Bulkhead bulkhead = Bulkhead.builder().build();
+        ThrowingFunction<Integer, Integer, IOException> limited = ThrowingFunction.concurrencyLimited(i -> {
+            if (i == 1) {
+                throw new IOException();
+            }
+            if (i == 2) {
+                throw new AssertionError();
+            }
+            return i;
+        }, bulkhead);
+
+        // when
+        Integer result = ThrowingFunction.unchecked(limited).apply(42);
+        assertThatThrownBy(() -> limited.apply(1)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> limited.apply(2)).isInstanceOf(AssertionError.class);
+
+        // then
+        assertThat(result).isEqualTo(42);
+        assertThat(bulkhead.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldIncreaseAimdLimitWhileInUse() {
+        // given
+        Bulkhead bulkhead = Bulkhead.builder()
+          .initialLimit(4)
+          .aimd(Duration.ofMillis(100), 0.5)
+          .clock(clock::get)
+          .build();
+
+        // when
+        bulkhead.acquirePermit();
+        long start = bulkhead.acquirePermit();
+        clock.addAndGet(Duration.ofMillis(10).toNanos());
+        bulkhead.onSuccess(start);
+
+        // then
+        assertThat(bulkhead.limit()).isEqualTo(5);
+        assertThat(bulkhead.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotIncreaseAimdLimitWhileUnderused() {
+        // given
+        Bulkhead bulkhead = Bulkhead.builder()
+          .initialLimit(10)
+          .aimd(Duration.ofMillis(100), 0.5)
+          .clock(clock::get)
+          .build();
+
+        // when
+        long start = bulkhead.acquirePermit();
+        bulkhead.onSuccess(start);
+
+        // then
+        assertThat(bulkhead.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldDecreaseAimdLimitAfterSlowCallWithinBounds() {
+        // given
+        Bulkhead bulkhead = Bulkhead.builder()
+          .initialLimit(10)
+          .limitBounds(4, 10)
+          .aimd(Duration.ofMillis(100), 0.5)
+          .clock(clock::get)
+          .build();
+
+        // when
+        long start = bulkhead.acquirePermit();
+        clock.addAndGet(Duration.ofMillis(200).toNanos());
+        bulkhead.onSuccess(start);
+        int first = bulkhead.limit();
+        start = bulkhead.acquirePermit();
+        clock.addAndGet(Duration.ofMillis(200).toNanos());
+        bulkhead.onSuccess(start);
+
+        // then
+        assertThat(first).isEqualTo(5);
+        assertThat(bulkhead.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldDecreaseLimitOnlyOnOverloadExceptions() {
+        // given
+        Bulkhead bulkhead = Bulkhead.builder()
+          .initialLimit(10)
+          .aimd(Duration.ofMillis(100), 0.5)
+          .overloadedOn(IOException.class)
+          .clock(clock::get)
+          .build();
+        ThrowingSupplier<Integer, Exception> overloaded = ThrowingSupplier.concurrencyLimited(() -> { throw new IOException(); }, bulkhead);
+        ThrowingSupplier<Integer, Exception> failing = ThrowingSupplier.concurrencyLimited(() -> { throw new IllegalStateException(); }, bulkhead);
+
+        // when
+        assertThatThrownBy(failing::get).isInstanceOf(IllegalStateException.class);
+        int afterFailure = bulkhead.limit();
+        assertThatThrownBy(overloaded::get).isInstanceOf(IOException.class);
+
+        // then
+        assertThat(afterFailure).isEqualTo(10);
+        assertThat(bulkhead.limit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldFollowLatencyGradient() {
+        // given
+        ConcurrencyLimit limit = new ConcurrencyLimit.Gradient(10, 1, 100, 1.5);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(Duration.ofMillis(10).toNanos(), limit.get(), false);
+        }
+        int grown = limit.get();
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(Duration.ofMillis(100).toNanos(), limit.get(), false);
+        }
+
+        // then
+        assertThat(grown).isGreaterThan(10);
+        assertThat(limit.get()).isLessThan(grown);
+    }
+
+    @Test
+    void shouldNotGrowGradientLimitWhileUnderused() {
+        // given
+        ConcurrencyLimit limit = new ConcurrencyLimit.Gradient(10, 1, 100, 1.5);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(Duration.ofMillis(10).toNanos(), 1, false);
+        }
+
+        // then
+        assertThat(limit.get()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldWaitForReleasedPermit() throws Exception {
+        // given
+        Bulkhead bulkhead = Bulkhead.builder()
+          .initialLimit(1)
+          .limitBounds(1, 1)
+          .timeout(Duration.ofSeconds(10))
+          .build();
+        long start = bulkhead.acquirePermit();
+
+        // when
+        CompletableFuture<Integer> waiting = CompletableFuture.supplyAsync(() -> ThrowingSupplier.unchecked(ThrowingSupplier.concurrencyLimited(() -> 42, bulkhead)).get());
+        Thread.sleep(50);
+        bulkhead.onSuccess(start);
+
+        // then
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        assertThat(bulkhead.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldRejectAfterTimeout() {
+        // given
+        Bulkhead bulkhead = Bulkhead.builder()
+          .initialLimit(1)
+          .limitBounds(1, 1)
+          .timeout(Duration.ofMillis(20))
+          .build();
+        bulkhead.acquirePermit();
+
+        // when
+        long before = System.nanoTime();
+        assertThatThrownBy(bulkhead::acquirePermit).isSameAs(CallNotPermittedException.INSTANCE);
+
+        // then
+        assertThat(System.nanoTime() - before).isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CheckedExceptionTest {
+
+    @Test
+    void shouldCaptureStackTraceAndMessageByDefault() {
+        IOException cause = new IOException("some message");
+
+        // when
+        CheckedException result = new CheckedException(cause);
+
+        // then
+        assertThat(result).hasMessage("some message").hasCause(cause);
+        assertThat(result.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void shouldSkipStackTraceWhenLightweight() {
+        IOException cause = new IOException("some message");
+
+        // when
+        CheckedException result = CheckedException.lightweight(cause);
+
+        // then
+        assertThat(result).hasMessage("some message").hasCause(cause);
+        assertThat(result.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void shouldComputeMessageLazilyWhenLightweight() {
+        AtomicInteger calls = new AtomicInteger();
+
+        // given
+        IOException cause = new CountingMessageException(calls);
+
+        // when
+        CheckedException result = CheckedException.lightweight(cause);
+
+        // then
+        assertThat(calls).hasValue(0);
+        assertThat(result.getMessage()).isEqualTo("call 1");
+    }
+
+    private static final class CountingMessageException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient AtomicInteger calls;
+
+        CountingMessageException(AtomicInteger calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        public String getMessage() {
+            return "call " + calls.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CheckedFuturesTest {
+
+    @Test
+    void shouldJoinCompletedFuture() throws IOException {
+        // given
+        CompletableFuture<Integer> future = CompletableFuture.completedFuture(42);
+
+        // when
+        Integer result = CheckedFutures.join(future, IOException.class);
+
+        // then
+        assertThat(result).isEqualTo(42);
+    }
+
+    @Test
+    void shouldJoinPendingFuture() throws IOException {
+        // given
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        new Thread(() -> future.complete(42)).start();
+
+        // when
+        Integer result = CheckedFutures.join(future, IOException.class);
+
+        // then
+        assertThat(result).isEqualTo(42);
+    }
+
+    @Test
+    void shouldRethrowOriginalException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
+
+        // when
+        assertThatThrownBy(() -> CheckedFutures.join(future, IOException.class))
+          .isSameAs(cause);
+    }
+
+    @Test
+    void shouldRethrowOriginalExceptionOfPendingFuture() {
+        IOException cause = new IOException("some message");
+
+        // given
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        new Thread(() -> future.completeExceptionally(cause)).start();
+
+        // when
+        assertThatThrownBy(() -> CheckedFutures.join(future, IOException.class))
+          .isSameAs(cause);
+    }
+
+    @Test
+    void shouldUnwrapExceptionOfDependentStage() {
+        IOException cause = new IOException("some message");
+
+        // given
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        CompletableFuture<Integer> dependent = future.thenApply(i -> i + 1);
+        future.completeExceptionally(cause);
+
+        // when
+        assertThatThrownBy(() -> CheckedFutures.join(dependent, IOException.class))
+          .isSameAs(cause);
+    }
+
+    @Test
+    void shouldRethrowUncheckedException() {
+        IllegalStateException cause = new IllegalStateException("some message");
+
+        // given
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
+
+        // when
+        assertThatThrownBy(() -> CheckedFutures.join(future, IOException.class))
+          .isSameAs(cause);
+    }
+
+    @Test
+    void shouldWrapUnexpectedCheckedException() {
+        TimeoutException cause = new TimeoutException("some message");
+
+        // given
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
+
+        // when
+        assertThatThrownBy(() -> CheckedFutures.join(future, IOException.class))
+          .isInstanceOf(CheckedException.class)
+          .hasCause(cause);
+    }
+
+    @Test
+    void shouldThrowCancellationException() {
+        // given
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        future.cancel(true);
+
+        // when
+        assertThatThrownBy(() -> CheckedFutures.join(future, IOException.class))
+          .isInstanceOf(CancellationException.class);
+    }
+}
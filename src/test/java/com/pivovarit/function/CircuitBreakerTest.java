@@ -0,0 +1,293 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldOpenOnceFailureRateReachesThreshold() {
+        // given
+        CircuitBreaker breaker = CircuitBreaker.builder()
+          .countWindow(4)
+          .minimumCalls(4)
+          .failureRateThreshold(0.5)
+          .clock(clock::get)
+          .build();
+        ThrowingFunction<Boolean, Boolean, IOException> function = ThrowingFunction.circuitBreaking(CircuitBreakerTest::call, breaker);
+
+        // when
+        callIgnoringFailure(function, true);
+        callIgnoringFailure(function, true);
+        callIgnoringFailure(function, false);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        callIgnoringFailure(function, false);
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> function.apply(true))
+          .isSameAs(CallNotPermittedException.INSTANCE)
+          .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    void shouldSlideCountWindow() {
+        // given
+        CircuitBreaker breaker = CircuitBreaker.builder()
+          .countWindow(4)
+          .minimumCalls(4)
+          .failureRateThreshold(0.75)
+          .clock(clock::get)
+          .build();
+        ThrowingFunction<Boolean, Boolean, IOException> function = ThrowingFunction.circuitBreaking(CircuitBreakerTest::call, breaker);
+
+        // when
+        callIgnoringFailure(function, true);
+        callIgnoringFailure(function, false);
+        callIgnoringFailure(function, false);
+        callIgnoringFailure(function, true);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        callIgnoringFailure(function, false);
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldReturnFallbackWhileOpen() throws IOException {
+        // given
+        CircuitBreaker breaker = openBreaker(Duration.ofSeconds(1));
+        ThrowingSupplier<String, IOException> supplier = ThrowingSupplier.circuitBreaking(() -> "value", breaker, () -> "fallback");
+
+        // when
+        String result = supplier.get();
+
+        // then
+        assertThat(result).isEqualTo("fallback");
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulTrialCalls() throws IOException {
+        // given
+        CircuitBreaker breaker = openBreaker(Duration.ofSeconds(1));
+        ThrowingFunction<Boolean, Boolean, IOException> function = ThrowingFunction.circuitBreaking(CircuitBreakerTest::call, breaker);
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        function.apply(true);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        function.apply(true);
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldLimitTrialCalls() throws Exception {
+        // given
+        CircuitBreaker breaker = openBreaker(Duration.ofSeconds(1));
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // when
+        int first = breaker.acquire();
+        int second = breaker.acquire();
+        int third = breaker.acquire();
+
+        // then
+        assertThat(first).isEqualTo(CircuitBreaker.State.HALF_OPEN.ordinal());
+        assertThat(second).isEqualTo(CircuitBreaker.State.HALF_OPEN.ordinal());
+        assertThat(third).isEqualTo(CircuitBreaker.DENIED);
+    }
+
+    @Test
+    void shouldReopenOnFailedTrialCall() {
+        // given
+        CircuitBreaker breaker = openBreaker(Duration.ofSeconds(1));
+        ThrowingFunction<Boolean, Boolean, IOException> function = ThrowingFunction.circuitBreaking(CircuitBreakerTest::call, breaker);
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        callIgnoringFailure(function, false);
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> function.apply(true)).isInstanceOf(CallNotPermittedException.class);
+    }
+
+    @Test
+    void shouldIgnoreNotRecordedExceptions() {
+        // given
+        CircuitBreaker breaker = CircuitBreaker.builder()
+          .countWindow(2)
+          .minimumCalls(1)
+          .recordOn(IOException.class)
+          .clock(clock::get)
+          .build();
+        ThrowingSupplier<String, IOException> supplier = ThrowingSupplier.circuitBreaking(() -> {
+            throw new IllegalStateException();
+        }, breaker);
+
+        // when
+        assertThatThrownBy(supplier::get).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(supplier::get).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldReopenOnErrorInTrialCall() throws IOException {
+        // given
+        CircuitBreaker breaker = openBreaker(Duration.ofSeconds(1));
+        ThrowingSupplier<String, IOException> failing = ThrowingSupplier.circuitBreaking(() -> {
+            throw new AssertionError();
+        }, breaker);
+        ThrowingSupplier<String, IOException> succeeding = ThrowingSupplier.circuitBreaking(() -> "value", breaker);
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThatThrownBy(failing::get).isInstanceOf(AssertionError.class);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        succeeding.get();
+        succeeding.get();
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldReturnTrialPermitOnNotRecordedError() throws IOException {
+        // given
+        CircuitBreaker breaker = CircuitBreaker.builder()
+          .countWindow(1)
+          .minimumCalls(1)
+          .halfOpenCalls(1)
+          .recordOn(IOException.class)
+          .clock(clock::get)
+          .build();
+        callIgnoringFailure(ThrowingFunction.circuitBreaking(CircuitBreakerTest::call, breaker), false);
+        ThrowingSupplier<String, IOException> failing = ThrowingSupplier.circuitBreaking(() -> {
+            throw new AssertionError();
+        }, breaker);
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(60).toNanos());
+        assertThatThrownBy(failing::get).isInstanceOf(AssertionError.class);
+        assertThatThrownBy(failing::get).isInstanceOf(AssertionError.class);
+        ThrowingSupplier<String, IOException> succeeding = ThrowingSupplier.circuitBreaking(() -> "value", breaker);
+        String result = succeeding.get();
+
+        // then
+        assertThat(result).isEqualTo("value");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldNotLoseTrialPermitsToDeniedCalls() {
+        // given
+        CircuitBreaker breaker = CircuitBreaker.builder()
+          .countWindow(1)
+          .minimumCalls(1)
+          .halfOpenCalls(1)
+          .recordOn(IOException.class)
+          .clock(clock::get)
+          .build();
+        callIgnoringFailure(ThrowingFunction.circuitBreaking(CircuitBreakerTest::call, breaker), false);
+        clock.addAndGet(Duration.ofSeconds(60).toNanos());
+        int permit = breaker.acquire();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(breaker.acquire()).isEqualTo(CircuitBreaker.DENIED);
+        }
+        breaker.onFailure(permit, new AssertionError());
+
+        // then
+        assertThat(breaker.acquire()).isNotEqualTo(CircuitBreaker.DENIED);
+    }
+
+    @Test
+    void shouldExpireFailuresFromTimeWindow() {
+        // given
+        CircuitBreaker breaker = CircuitBreaker.builder()
+          .timeWindow(Duration.ofSeconds(10), 10)
+          .minimumCalls(3)
+          .failureRateThreshold(1)
+          .clock(clock::get)
+          .build();
+        ThrowingFunction<Boolean, Boolean, IOException> function = ThrowingFunction.circuitBreaking(CircuitBreakerTest::call, breaker);
+
+        // when
+        callIgnoringFailure(function, false);
+        callIgnoringFailure(function, false);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        callIgnoringFailure(function, false);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        callIgnoringFailure(function, false);
+        callIgnoringFailure(function, false);
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> CircuitBreaker.builder().failureRateThreshold(0))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CircuitBreaker.builder().countWindow(0))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CircuitBreaker.builder().timeWindow(Duration.ofNanos(1), 2))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CircuitBreaker openBreaker(Duration openDuration) {
+        CircuitBreaker breaker = CircuitBreaker.builder()
+          .countWindow(1)
+          .minimumCalls(1)
+          .openDuration(openDuration)
+          .halfOpenCalls(2)
+          .clock(clock::get)
+          .build();
+        callIgnoringFailure(ThrowingFunction.circuitBreaking(CircuitBreakerTest::call, breaker), false);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private static Boolean call(Boolean succeed) throws IOException {
+        if (!succeed) {
+            throw new IOException("some message");
+        }
+        return true;
+    }
+
+    private static void callIgnoringFailure(ThrowingFunction<Boolean, Boolean, IOException> function, boolean succeed) {
+        try {
+            function.apply(succeed);
+        } catch (IOException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingFunctionTest {
+
+    private static final int CALLERS = 8;
+
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS, runnable -> {
+        Thread thread = new Thread(runnable);
+        threads.add(thread);
+        return thread;
+    });
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldShareInFlightInvocationBetweenConcurrentCalls() throws Exception {
+        // given
+        ThrowingFunction<String, String, IOException> function = ThrowingFunction.coalescing(key -> {
+            invocations.incrementAndGet();
+            awaitRelease();
+            return key.toUpperCase();
+        });
+
+        // when
+        List<Future<String>> results = callConcurrently(function, "key");
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("KEY");
+        }
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void shouldShareExceptionAndForgetFailedInvocation() throws Exception {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingFunction<String, String, IOException> function = ThrowingFunction.coalescing(key -> {
+            if (invocations.incrementAndGet() == 1) {
+                awaitRelease();
+                throw cause;
+            }
+            return key;
+        });
+
+        // when
+        List<Future<String>> results = callConcurrently(function, "key");
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+              .isInstanceOf(ExecutionException.class)
+              .hasCause(cause);
+        }
+        assertThat(function.apply("key")).isEqualTo("key");
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void shouldNotRememberCompletedInvocations() throws IOException {
+        // given
+        ThrowingFunction<String, Integer, IOException> function = ThrowingFunction.coalescing(key -> invocations.incrementAndGet());
+
+        // when
+        function.apply("key");
+        function.apply("key");
+
+        // then
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCoalesceCallsWithDifferentArguments() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+
+        // given
+        ThrowingFunction<String, String, InterruptedException> function = ThrowingFunction.coalescing(key -> {
+            started.countDown();
+            started.await();
+            return key;
+        });
+
+        // when
+        Future<String> first = executor.submit(() -> function.apply("first"));
+        Future<String> second = executor.submit(() -> function.apply("second"));
+
+        // then
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+
+    @Test
+    void shouldCoalesceNullArguments() throws Exception {
+        // given
+        ThrowingFunction<String, String, IOException> function = ThrowingFunction.coalescing(key -> {
+            invocations.incrementAndGet();
+            awaitRelease();
+            return String.valueOf(key);
+        });
+
+        // when
+        List<Future<String>> results = callConcurrently(function, null);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("null");
+        }
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void shouldNotDeadlockOnRecursiveCallWithSameArgument() throws IOException {
+        AtomicReference<ThrowingFunction<String, String, IOException>> self = new AtomicReference<>();
+
+        // given
+        self.set(ThrowingFunction.coalescing(key -> invocations.incrementAndGet() == 1 ? self.get().apply(key) + "!" : key));
+
+        // when
+        String result = self.get().apply("key");
+
+        // then
+        assertThat(result).isEqualTo("key!");
+    }
+
+    private List<Future<String>> callConcurrently(ThrowingFunction<String, String, IOException> function, String key) throws InterruptedException {
+        CountDownLatch arrived = new CountDownLatch(CALLERS);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                arrived.countDown();
+                return function.apply(key);
+            }));
+        }
+        arrived.await();
+        // the leader waits for the release, and all others for the leader
+        while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            Thread.sleep(1);
+        }
+        return results;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
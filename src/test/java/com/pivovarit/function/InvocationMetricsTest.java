@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InvocationMetricsTest {
+
+    @Test
+    void shouldCountFailuresPerExceptionClass() {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingFunction<Integer, Integer, IOException> function = ThrowingFunction.instrumented(i -> {
+            if (i == 0) {
+                throw new IOException();
+            }
+            if (i == 1) {
+                throw new UncheckedIOException(new IOException());
+            }
+            return i;
+        }, metrics);
+
+        // when
+        assertThatThrownBy(() -> function.apply(0)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> function.apply(0)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> function.apply(1)).isInstanceOf(UncheckedIOException.class);
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.invocations()).isEqualTo(3);
+        assertThat(snapshot.failures()).isEqualTo(3);
+        assertThat(snapshot.failuresByType())
+          .containsEntry(IOException.class, 2L)
+          .containsEntry(UncheckedIOException.class, 1L)
+          .hasSize(2);
+    }
+
+    @Test
+    void shouldNotRecordWhileDisabled() throws IOException {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        metrics.setEnabled(false);
+        ThrowingFunction<Integer, Integer, IOException> function = ThrowingFunction.instrumented(i -> i + 1, metrics);
+
+        // when
+        Integer result = function.apply(41);
+
+        // then
+        assertThat(result).isEqualTo(42);
+        assertThat(metrics.isEnabled()).isFalse();
+        assertThat(metrics.snapshot().invocations()).isZero();
+    }
+
+    @Test
+    void shouldRecordLatency() throws Exception {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingRunnable<InterruptedException> runnable = ThrowingRunnable.instrumented(() -> Thread.sleep(10), metrics);
+
+        // when
+        runnable.run();
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.meanLatencyNanos()).isGreaterThanOrEqualTo(10_000_000);
+        assertThat(snapshot.latencyPercentileNanos(50)).isGreaterThanOrEqualTo(10_000_000);
+        assertThat(snapshot.latencyPercentileNanos(100)).isEqualTo(snapshot.latencyPercentileNanos(50));
+    }
+
+    @Test
+    void shouldExposeLatencyBuckets() throws IOException {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingSupplier<Integer, IOException> supplier = ThrowingSupplier.instrumented(() -> 42, metrics);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            supplier.get();
+        }
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        long total = 0;
+        for (int i = 0; i < snapshot.latencyBuckets(); i++) {
+            total += snapshot.latencyBucketCount(i);
+            assertThat(snapshot.latencyBucketLowerBound(i)).isLessThanOrEqualTo(snapshot.latencyBucketUpperBound(i));
+        }
+        assertThat(total).isEqualTo(10);
+    }
+
+    @Test
+    void shouldReturnZeroPercentileWithoutInvocations() {
+        assertThat(new InvocationMetrics().snapshot().latencyPercentileNanos(99)).isZero();
+    }
+}
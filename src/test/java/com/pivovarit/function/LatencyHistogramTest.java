@@ -0,0 +1,51 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldPlaceEveryValueWithinBucketBounds() {
+        long[] values = {0, 1, 7, 8, 9, 15, 16, 17, 100, 1_000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+
+            assertThat(bucket).isBetween(0, LatencyHistogram.BUCKETS - 1);
+            assertThat(LatencyHistogram.lowerBound(bucket)).isLessThanOrEqualTo(value);
+            assertThat(LatencyHistogram.upperBound(bucket)).isGreaterThanOrEqualTo(value);
+        }
+    }
+
+    @Test
+    void shouldHaveContiguousBuckets() {
+        for (int i = 1; i < LatencyHistogram.BUCKETS; i++) {
+            assertThat(LatencyHistogram.lowerBound(i)).isEqualTo(LatencyHistogram.upperBound(i - 1) + 1);
+        }
+    }
+
+    @Test
+    void shouldBoundRelativeError() {
+        for (int i = LatencyHistogram.SUB_BUCKETS; i < LatencyHistogram.BUCKETS; i++) {
+            long lower = LatencyHistogram.lowerBound(i);
+            long upper = LatencyHistogram.upperBound(i);
+            assertThat((double) (upper - lower) / lower).isLessThanOrEqualTo(1.0 / LatencyHistogram.SUB_BUCKETS);
+        }
+    }
+}
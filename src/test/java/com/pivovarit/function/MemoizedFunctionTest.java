@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoizedFunctionTest {
+
+    @Test
+    void shouldRememberResults() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        // given
+        MemoizedFunction<Integer, Integer, IOException> function = ThrowingFunction.memoized(i -> {
+            calls.incrementAndGet();
+            return i * 2;
+        }, 10);
+
+        // when
+        function.apply(1);
+        function.apply(2);
+        Integer result = function.apply(1);
+
+        // then
+        assertThat(result).isEqualTo(2);
+        assertThat(calls).hasValue(2);
+        assertThat(function.stats().hits()).isEqualTo(1);
+        assertThat(function.stats().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRememberNullArgument() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        // given
+        MemoizedFunction<Integer, String, IOException> function = ThrowingFunction.memoized(i -> {
+            calls.incrementAndGet();
+            return String.valueOf(i);
+        }, 10);
+
+        // when
+        function.apply(null);
+        String result = function.apply(null);
+
+        // then
+        assertThat(result).isEqualTo("null");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldStayWithinMaxSize() throws Exception {
+        // given
+        MemoizedFunction<Integer, Integer, IOException> function = ThrowingFunction.memoized(i -> i, 100);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            function.apply(i);
+        }
+
+        // then
+        assertThat(function.stats().size()).isEqualTo(100);
+        assertThat(function.stats().evictions()).isEqualTo(900);
+    }
+
+    @Test
+    void shouldKeepRecentlyUsedEntries() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        // given
+        MemoizedFunction<Integer, Integer, IOException> function = ThrowingFunction.memoized(i -> {
+            calls.incrementAndGet();
+            return i;
+        }, 2);
+
+        // when
+        function.apply(1);
+        function.apply(2);
+        function.apply(1);
+        function.apply(3);
+        function.apply(1);
+
+        // then
+        assertThat(calls).hasValue(3);
+        assertThat(function.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRememberFailuresByDefault() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        // given
+        MemoizedFunction<Integer, Integer, IOException> function = ThrowingFunction.memoized(i -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IOException("boom");
+            }
+            return i;
+        }, 10);
+
+        // when
+        assertThatThrownBy(() -> function.apply(42)).isInstanceOf(IOException.class);
+        Integer result = function.apply(42);
+
+        // then
+        assertThat(result).isEqualTo(42);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void shouldRememberFailuresWhenCaching() {
+        AtomicInteger calls = new AtomicInteger();
+        IOException cause = new IOException("boom");
+
+        // given
+        MemoizedFunction<Integer, Integer, IOException> function = ThrowingFunction.memoized(i -> {
+            calls.incrementAndGet();
+            throw cause;
+        }, 10, FailurePolicy.CACHE);
+
+        // when
+        assertThatThrownBy(() -> function.apply(42)).isSameAs(cause);
+        assertThatThrownBy(() -> function.apply(42)).isSameAs(cause);
+
+        // then
+        assertThat(calls).hasValue(1);
+        assertThat(function.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaxSize() {
+        assertThatThrownBy(() -> ThrowingFunction.memoized(i -> i, 0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+}
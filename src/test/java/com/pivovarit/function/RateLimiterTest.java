@@ -0,0 +1,179 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldPermitBurstAndThenReject() {
+        // given
+        RateLimiter limiter = RateLimiter.builder(10, Duration.ofSeconds(1))
+          .burst(3)
+          .clock(clock::get)
+          .build();
+
+        // then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void shouldReplenishPermitsEvenly() {
+        // given
+        RateLimiter limiter = RateLimiter.builder(10, Duration.ofSeconds(1))
+          .burst(1)
+          .clock(clock::get)
+          .build();
+
+        // when
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        clock.addAndGet(Duration.ofMillis(99).toNanos());
+        assertThat(limiter.tryAcquire()).isFalse();
+        clock.addAndGet(Duration.ofMillis(1).toNanos());
+
+        // then
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void shouldNotAccumulatePermitsBeyondBurst() {
+        // given
+        RateLimiter limiter = RateLimiter.builder(10, Duration.ofSeconds(1))
+          .burst(2)
+          .clock(clock::get)
+          .build();
+
+        // when
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void shouldWaitForPermitWithinTimeout() throws InterruptedException {
+        // given
+        RateLimiter limiter = RateLimiter.builder(1, Duration.ofMillis(50))
+          .burst(1)
+          .build();
+        limiter.acquire();
+
+        // when
+        long start = System.nanoTime();
+        boolean acquired = limiter.tryAcquire(Duration.ofSeconds(1));
+
+        // then
+        assertThat(acquired).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(40).toNanos());
+        assertThat(limiter.tryAcquire(Duration.ofMillis(1))).isFalse();
+    }
+
+    @Test
+    void shouldRejectDecoratedCallWhenNoPermitIsAvailable() throws IOException {
+        // given
+        RateLimiter limiter = RateLimiter.builder(1, Duration.ofSeconds(1))
+          .nonBlocking()
+          .clock(clock::get)
+          .build();
+        ThrowingFunction<Integer, Integer, IOException> function = ThrowingFunction.rateLimited(i -> i + 1, limiter);
+
+        // when
+        Integer result = function.apply(41);
+
+        // then
+        assertThat(result).isEqualTo(42);
+        assertThatThrownBy(() -> function.apply(41)).isSameAs(CallNotPermittedException.INSTANCE);
+    }
+
+    @Test
+    void shouldRejectDecoratedCallWhenInterruptedWhileWaiting() {
+        // given
+        RateLimiter limiter = RateLimiter.builder(1, Duration.ofDays(1))
+          .blocking()
+          .build();
+        ThrowingConsumer<Integer, IOException> consumer = ThrowingConsumer.rateLimited(i -> {}, limiter);
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        // when
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(() -> consumer.accept(42)).isInstanceOf(CallNotPermittedException.class);
+
+        // then
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    @Test
+    void shouldLimitEveryKeySeparately() throws IOException {
+        // given
+        KeyedRateLimiter<String> limiter = RateLimiter.builder(1, Duration.ofSeconds(1))
+          .nonBlocking()
+          .clock(clock::get)
+          .buildKeyed();
+        ThrowingFunction<String, String, IOException> function = ThrowingFunction.rateLimited(s -> s, limiter, s -> s);
+
+        // when
+        function.apply("a");
+        function.apply("b");
+
+        // then
+        assertThatThrownBy(() -> function.apply("a")).isInstanceOf(CallNotPermittedException.class);
+        assertThat(limiter.tryAcquire("c")).isTrue();
+    }
+
+    @Test
+    void shouldRemoveIdleKeys() {
+        // given
+        KeyedRateLimiter<String> limiter = RateLimiter.builder(1, Duration.ofSeconds(1))
+          .clock(clock::get)
+          .buildKeyed();
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // when
+        int beforeReplenishment = limiter.removeIdle();
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        int afterReplenishment = limiter.removeIdle();
+
+        // then
+        assertThat(beforeReplenishment).isEqualTo(2);
+        assertThat(afterReplenishment).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> RateLimiter.builder(0, Duration.ofSeconds(1)))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RateLimiter.builder(10, Duration.ofNanos(5)))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RateLimiter.builder(10, Duration.ofSeconds(1)).burst(0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+}
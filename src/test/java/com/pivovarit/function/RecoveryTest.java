@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecoveryTest {
+
+    @Test
+    void shouldRecoverWithHandlerOfNearestSuperclass() {
+        // given
+        Recovery<String> recovery = Recovery.<String>builder()
+          .recover(Exception.class, e -> "exception")
+          .recover(FileNotFoundException.class, e -> "not found: " + e.getMessage())
+          .recover(IOException.class, e -> "io")
+          .build();
+
+        // when
+        Function<Exception, String> function = ThrowingFunction.recovering(e -> { throw e; }, recovery);
+
+        // then
+        assertThat(function.apply(new FileNotFoundException("file"))).isEqualTo("not found: file");
+        assertThat(function.apply(new EOFException())).isEqualTo("io");
+        assertThat(function.apply(new TimeoutException())).isEqualTo("exception");
+        assertThat(function.apply(new IllegalStateException())).isEqualTo("exception");
+    }
+
+    @Test
+    void shouldRecoverWithFallbackValue() {
+        // given
+        Recovery<Integer> recovery = Recovery.<Integer>builder()
+          .recover(IOException.class, -1)
+          .build();
+
+        // when
+        Integer result = ThrowingSupplier.recovering(() -> { throw new IOException(); }, recovery).get();
+
+        // then
+        assertThat(result).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldTranslateException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        Recovery<Integer> recovery = Recovery.<Integer>builder()
+          .translate(IOException.class, UncheckedIOException::new)
+          .build();
+
+        // when
+        assertThatThrownBy(() -> ThrowingSupplier.recovering(() -> { throw cause; }, recovery).get())
+          .isInstanceOf(UncheckedIOException.class)
+          .hasCause(cause);
+    }
+
+    @Test
+    void shouldRethrowUnhandledExceptionAsIs() {
+        TimeoutException cause = new TimeoutException("some message");
+
+        // given
+        Recovery<Integer> recovery = Recovery.<Integer>builder()
+          .recover(IOException.class, -1)
+          .build();
+
+        // when
+        assertThatThrownBy(() -> ThrowingSupplier.recovering(() -> { throw cause; }, recovery).get())
+          .isSameAs(cause);
+    }
+
+    @Test
+    void shouldRejectSecondHandlerForSameType() {
+        // given
+        Recovery.Builder<Integer> builder = Recovery.<Integer>builder().recover(IOException.class, -1);
+
+        // when
+        assertThatThrownBy(() -> builder.translate(IOException.class, UncheckedIOException::new))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCallHandlerAndDiscardItsValueForRunnable() {
+        List<Exception> handled = new ArrayList<>();
+        IOException cause = new IOException("some message");
+
+        // given
+        Recovery<Boolean> recovery = Recovery.<Boolean>builder()
+          .recover(IOException.class, handled::add)
+          .build();
+
+        // when
+        ThrowingRunnable.recovering(() -> { throw cause; }, recovery).run();
+
+        // then
+        assertThat(handled).containsExactly(cause);
+    }
+
+    @Test
+    void shouldRecoverPredicate() {
+        // given
+        Recovery<Boolean> recovery = Recovery.<Boolean>builder()
+          .recover(IOException.class, false)
+          .build();
+
+        // when
+        boolean result = ThrowingPredicate.<Integer>recovering(i -> { throw new IOException(); }, recovery).test(42);
+
+        // then
+        assertThat(result).isFalse();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResultTest {
+
+    @Test
+    void shouldShareEmptyAndBooleanResults() {
+        assertThat(Result.success(null)).isSameAs(Result.success(null));
+        assertThat(Result.success(true)).isSameAs(Result.success(Boolean.TRUE));
+        assertThat(Result.success(false)).isSameAs(Result.success(Boolean.FALSE));
+    }
+
+    @Test
+    void shouldMapValue() throws IOException {
+        // given
+        Result<Integer, IOException> result = Result.success(42);
+
+        // when
+        Result<String, IOException> mapped = result.map(i -> i + 1).map(String::valueOf);
+
+        // then
+        assertThat(mapped.get()).isEqualTo("43");
+    }
+
+    @Test
+    void shouldReturnSameInstanceWhenMappingToSameValue() {
+        // given
+        Result<String, IOException> result = Result.success("foo");
+
+        // when
+        Result<String, IOException> mapped = result.map(s -> s);
+
+        // then
+        assertThat(mapped).isSameAs(result);
+    }
+
+    @Test
+    void shouldCaptureExceptionThrownByMapper() {
+        IOException cause = new IOException("some message");
+
+        // given
+        Result<Integer, IOException> result = Result.success(42);
+
+        // when
+        Result<Integer, IOException> mapped = result.map(i -> { throw cause; });
+
+        // then
+        assertThat(mapped.isFailure()).isTrue();
+        assertThat(mapped.exception()).isSameAs(cause);
+    }
+
+    @Test
+    void shouldPropagateFailureWithoutInvokingMappers() {
+        // given
+        Result<Integer, IOException> result = Result.failure(new IOException("some message"));
+
+        // when
+        Result<Integer, IOException> mapped = result
+          .map(i -> { throw new IllegalStateException(); })
+          .flatMap(i -> { throw new IllegalStateException(); });
+
+        // then
+        assertThat(mapped).isSameAs(result);
+    }
+
+    @Test
+    void shouldFlatMapValue() {
+        // given
+        Result<Integer, IOException> result = Result.success(42);
+
+        // when
+        Result<Integer, IOException> mapped = result.flatMap(i -> Result.failure(new IOException(String.valueOf(i))));
+
+        // then
+        assertThat(mapped.isFailure()).isTrue();
+        assertThat(mapped.exception()).hasMessage("42");
+    }
+
+    @Test
+    void shouldRecoverFromFailure() throws IOException {
+        // given
+        Result<String, IOException> result = Result.failure(new IOException("some message"));
+
+        // when
+        Result<String, IOException> recovered = result.recover(Throwable::getMessage);
+
+        // then
+        assertThat(recovered.get()).isEqualTo("some message");
+    }
+
+    @Test
+    void shouldNotRecoverFromSuccess() {
+        // given
+        Result<String, IOException> result = Result.success("foo");
+
+        // when
+        Result<String, IOException> recovered = result.recover(e -> { throw new IllegalStateException(); });
+
+        // then
+        assertThat(recovered).isSameAs(result);
+    }
+
+    @Test
+    void shouldRethrowOriginalException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        Result<String, IOException> result = Result.failure(cause);
+
+        // when
+        assertThatThrownBy(result::get)
+          .isSameAs(cause);
+    }
+
+    @Test
+    void shouldFoldAndConvert() {
+        // given
+        Result<String, IOException> success = Result.success("foo");
+        Result<String, IOException> failure = Result.failure(new IOException("some message"));
+
+        // then
+        assertThat(success.fold(s -> s, Throwable::getMessage)).isEqualTo("foo");
+        assertThat(failure.fold(s -> s, Throwable::getMessage)).isEqualTo("some message");
+        assertThat(success.toOptional()).isEqualTo(Optional.of("foo"));
+        assertThat(failure.toOptional()).isEmpty();
+        assertThat(failure.orElse("bar")).isEqualTo("bar");
+    }
+
+    @Test
+    void shouldRejectNullException() {
+        assertThatThrownBy(() -> Result.failure(null))
+          .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryPolicyTest {
+
+    private static final RetryPolicy IMMEDIATE = RetryPolicy.builder()
+      .maxAttempts(3)
+      .fixedBackoff(Duration.ZERO)
+      .build();
+
+    @Test
+    void shouldRetryUntilSuccess() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        // given
+        ThrowingFunction<Integer, Integer, IOException> function = ThrowingFunction.retrying(i -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IOException("boom");
+            }
+            return i;
+        }, IMMEDIATE);
+
+        // when
+        Integer result = function.apply(42);
+
+        // then
+        assertThat(result).isEqualTo(42);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void shouldRethrowLastFailureAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = ThrowingSupplier.retrying(() -> {
+            throw new IOException("attempt " + calls.incrementAndGet());
+        }, IMMEDIATE);
+
+        // when
+        assertThatThrownBy(supplier::get)
+          .isInstanceOf(IOException.class)
+          .hasMessage("attempt 3");
+    }
+
+    @Test
+    void shouldRetryOnlyConfiguredExceptions() {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.builder()
+          .retryOn(FileNotFoundException.class)
+          .fixedBackoff(Duration.ZERO)
+          .build();
+
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = ThrowingSupplier.retrying(() -> {
+            calls.incrementAndGet();
+            throw new IOException("boom");
+        }, policy);
+
+        // when
+        assertThatThrownBy(supplier::get).isInstanceOf(IOException.class);
+
+        // then
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldStopAtDeadline() {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.builder()
+          .maxAttempts(100)
+          .fixedBackoff(Duration.ofMillis(20))
+          .deadline(Duration.ofMillis(50))
+          .build();
+
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = ThrowingSupplier.retrying(() -> {
+            calls.incrementAndGet();
+            throw new IOException("boom");
+        }, policy);
+
+        // when
+        assertThatThrownBy(supplier::get).isInstanceOf(IOException.class);
+
+        // then
+        assertThat(calls.get()).isBetween(2, 3);
+    }
+
+    @Test
+    void shouldComputeExponentialBackoff() {
+        RetryPolicy policy = RetryPolicy.builder()
+          .maxAttempts(10)
+          .exponentialBackoff(Duration.ofNanos(10), Duration.ofNanos(50))
+          .build();
+        Exception failure = new IOException();
+
+        assertThat(policy.nextDelayNanos(failure, 1, 0, 0)).isEqualTo(10);
+        assertThat(policy.nextDelayNanos(failure, 2, 10, 0)).isEqualTo(20);
+        assertThat(policy.nextDelayNanos(failure, 3, 20, 0)).isEqualTo(40);
+        assertThat(policy.nextDelayNanos(failure, 4, 40, 0)).isEqualTo(50);
+        assertThat(policy.nextDelayNanos(failure, 10, 50, 0)).isEqualTo(RetryPolicy.GIVE_UP);
+    }
+
+    @Test
+    void shouldComputeDecorrelatedJitterBackoff() {
+        RetryPolicy policy = RetryPolicy.builder()
+          .maxAttempts(100)
+          .decorrelatedJitterBackoff(Duration.ofNanos(10), Duration.ofNanos(1000))
+          .build();
+        Exception failure = new IOException();
+
+        long delay = 0;
+        for (int attempt = 1; attempt < 100; attempt++) {
+            long previous = delay;
+            delay = policy.nextDelayNanos(failure, attempt, previous, 0);
+            assertThat(delay).isBetween(10L, Math.min(1000L, Math.max(previous, 10L) * 3));
+        }
+    }
+
+    @Test
+    void shouldRetryAsynchronously() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        RetryPolicy policy = RetryPolicy.builder().fixedBackoff(Duration.ofMillis(10)).build();
+
+        try {
+            // given
+            ThrowingFunction<Integer, Integer, IOException> function = i -> {
+                if (calls.incrementAndGet() < 3) {
+                    throw new IOException("boom");
+                }
+                return i;
+            };
+
+            // when
+            CompletableFuture<Integer> result = ThrowingFunction.retryingAsync(function, policy, scheduler).apply(42);
+
+            // then
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo(42);
+            assertThat(calls).hasValue(3);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWithOriginalCauseWhenAsync() {
+        IOException cause = new IOException("boom");
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            // given
+            ThrowingSupplier<Integer, IOException> supplier = () -> { throw cause; };
+
+            // when
+            CompletableFuture<Integer> result = ThrowingSupplier.retryingAsync(supplier, IMMEDIATE, scheduler).get();
+
+            // then
+            assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+              .isInstanceOf(ExecutionException.class)
+              .hasCause(cause);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
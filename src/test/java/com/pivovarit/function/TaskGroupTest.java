@@ -0,0 +1,196 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskGroupTest {
+
+    @Test
+    void shouldReturnResultsInSubmissionOrder() throws InterruptedException {
+        // given
+        List<ThrowingSupplier<Integer, InterruptedException>> suppliers = Arrays.asList(
+          () -> { Thread.sleep(30); return 1; },
+          () -> { Thread.sleep(10); return 2; },
+          () -> 3);
+
+        // when
+        List<Integer> results = TaskGroup.invokeAll(suppliers);
+
+        // then
+        assertThat(results).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void shouldRunTasksConcurrently() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(3);
+
+        // given
+        ThrowingSupplier<Boolean, InterruptedException> awaiting = () -> {
+            started.countDown();
+            return started.await(10, TimeUnit.SECONDS);
+        };
+
+        // when
+        List<Boolean> results = TaskGroup.invokeAll(Arrays.asList(awaiting, awaiting, awaiting));
+
+        // then
+        assertThat(results).containsOnly(true);
+    }
+
+    @Test
+    void shouldRethrowFirstFailureAndInterruptSiblings() {
+        IOException cause = new IOException("some message");
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        // given
+        ThrowingRunnable<IOException> blocking = () -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        };
+        ThrowingRunnable<Exception> failing = () -> {
+            started.await();
+            throw cause;
+        };
+
+        // when
+        assertThatThrownBy(() -> TaskGroup.runAll(Arrays.asList(blocking, failing)))
+          .isSameAs(cause)
+          .hasNoSuppressedExceptions();
+
+        // then
+        assertThat(interrupted).isTrue();
+    }
+
+    @Test
+    void shouldAttachOtherFailuresAsSuppressed() {
+        IOException cause = new IOException("some message");
+        IOException sibling = new IOException("interrupted");
+        CountDownLatch started = new CountDownLatch(1);
+
+        // given
+        ThrowingRunnable<Exception> blocking = () -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                throw sibling;
+            }
+        };
+        ThrowingRunnable<Exception> failing = () -> {
+            started.await();
+            throw cause;
+        };
+
+        // when
+        assertThatThrownBy(() -> TaskGroup.runAll(Arrays.asList(blocking, failing)))
+          .isSameAs(cause);
+
+        // then
+        assertThat(cause.getSuppressed()).containsExactly(sibling);
+    }
+
+    @Test
+    void shouldNotAttachSameFailureTwiceToSharedException() {
+        IOException cause = new IOException("some message");
+        IOException sibling = new IOException("interrupted");
+
+        for (int i = 0; i < 2; i++) {
+            CountDownLatch started = new CountDownLatch(1);
+
+            // given
+            ThrowingRunnable<Exception> blocking = () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    throw sibling;
+                }
+            };
+            ThrowingRunnable<Exception> failing = () -> {
+                started.await();
+                throw cause;
+            };
+
+            // when
+            assertThatThrownBy(() -> TaskGroup.runAll(Arrays.asList(blocking, failing)))
+              .isSameAs(cause);
+        }
+
+        // then
+        assertThat(cause.getSuppressed()).containsExactly(sibling);
+    }
+
+    @Test
+    void shouldRunOnGivenExecutor() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "group-worker"));
+
+        try {
+            // when
+            List<String> results = TaskGroup.invokeAll(Arrays.<ThrowingSupplier<String, IOException>>asList(
+              () -> Thread.currentThread().getName(),
+              () -> Thread.currentThread().getName()), executor);
+
+            // then
+            assertThat(results).containsOnly("group-worker");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRethrowRejectionAndSkipRemainingTasks() {
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        // when
+        assertThatThrownBy(() -> TaskGroup.runAll(Collections.singletonList(() -> ran.set(true)), executor))
+          .isInstanceOf(RejectedExecutionException.class);
+
+        // then
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    void shouldReturnEmptyResultsForNoTasks() throws IOException {
+        // when
+        List<Object> results = TaskGroup.<Object, IOException>invokeAll(Collections.emptyList());
+
+        // then
+        assertThat(results).isEmpty();
+    }
+}
@@ -76,4 +76,50 @@ class ThrowingBiConsumerTest {
           .isInstanceOf(IOException.class)
           .hasNoCause();
     }
+
+    @Test
+    void shouldAttemptBiConsumer() {
+        // given
+        ThrowingBiConsumer<Integer, Integer, IOException> consumer = (i, j) -> {};
+
+        // when
+        Result<Void, IOException> result = ThrowingBiConsumer.attempt(consumer).apply(42, 0);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result).isSameAs(Result.success(null));
+    }
+
+    @Test
+    void shouldAttemptBiConsumerAndCaptureException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingBiConsumer<Integer, Integer, IOException> consumer = (i, j) -> { throw cause; };
+
+        // when
+        Result<Void, IOException> result = ThrowingBiConsumer.attempt(consumer).apply(42, 0);
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.exception()).isSameAs(cause);
+        assertThatThrownBy(result::get).isSameAs(cause);
+    }
+
+    @Test
+    void shouldRecordInvocationsOfInstrumentedBiConsumer() throws IOException {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingBiConsumer<Integer, Integer, IOException> instrumented = ThrowingBiConsumer.instrumented((i, j) -> { if (i < 0) { throw new IOException(); } }, metrics);
+
+        // when
+        instrumented.accept(1, 1);
+        assertThatThrownBy(() -> instrumented.accept(-1, 1)).isInstanceOf(IOException.class);
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.invocations()).isEqualTo(2);
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.failuresByType()).containsEntry(IOException.class, 1L);
+    }
 }
@@ -102,4 +102,62 @@ class ThrowingBiFunctionTest {
           .isInstanceOf(IOException.class)
           .hasMessage(cause.getMessage());
     }
+
+    @Test
+    void shouldAttemptBiFunction() {
+        // given
+        ThrowingBiFunction<Integer, Integer, Integer, IOException> function = (i, j) -> i + j;
+
+        // when
+        Result<Integer, IOException> result = ThrowingBiFunction.attempt(function).apply(40, 2);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.orElse(null)).isEqualTo(42);
+    }
+
+    @Test
+    void shouldAttemptBiFunctionAndCaptureException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingBiFunction<Integer, Integer, Integer, IOException> function = (i, j) -> { throw cause; };
+
+        // when
+        Result<Integer, IOException> result = ThrowingBiFunction.attempt(function).apply(40, 2);
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.exception()).isSameAs(cause);
+        assertThatThrownBy(result::get).isSameAs(cause);
+    }
+
+    @Test
+    void shouldRecordInvocationsOfInstrumentedBiFunction() throws IOException {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingBiFunction<Integer, Integer, Integer, IOException> instrumented = ThrowingBiFunction.instrumented((i, j) -> { if (i < 0) { throw new IOException(); } return i + j; }, metrics);
+
+        // when
+        instrumented.apply(1, 1);
+        assertThatThrownBy(() -> instrumented.apply(-1, 1)).isInstanceOf(IOException.class);
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.invocations()).isEqualTo(2);
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.failuresByType()).containsEntry(IOException.class, 1L);
+    }
+
+    @Test
+    void shouldComposeBiFunctionWithFunction() throws IOException {
+        // given
+        ThrowingBiFunction<Integer, Integer, Integer, IOException> sum = Integer::sum;
+
+        // when
+        ThrowingBiFunction<Integer, Integer, String, IOException> composed = sum.andThen(i -> i * 2).andThen(String::valueOf);
+
+        // then
+        assertThat(composed.apply(20, 1)).isEqualTo("42");
+    }
 }
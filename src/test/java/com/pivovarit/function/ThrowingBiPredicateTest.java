@@ -76,4 +76,50 @@ class ThrowingBiPredicateTest {
           .hasMessage(cause.getMessage())
           .hasNoCause();
     }
+
+    @Test
+    void shouldAttemptBiPredicate() {
+        // given
+        ThrowingBiPredicate<Integer, Integer, IOException> predicate = (i, j) -> i > j;
+
+        // when
+        Result<Boolean, IOException> result = ThrowingBiPredicate.attempt(predicate).apply(42, 0);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.orElse(null)).isEqualTo(true);
+    }
+
+    @Test
+    void shouldAttemptBiPredicateAndCaptureException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingBiPredicate<Integer, Integer, IOException> predicate = (i, j) -> { throw cause; };
+
+        // when
+        Result<Boolean, IOException> result = ThrowingBiPredicate.attempt(predicate).apply(42, 0);
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.exception()).isSameAs(cause);
+        assertThatThrownBy(result::get).isSameAs(cause);
+    }
+
+    @Test
+    void shouldRecordInvocationsOfInstrumentedBiPredicate() throws IOException {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingBiPredicate<Integer, Integer, IOException> instrumented = ThrowingBiPredicate.instrumented((i, j) -> { if (i < 0) { throw new IOException(); } return true; }, metrics);
+
+        // when
+        instrumented.test(1, 1);
+        assertThatThrownBy(() -> instrumented.test(-1, 1)).isInstanceOf(IOException.class);
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.invocations()).isEqualTo(2);
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.failuresByType()).containsEntry(IOException.class, 1L);
+    }
 }
@@ -89,4 +89,50 @@ class ThrowingBinaryOperatorTest {
           .hasMessage(cause.getMessage())
           .hasNoCause();
     }
+
+    @Test
+    void shouldAttemptBinaryOperator() {
+        // given
+        ThrowingBinaryOperator<Integer, IOException> operator = (i, j) -> i + j;
+
+        // when
+        Result<Integer, IOException> result = ThrowingBinaryOperator.attempt(operator).apply(40, 2);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.orElse(null)).isEqualTo(42);
+    }
+
+    @Test
+    void shouldAttemptBinaryOperatorAndCaptureException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingBinaryOperator<Integer, IOException> operator = (i, j) -> { throw cause; };
+
+        // when
+        Result<Integer, IOException> result = ThrowingBinaryOperator.attempt(operator).apply(40, 2);
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.exception()).isSameAs(cause);
+        assertThatThrownBy(result::get).isSameAs(cause);
+    }
+
+    @Test
+    void shouldRecordInvocationsOfInstrumentedBinaryOperator() throws IOException {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingBinaryOperator<Integer, IOException> instrumented = ThrowingBinaryOperator.instrumented((i, j) -> { if (i < 0) { throw new IOException(); } return i + j; }, metrics);
+
+        // when
+        instrumented.apply(1, 1);
+        assertThatThrownBy(() -> instrumented.apply(-1, 1)).isInstanceOf(IOException.class);
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.invocations()).isEqualTo(2);
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.failuresByType()).containsEntry(IOException.class, 1L);
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class ThrowingCollectorsTest {
+
+    @Test
+    void shouldCollectToMap() throws IOException {
+        // given
+        ThrowingFunction<String, Integer, IOException> length = String::length;
+
+        // when
+        Result<Map<String, Integer>, IOException> result = Stream.of("a", "bb", "ccc")
+          .collect(ThrowingCollectors.toMap(s -> s, length));
+
+        // then
+        assertThat(result.get()).containsOnly(entry("a", 1), entry("bb", 2), entry("ccc", 3));
+    }
+
+    @Test
+    void shouldRethrowOriginalExceptionAndSkipRemainingElements() {
+        IOException cause = new IOException("some message");
+        LongAdder calls = new LongAdder();
+
+        // given
+        ThrowingFunction<Integer, Integer, IOException> failing = i -> {
+            calls.increment();
+            if (i == 2) {
+                throw cause;
+            }
+            return i;
+        };
+
+        // when
+        Result<Map<Integer, Integer>, IOException> result = Stream.of(1, 2, 3, 4)
+          .collect(ThrowingCollectors.toMap(failing, i -> i));
+
+        // then
+        assertThatThrownBy(result::get).isSameAs(cause);
+        assertThat(calls.sum()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFailOnDuplicateKeys() {
+        // when
+        Result<Map<Integer, String>, IOException> result = Stream.of("a", "b")
+          .collect(ThrowingCollectors.toMap(String::length, s -> s));
+
+        // then
+        assertThatThrownBy(result::get).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldMergeDuplicateKeysIntoGivenMap() throws IOException {
+        // when
+        Result<TreeMap<Integer, String>, IOException> result = Stream.of("a", "b", "cc")
+          .collect(ThrowingCollectors.toMap(String::length, s -> s, (s1, s2) -> s1 + s2, TreeMap::new));
+
+        // then
+        assertThat(result.get()).containsExactly(entry(1, "ab"), entry(2, "cc"));
+    }
+
+    @Test
+    void shouldGroupBy() throws IOException {
+        // given
+        ThrowingFunction<String, Integer, IOException> length = String::length;
+
+        // when
+        Map<Integer, List<String>> grouped = Stream.of("a", "b", "cc").collect(ThrowingCollectors.groupingBy(length)).get();
+        Map<Integer, Long> counted = Stream.of("a", "b", "cc").collect(ThrowingCollectors.groupingBy(length, Collectors.counting())).get();
+
+        // then
+        assertThat(grouped).containsOnly(entry(1, Arrays.asList("a", "b")), entry(2, Arrays.asList("cc")));
+        assertThat(counted).containsOnly(entry(1, 2L), entry(2, 1L));
+    }
+
+    @Test
+    void shouldReduce() throws IOException {
+        // given
+        ThrowingBinaryOperator<Integer, IOException> sum = Integer::sum;
+
+        // when
+        Integer reduced = Stream.of(1, 2, 3).collect(ThrowingCollectors.reducing(0, sum)).get();
+        Integer mappedReduced = Stream.of("a", "bb").collect(ThrowingCollectors.reducing(0, String::length, sum)).get();
+
+        // then
+        assertThat(reduced).isEqualTo(6);
+        assertThat(mappedReduced).isEqualTo(3);
+    }
+
+    @Test
+    void shouldMapBeforeDownstream() throws IOException {
+        // given
+        ThrowingFunction<String, Integer, IOException> length = String::length;
+
+        // when
+        List<Integer> result = Stream.of("a", "bb").collect(ThrowingCollectors.mapping(length, Collectors.toList())).get();
+
+        // then
+        assertThat(result).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldCollectWithCustomThrowingSteps() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingFunction<StringBuilder, String, IOException> failingFinisher = sb -> { throw cause; };
+
+        // when
+        Result<String, IOException> result = Stream.of("a", "b")
+          .collect(ThrowingCollectors.of(StringBuilder::new, StringBuilder::append, StringBuilder::append, failingFinisher));
+
+        // then
+        assertThatThrownBy(result::get).isSameAs(cause);
+    }
+
+    @Test
+    void shouldCollectSameResultsInParallel() throws IOException {
+        // given
+        ThrowingFunction<Integer, Integer, IOException> mod = i -> i % 100;
+
+        // when
+        Map<Integer, Integer> map = IntStream.range(0, 100_000).boxed().parallel()
+          .collect(ThrowingCollectors.toMap(i -> i, mod)).get();
+        Map<Integer, Long> grouped = IntStream.range(0, 100_000).boxed().parallel()
+          .collect(ThrowingCollectors.groupingBy(mod, Collectors.counting())).get();
+        Integer sum = IntStream.range(0, 100_000).boxed().parallel()
+          .collect(ThrowingCollectors.reducing(0, mod, Integer::sum)).get();
+
+        // then
+        assertThat(map).hasSize(100_000);
+        assertThat(grouped).hasSize(100).allSatisfy((k, v) -> assertThat(v).isEqualTo(1000L));
+        assertThat(sum).isEqualTo(100_000 / 100 * 4950);
+    }
+
+    @Test
+    void shouldKeepEarliestFailureAndSuppressOthersExactlyOnceInParallel() {
+        // given
+        ThrowingFunction<Integer, Integer, IOException> failing = i -> {
+            if (i % 10_000 == 0) {
+                throw new IOException(String.valueOf(i));
+            }
+            return i;
+        };
+
+        // when
+        Result<Map<Integer, Integer>, IOException> result = IntStream.range(0, 100_000).boxed().parallel()
+          .collect(ThrowingCollectors.toMap(i -> i, failing));
+
+        // then
+        assertThatThrownBy(result::get)
+          .isInstanceOf(IOException.class)
+          .hasMessage("0")
+          .satisfies(e -> assertThat(Arrays.stream(e.getSuppressed()).map(Throwable::getMessage).map(Integer::valueOf))
+            .doesNotHaveDuplicates()
+            .allSatisfy(i -> assertThat(i % 10_000).isZero())
+            .doesNotContain(0));
+    }
+
+    @Test
+    void shouldSuppressEachFailureOnlyOnceWhenSameInstanceIsThrown() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingFunction<Integer, Integer, IOException> failing = i -> { throw cause; };
+
+        // when
+        Result<Map<Integer, Integer>, IOException> result = IntStream.range(0, 10_000).boxed().parallel()
+          .collect(ThrowingCollectors.toMap(i -> i, failing));
+
+        // then
+        assertThatThrownBy(result::get).isSameAs(cause);
+        assertThat(cause.getSuppressed()).isEmpty();
+    }
+}
@@ -16,6 +16,8 @@
 package com.pivovarit.function;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -75,4 +77,67 @@ class ThrowingConsumerTest {
           .hasMessage(cause.getMessage())
           .hasNoCause();
     }
+
+    @Test
+    void shouldAttemptConsumer() {
+        // given
+        ThrowingConsumer<Integer, IOException> consumer = i -> {};
+
+        // when
+        Result<Void, IOException> result = ThrowingConsumer.attempt(consumer).apply(42);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result).isSameAs(Result.success(null));
+    }
+
+    @Test
+    void shouldAttemptConsumerAndCaptureException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingConsumer<Integer, IOException> consumer = i -> { throw cause; };
+
+        // when
+        Result<Void, IOException> result = ThrowingConsumer.attempt(consumer).apply(42);
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.exception()).isSameAs(cause);
+        assertThatThrownBy(result::get).isSameAs(cause);
+    }
+
+    @Test
+    void shouldRecordInvocationsOfInstrumentedConsumer() throws IOException {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingConsumer<Integer, IOException> instrumented = ThrowingConsumer.instrumented(i -> { if (i < 0) { throw new IOException(); } }, metrics);
+
+        // when
+        instrumented.accept(1);
+        assertThatThrownBy(() -> instrumented.accept(-1)).isInstanceOf(IOException.class);
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.invocations()).isEqualTo(2);
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.failuresByType()).containsEntry(IOException.class, 1L);
+    }
+
+    @Test
+    void shouldComposeConsumersAndSkipRemainingOnException() {
+        IOException cause = new IOException("some message");
+        List<Integer> consumed = new ArrayList<>();
+
+        // given
+        ThrowingConsumer<Integer, IOException> recording = consumed::add;
+        ThrowingConsumer<Integer, IOException> failing = i -> { throw cause; };
+
+        // when
+        assertThatThrownBy(() -> recording.andThen(recording).andThen(failing).andThen(recording).accept(42))
+          .isSameAs(cause);
+
+        // then
+        assertThat(consumed).containsExactly(42, 42);
+    }
 }
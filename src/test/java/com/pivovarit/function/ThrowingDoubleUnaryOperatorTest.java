@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThrowingDoubleUnaryOperatorTest {
+
+    @Test
+    void shouldWrapInCheckedExceptionWhenUsingUnchecked() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingDoubleUnaryOperator<IOException> operator = operand -> { throw cause; };
+
+        // when
+        assertThatThrownBy(() -> ThrowingDoubleUnaryOperator.unchecked(operator).applyAsDouble(42.0))
+          .isInstanceOf(CheckedException.class)
+          .hasMessage(cause.getMessage())
+          .hasCause(cause);
+    }
+
+    @Test
+    void shouldSneakyThrow() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingDoubleUnaryOperator<IOException> operator = operand -> { throw cause; };
+
+        // when
+        assertThatThrownBy(() -> ThrowingDoubleUnaryOperator.sneaky(operator).applyAsDouble(42.0))
+          .isInstanceOf(IOException.class)
+          .hasMessage(cause.getMessage())
+          .hasNoCause();
+    }
+
+    @Test
+    void shouldApplyWhenNoExceptionThrownWithUnchecked() {
+        // given
+        ThrowingDoubleUnaryOperator<IOException> operator = operand -> 43.0;
+
+        // when
+        double result = ThrowingDoubleUnaryOperator.unchecked(operator).applyAsDouble(42.0);
+
+        // then
+        assertThat(result).isEqualTo(43.0);
+    }
+
+    @Test
+    void shouldReturnOptionalDouble() {
+        // given
+        ThrowingDoubleUnaryOperator<IOException> operator = operand -> 43.0;
+
+        // when
+        OptionalDouble result = ThrowingDoubleUnaryOperator.optional(operator).apply(42.0);
+
+        // then
+        assertThat(result).hasValue(43.0);
+    }
+
+    @Test
+    void shouldReturnEmptyOptionalDoubleWhenExceptionThrown() {
+        // given
+        ThrowingDoubleUnaryOperator<IOException> operator = operand -> { throw new IOException("boom"); };
+
+        // when
+        OptionalDouble result = ThrowingDoubleUnaryOperator.optional(operator).apply(42.0);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+}
@@ -18,7 +18,17 @@ package com.pivovarit.function;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
@@ -110,4 +120,322 @@ class ThrowingFunctionTest {
           .hasMessage(cause.getMessage())
           .hasNoCause();
     }
+
+    @Test
+    void shouldAttemptFunction() {
+        // given
+        ThrowingFunction<Integer, Integer, IOException> function = i -> i + 1;
+
+        // when
+        Result<Integer, IOException> result = ThrowingFunction.attempt(function).apply(42);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.orElse(null)).isEqualTo(43);
+    }
+
+    @Test
+    void shouldAttemptFunctionAndCaptureException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingFunction<Integer, Integer, IOException> function = i -> { throw cause; };
+
+        // when
+        Result<Integer, IOException> result = ThrowingFunction.attempt(function).apply(42);
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.exception()).isSameAs(cause);
+        assertThatThrownBy(result::get).isSameAs(cause);
+    }
+
+    @Test
+    void shouldMapAllElementsOfList() throws IOException {
+        // given
+        ThrowingFunction<Integer, String, IOException> function = String::valueOf;
+
+        // when
+        List<String> result = ThrowingFunction.mapAll(Arrays.asList(1, 2, 3), function);
+
+        // then
+        assertThat(result).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void shouldMapAllElementsOfLinkedList() throws IOException {
+        // given
+        ThrowingFunction<Integer, String, IOException> function = String::valueOf;
+
+        // when
+        List<String> result = ThrowingFunction.mapAll(new LinkedList<>(Arrays.asList(1, 2, 3)), function);
+
+        // then
+        assertThat(result).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void shouldMapAllElementsOfArray() throws IOException {
+        // given
+        ThrowingFunction<Integer, String, IOException> function = String::valueOf;
+
+        // when
+        String[] result = ThrowingFunction.mapAll(new Integer[]{1, 2, 3}, String[]::new, function);
+
+        // then
+        assertThat(result).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void shouldMapAllAndThrowFailedIndexWithOriginalCause() {
+        // given
+        ThrowingFunction<Integer, Integer, IOException> function = i -> {
+            if (i == 2) {
+                throw new IOException("some message");
+            }
+            return i;
+        };
+
+        // when
+        assertThatThrownBy(() -> ThrowingFunction.mapAll(Arrays.asList(0, 1, 2, 3), function))
+          .isInstanceOf(FailedIndexException.class)
+          .hasCauseInstanceOf(IOException.class)
+          .hasRootCauseMessage("some message")
+          .satisfies(e -> assertThat(((FailedIndexException) e).index()).isEqualTo(2));
+    }
+
+    @Test
+    void shouldReportFailedIndexOfSharedExceptionWithoutModifyingIt() {
+        // given
+        CallNotPermittedException shared = CallNotPermittedException.INSTANCE;
+        ThrowingFunction<Integer, Integer, RuntimeException> function = i -> {
+            if (i >= 2) {
+                throw shared;
+            }
+            return i;
+        };
+
+        // when
+        assertThatThrownBy(() -> ThrowingFunction.mapAll(Arrays.asList(0, 1, 2, 3), function))
+          .isInstanceOf(FailedIndexException.class)
+          .satisfies(e -> assertThat(e.getCause()).isSameAs(shared))
+          .satisfies(e -> assertThat(((FailedIndexException) e).index()).isEqualTo(2));
+        assertThatThrownBy(() -> ThrowingFunction.mapAll(new Integer[]{5, 4, 3}, Integer[]::new, function))
+          .isInstanceOf(FailedIndexException.class)
+          .satisfies(e -> assertThat(e.getCause()).isSameAs(shared))
+          .satisfies(e -> assertThat(((FailedIndexException) e).index()).isEqualTo(0));
+
+        // then
+        assertThat(shared.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    void shouldMapAllAndCollectFailures() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingFunction<Integer, Integer, IOException> function = i -> {
+            if (i % 2 == 1) {
+                throw cause;
+            }
+            return i;
+        };
+        IndexedFailures failures = new IndexedFailures(1);
+
+        // when
+        Integer[] result = ThrowingFunction.mapAll(new Integer[]{0, 1, 2, 3, 4, 5}, Integer[]::new, function, failures);
+
+        // then
+        assertThat(result).containsExactly(0, null, 2, null, 4, null);
+        assertThat(failures.size()).isEqualTo(3);
+        assertThat(failures.index(0)).isEqualTo(1);
+        assertThat(failures.index(2)).isEqualTo(5);
+        assertThat(failures.exception(1)).isSameAs(cause);
+        assertThat(cause.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    void shouldParallelMapAllElementsOfList() throws IOException {
+        // given
+        List<Integer> source = IntStream.range(0, 10_000).boxed().collect(toList());
+        ThrowingFunction<Integer, Integer, IOException> function = i -> i + 1;
+
+        // when
+        List<Integer> result = ThrowingFunction.parallelMapAll(source, function);
+
+        // then
+        assertThat(result).hasSize(10_000);
+        assertThat(result.get(0)).isEqualTo(1);
+        assertThat(result.get(9_999)).isEqualTo(10_000);
+    }
+
+    @Test
+    void shouldParallelMapAllElementsOfArrayOnGivenPool() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            // given
+            ThrowingFunction<Integer, String, IOException> function = String::valueOf;
+
+            // when
+            String[] result = ThrowingFunction.parallelMapAll(new Integer[]{1, 2, 3, 4, 5}, String[]::new, function, pool, 1);
+
+            // then
+            assertThat(result).containsExactly("1", "2", "3", "4", "5");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldParallelMapAllAndStopAtFirstFailure() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            // given
+            LongAdder invocations = new LongAdder();
+            List<Integer> source = IntStream.range(0, 100_000).boxed().collect(toList());
+            ThrowingFunction<Integer, Integer, IOException> function = i -> {
+                invocations.increment();
+                if (i == 0) {
+                    throw new IOException("some message");
+                }
+                return i;
+            };
+
+            // when
+            assertThatThrownBy(() -> ThrowingFunction.parallelMapAll(source, function, pool, 16))
+              .isInstanceOf(FailedIndexException.class)
+              .hasCauseInstanceOf(IOException.class)
+              .hasRootCauseMessage("some message")
+              .satisfies(e -> assertThat(((FailedIndexException) e).index()).isEqualTo(0));
+
+            // then
+            assertThat(invocations.sum()).isLessThan(100_000);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldParallelMapAllAndReportFailedIndexOfSharedException() {
+        // given
+        CallNotPermittedException shared = CallNotPermittedException.INSTANCE;
+        Integer[] source = IntStream.range(0, 10_000).boxed().toArray(Integer[]::new);
+        ThrowingFunction<Integer, Integer, RuntimeException> function = i -> {
+            if (i >= 5_000) {
+                throw shared;
+            }
+            return i;
+        };
+
+        // when
+        assertThatThrownBy(() -> ThrowingFunction.parallelMapAll(source, Integer[]::new, function))
+          .isInstanceOf(FailedIndexException.class)
+          .satisfies(e -> assertThat(e.getCause()).isSameAs(shared))
+          .satisfies(e -> assertThat(((FailedIndexException) e).index()).isBetween(5_000, 9_999));
+
+        // then
+        assertThat(shared.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectNonPositiveMinSplitSize() {
+        assertThatThrownBy(() -> ThrowingFunction.parallelMapAll(Arrays.asList(1, 2), i -> i, ForkJoinPool.commonPool(), 0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldApplyAsyncAndCompleteWithOriginalException() {
+        IOException cause = new IOException("some message");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // given
+            ThrowingFunction<Integer, Integer, IOException> function = i -> { throw cause; };
+
+            // when
+            CompletableFuture<Integer> result = ThrowingFunction.async(function, executor).apply(42);
+
+            // then
+            assertThatThrownBy(() -> CheckedFutures.join(result, IOException.class))
+              .isSameAs(cause);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRecordInvocationsOfInstrumentedFunction() throws IOException {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingFunction<Integer, Integer, IOException> instrumented = ThrowingFunction.instrumented(i -> { if (i < 0) { throw new IOException(); } return i; }, metrics);
+
+        // when
+        instrumented.apply(1);
+        assertThatThrownBy(() -> instrumented.apply(-1)).isInstanceOf(IOException.class);
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.invocations()).isEqualTo(2);
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.failuresByType()).containsEntry(IOException.class, 1L);
+    }
+
+    @Test
+    void shouldLiftSelectedExceptions() {
+        IOException cause = new IOException("some message");
+        IllegalStateException other = new IllegalStateException("other");
+
+        // given
+        ThrowingFunction<Integer, Integer, Exception> function = i -> {
+            if (i == 0) {
+                throw cause;
+            }
+            if (i == 1) {
+                throw other;
+            }
+            return i;
+        };
+
+        // when
+        Function<Integer, Optional<Integer>> lifted = ThrowingFunction.lifted(function, IOException.class);
+
+        // then
+        assertThat(lifted.apply(42)).hasValue(42);
+        assertThat(lifted.apply(0)).isEmpty();
+        assertThatThrownBy(() -> lifted.apply(1)).isSameAs(other);
+    }
+
+    @Test
+    void shouldComposeFunctions() throws Exception {
+        // given
+        ThrowingFunction<Integer, Integer, IOException> increment = i -> i + 1;
+        ThrowingFunction<Integer, Integer, IOException> twice = i -> i * 2;
+
+        // when
+        ThrowingFunction<String, String, IOException> composed = increment.andThen(twice).compose((String s) -> Integer.parseInt(s)).andThen(String::valueOf);
+
+        // then
+        assertThat(composed.apply("20")).isEqualTo("42");
+    }
+
+    @Test
+    void shouldPropagateExceptionOfComposedStageOnce() {
+        IOException cause = new IOException("some message");
+        LongAdder calls = new LongAdder();
+
+        // given
+        ThrowingFunction<Integer, Integer, IOException> failing = i -> { throw cause; };
+        ThrowingFunction<Integer, Integer, IOException> counting = i -> {
+            calls.increment();
+            return i;
+        };
+
+        // when
+        Function<Integer, Integer> chain = ThrowingFunction.unchecked(counting.andThen(failing).andThen(counting));
+
+        // then
+        assertThatThrownBy(() -> chain.apply(42))
+          .isInstanceOf(CheckedException.class)
+          .hasCause(cause);
+        assertThat(calls.sum()).isEqualTo(1);
+    }
 }
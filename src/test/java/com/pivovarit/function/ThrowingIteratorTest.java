@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThrowingIteratorTest {
+
+    @Test
+    void shouldIterateOverBatchesUntilEmptyBatch() throws IOException {
+        // given
+        Iterator<List<Integer>> pages = Arrays.asList(Arrays.asList(1, 2), Collections.singletonList(3), Collections.<Integer>emptyList(), Collections.singletonList(4)).iterator();
+        ThrowingIterator<Integer, IOException> iterator = ThrowingIterator.ofBatches(pages::next);
+
+        // when
+        List<Integer> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+
+        // then
+        assertThat(result).containsExactly(1, 2, 3);
+        assertThat(pages.next()).containsExactly(4);
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void shouldFetchNextBatchOnlyWhenNeeded() throws IOException {
+        int[] calls = {0};
+
+        // given
+        ThrowingIterator<Integer, IOException> iterator = ThrowingIterator.ofBatches(() -> {
+            calls[0]++;
+            return Arrays.asList(1, 2);
+        });
+
+        // when
+        iterator.next();
+        iterator.next();
+
+        // then
+        assertThat(calls[0]).isEqualTo(1);
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(calls[0]).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRethrowExceptionOfSource() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingIterator<Integer, IOException> iterator = ThrowingIterator.ofBatches(() -> { throw cause; });
+
+        // when
+        assertThatThrownBy(iterator::hasNext).isSameAs(cause);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThrowingLongSupplierTest {
+
+    @Test
+    void shouldWrapInCheckedExceptionWhenUsingUnchecked() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingLongSupplier<IOException> supplier = () -> { throw cause; };
+
+        // when
+        assertThatThrownBy(() -> ThrowingLongSupplier.unchecked(supplier).getAsLong())
+          .isInstanceOf(CheckedException.class)
+          .hasMessage(cause.getMessage())
+          .hasCause(cause);
+    }
+
+    @Test
+    void shouldSneakyThrow() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingLongSupplier<IOException> supplier = () -> { throw cause; };
+
+        // when
+        assertThatThrownBy(() -> ThrowingLongSupplier.sneaky(supplier).getAsLong())
+          .isInstanceOf(IOException.class)
+          .hasMessage(cause.getMessage())
+          .hasNoCause();
+    }
+
+    @Test
+    void shouldApplyWhenNoExceptionThrownWithUnchecked() {
+        // given
+        ThrowingLongSupplier<IOException> supplier = () -> 43L;
+
+        // when
+        long result = ThrowingLongSupplier.unchecked(supplier).getAsLong();
+
+        // then
+        assertThat(result).isEqualTo(43L);
+    }
+
+    @Test
+    void shouldReturnOptionalLong() {
+        // given
+        ThrowingLongSupplier<IOException> supplier = () -> 43L;
+
+        // when
+        OptionalLong result = ThrowingLongSupplier.optional(supplier).get();
+
+        // then
+        assertThat(result).hasValue(43L);
+    }
+
+    @Test
+    void shouldReturnEmptyOptionalLongWhenExceptionThrown() {
+        // given
+        ThrowingLongSupplier<IOException> supplier = () -> { throw new IOException("boom"); };
+
+        // when
+        OptionalLong result = ThrowingLongSupplier.optional(supplier).get();
+
+        // then
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThrowingLongToDoubleFunctionTest {
+
+    @Test
+    void shouldWrapInCheckedExceptionWhenUsingUnchecked() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingLongToDoubleFunction<IOException> function = value -> { throw cause; };
+
+        // when
+        assertThatThrownBy(() -> ThrowingLongToDoubleFunction.unchecked(function).applyAsDouble(42L))
+          .isInstanceOf(CheckedException.class)
+          .hasMessage(cause.getMessage())
+          .hasCause(cause);
+    }
+
+    @Test
+    void shouldSneakyThrow() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingLongToDoubleFunction<IOException> function = value -> { throw cause; };
+
+        // when
+        assertThatThrownBy(() -> ThrowingLongToDoubleFunction.sneaky(function).applyAsDouble(42L))
+          .isInstanceOf(IOException.class)
+          .hasMessage(cause.getMessage())
+          .hasNoCause();
+    }
+
+    @Test
+    void shouldApplyWhenNoExceptionThrownWithUnchecked() {
+        // given
+        ThrowingLongToDoubleFunction<IOException> function = value -> 43.0;
+
+        // when
+        double result = ThrowingLongToDoubleFunction.unchecked(function).applyAsDouble(42L);
+
+        // then
+        assertThat(result).isEqualTo(43.0);
+    }
+
+    @Test
+    void shouldReturnOptionalDouble() {
+        // given
+        ThrowingLongToDoubleFunction<IOException> function = value -> 43.0;
+
+        // when
+        OptionalDouble result = ThrowingLongToDoubleFunction.optional(function).apply(42L);
+
+        // then
+        assertThat(result).hasValue(43.0);
+    }
+
+    @Test
+    void shouldReturnEmptyOptionalDoubleWhenExceptionThrown() {
+        // given
+        ThrowingLongToDoubleFunction<IOException> function = value -> { throw new IOException("boom"); };
+
+        // when
+        OptionalDouble result = ThrowingLongToDoubleFunction.optional(function).apply(42L);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+}
@@ -16,6 +16,8 @@
 package com.pivovarit.function;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
@@ -77,4 +79,127 @@ class ThrowingPredicateTest {
           .hasMessage(cause.getMessage())
           .hasNoCause();
     }
+
+    @Test
+    void shouldAttemptPredicate() {
+        // given
+        ThrowingPredicate<Integer, IOException> predicate = i -> i > 0;
+
+        // when
+        Result<Boolean, IOException> result = ThrowingPredicate.attempt(predicate).apply(42);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.orElse(null)).isEqualTo(true);
+    }
+
+    @Test
+    void shouldAttemptPredicateAndCaptureException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingPredicate<Integer, IOException> predicate = i -> { throw cause; };
+
+        // when
+        Result<Boolean, IOException> result = ThrowingPredicate.attempt(predicate).apply(42);
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.exception()).isSameAs(cause);
+        assertThatThrownBy(result::get).isSameAs(cause);
+    }
+
+    @Test
+    void shouldFilterAllElementsOfList() throws IOException {
+        // given
+        ThrowingPredicate<Integer, IOException> predicate = i -> i % 2 == 0;
+
+        // when
+        List<Integer> result = ThrowingPredicate.filterAll(Arrays.asList(1, 2, 3, 4), predicate);
+
+        // then
+        assertThat(result).containsExactly(2, 4);
+    }
+
+    @Test
+    void shouldFilterAllElementsOfArray() throws IOException {
+        // given
+        ThrowingPredicate<Integer, IOException> predicate = i -> i % 2 == 0;
+
+        // when
+        Integer[] result = ThrowingPredicate.filterAll(new Integer[]{1, 2, 3, 4}, predicate);
+
+        // then
+        assertThat(result).containsExactly(2, 4);
+    }
+
+    @Test
+    void shouldFilterAllAndThrowFailedIndexWithOriginalCause() {
+        // given
+        ThrowingPredicate<Integer, IOException> predicate = i -> {
+            if (i == 3) {
+                throw new IOException("some message");
+            }
+            return true;
+        };
+
+        // when
+        assertThatThrownBy(() -> ThrowingPredicate.filterAll(new Integer[]{1, 2, 3, 4}, predicate))
+          .isInstanceOf(FailedIndexException.class)
+          .hasCauseInstanceOf(IOException.class)
+          .hasRootCauseMessage("some message")
+          .satisfies(e -> assertThat(((FailedIndexException) e).index()).isEqualTo(2));
+    }
+
+    @Test
+    void shouldFilterAllAndCollectFailures() {
+        // given
+        ThrowingPredicate<Integer, IOException> predicate = i -> {
+            if (i == 3) {
+                throw new IOException("some message");
+            }
+            return true;
+        };
+        IndexedFailures failures = new IndexedFailures();
+
+        // when
+        List<Integer> result = ThrowingPredicate.filterAll(Arrays.asList(1, 2, 3, 4), predicate, failures);
+
+        // then
+        assertThat(result).containsExactly(1, 2, 4);
+        assertThat(failures.size()).isEqualTo(1);
+        assertThat(failures.index(0)).isEqualTo(2);
+        assertThat(failures.exception(0)).hasMessage("some message");
+    }
+
+    @Test
+    void shouldRecordInvocationsOfInstrumentedPredicate() throws IOException {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingPredicate<Integer, IOException> instrumented = ThrowingPredicate.instrumented(i -> { if (i < 0) { throw new IOException(); } return true; }, metrics);
+
+        // when
+        instrumented.test(1);
+        assertThatThrownBy(() -> instrumented.test(-1)).isInstanceOf(IOException.class);
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.invocations()).isEqualTo(2);
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.failuresByType()).containsEntry(IOException.class, 1L);
+    }
+
+    @Test
+    void shouldComposePredicatesWithShortCircuit() throws IOException {
+        // given
+        ThrowingPredicate<Integer, IOException> positive = i -> i > 0;
+        ThrowingPredicate<Integer, IOException> failing = i -> { throw new IOException(); };
+
+        // then
+        assertThat(positive.and(i -> i % 2 == 0).test(42)).isTrue();
+        assertThat(positive.negate().and(failing).test(42)).isFalse();
+        assertThat(positive.or(failing).test(42)).isTrue();
+        assertThat(positive.negate().or(i -> i == 42).test(42)).isTrue();
+        assertThatThrownBy(() -> positive.and(failing).test(42)).isInstanceOf(IOException.class);
+    }
 }
@@ -16,6 +16,10 @@
 package com.pivovarit.function;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -75,4 +79,99 @@ class ThrowingRunnableTest {
           .hasMessage(cause.getMessage())
           .hasNoCause();
     }
+
+    @Test
+    void shouldAttemptRunnable() {
+        // given
+        ThrowingRunnable<IOException> runnable = () -> {};
+
+        // when
+        Result<Void, IOException> result = ThrowingRunnable.attempt(runnable).get();
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result).isSameAs(Result.success(null));
+    }
+
+    @Test
+    void shouldAttemptRunnableAndCaptureException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingRunnable<IOException> runnable = () -> { throw cause; };
+
+        // when
+        Result<Void, IOException> result = ThrowingRunnable.attempt(runnable).get();
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.exception()).isSameAs(cause);
+        assertThatThrownBy(result::get).isSameAs(cause);
+    }
+
+    @Test
+    void shouldRunAsync() throws IOException {
+        // given
+        boolean[] ran = {false};
+        ThrowingRunnable<IOException> runnable = () -> ran[0] = true;
+
+        // when
+        CompletableFuture<Void> result = ThrowingRunnable.async(runnable, Runnable::run).get();
+
+        // then
+        CheckedFutures.join(result, IOException.class);
+        assertThat(ran[0]).isTrue();
+    }
+
+    @Test
+    void shouldRecordInvocationsOfInstrumentedRunnable() throws IOException {
+        // given
+        boolean[] fail = {false};
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingRunnable<IOException> instrumented = ThrowingRunnable.instrumented(() -> { if (fail[0]) { throw new IOException(); } }, metrics);
+
+        // when
+        instrumented.run();
+        fail[0] = true;
+        assertThatThrownBy(() -> instrumented.run()).isInstanceOf(IOException.class);
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.invocations()).isEqualTo(2);
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.failuresByType()).containsEntry(IOException.class, 1L);
+    }
+
+    @Test
+    void shouldRunWithinTimeLimit() throws IOException {
+        // given
+        boolean[] ran = {false};
+        ThrowingRunnable<IOException> runnable = () -> ran[0] = true;
+
+        // when
+        ThrowingRunnable.timeLimited(runnable, Duration.ofSeconds(5)).run();
+
+        // then
+        assertThat(ran[0]).isTrue();
+    }
+
+    @Test
+    void shouldInterruptRunnableExceedingTimeLimit() throws InterruptedException {
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ThrowingRunnable<IOException> runnable = () -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        };
+
+        // when
+        assertThatThrownBy(() -> ThrowingRunnable.timeLimited(runnable, Duration.ofMillis(50)).run())
+          .isInstanceOf(CallTimeoutException.class);
+
+        // then
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
 }
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThrowingSpliteratorTest {
+
+    @Test
+    void shouldStreamElementsOfBatches() throws IOException {
+        // given
+        ThrowingSupplier<List<Integer>, IOException> pages = pages(3, 4);
+
+        // when
+        List<Integer> result = ThrowingSpliterator.ofBatches(pages).withStream(s -> s.collect(Collectors.toList()));
+
+        // then
+        assertThat(result).containsExactlyElementsOf(range(12));
+    }
+
+    @Test
+    void shouldRethrowExceptionOfSourceAsIs() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingSpliterator<Integer, IOException> spliterator = ThrowingSpliterator.ofBatches(() -> { throw cause; });
+
+        // when
+        assertThatThrownBy(() -> spliterator.withStream(s -> s.count())).isSameAs(cause);
+    }
+
+    @Test
+    void shouldSplitByBatch() throws IOException {
+        // given
+        ThrowingSpliterator<Integer, IOException> spliterator = ThrowingSpliterator.ofBatches(pages(3, 4));
+
+        // when
+        Spliterator<Integer> first = spliterator.trySplit();
+        Spliterator<Integer> second = spliterator.trySplit();
+
+        // then
+        assertThat(first.estimateSize()).isEqualTo(4);
+        assertThat(second.estimateSize()).isEqualTo(4);
+        assertThat(spliterator.<Long>withStream(Stream::count)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldStreamInParallel() throws IOException {
+        // given
+        ThrowingSpliterator<Integer, IOException> spliterator = ThrowingSpliterator.ofBatches(pages(100, 100));
+
+        // when
+        List<Integer> result = spliterator.withStream(s -> s.parallel().map(i -> i * 2).collect(Collectors.toList()));
+
+        // then
+        assertThat(result).containsExactlyElementsOf(range(10_000).stream().map(i -> i * 2).collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldRethrowExceptionOfSourceInParallel() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        ThrowingSpliterator<Integer, IOException> spliterator = ThrowingSpliterator.ofBatches(() -> {
+            if (calls.incrementAndGet() == 10) {
+                throw new IOException("some message");
+            }
+            return range(100);
+        });
+
+        // when
+        assertThatThrownBy(() -> spliterator.withStream(s -> s.parallel().count()))
+          .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldPrefetchBoundedNumberOfBatches() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch prefetched = new CountDownLatch(4);
+
+        // given
+        ThrowingSpliterator<Integer, IOException> spliterator = ThrowingSpliterator.ofBatches(() -> {
+            calls.incrementAndGet();
+            prefetched.countDown();
+            return Collections.singletonList(1);
+        }, 2);
+
+        // when
+        spliterator.tryAdvance(i -> {});
+        assertThat(prefetched.await(10, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+
+        // then
+        assertThat(calls.get()).isEqualTo(4);
+        spliterator.close();
+    }
+
+    @Test
+    void shouldRethrowExceptionOfPrefetchedSourceAsIs() {
+        IOException cause = new IOException("some message");
+        AtomicInteger calls = new AtomicInteger();
+
+        // given
+        ThrowingSpliterator<Integer, IOException> spliterator = ThrowingSpliterator.ofBatches(() -> {
+            if (calls.incrementAndGet() > 1) {
+                throw cause;
+            }
+            return Collections.singletonList(1);
+        }, 4);
+        List<Integer> consumed = new ArrayList<>();
+
+        // when
+        assertThatThrownBy(() -> spliterator.withStream(s -> s.peek(consumed::add).count())).isSameAs(cause);
+
+        // then
+        assertThat(consumed).containsExactly(1);
+    }
+
+    @Test
+    void shouldStopPrefetchingWhenClosed() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // given
+        ThrowingSpliterator<Integer, IOException> spliterator = ThrowingSpliterator.ofBatches(() -> {
+            if (calls.incrementAndGet() > 1) {
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }
+            return Collections.singletonList(1);
+        }, 1);
+
+        // when
+        spliterator.tryAdvance(i -> {});
+        spliterator.close();
+
+        // then
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(spliterator.tryAdvance(i -> {})).isFalse();
+    }
+
+    @Test
+    void shouldStopPrefetchingWhenStreamIsClosedAfterShortCircuiting() throws InterruptedException {
+        AtomicReference<Thread> reader = new AtomicReference<>();
+
+        // given
+        ThrowingSpliterator<Integer, IOException> spliterator = ThrowingSpliterator.ofBatches(
+          () -> Collections.singletonList(1), 1, task -> startReader(task, reader));
+
+        // when
+        try (Stream<Integer> stream = spliterator.stream()) {
+            assertThat(stream.findFirst()).hasValue(1);
+        }
+
+        // then
+        reader.get().join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(reader.get().isAlive()).isFalse();
+    }
+
+    @Test
+    void shouldStopPrefetchingOnceUnclosedStreamIsUnreachable() throws InterruptedException {
+        AtomicReference<Thread> reader = new AtomicReference<>();
+        WeakReference<Object> owner = new WeakReference<>(this);
+        ArrayBlockingQueue<Object> buffer = new ArrayBlockingQueue<>(1);
+
+        // given
+        startReader(new Prefetcher.Reader<>(() -> Collections.singletonList(1), buffer, owner), reader);
+        while (buffer.remainingCapacity() > 0) {
+            Thread.sleep(1);
+        }
+
+        // when
+        owner.clear();
+
+        // then
+        reader.get().join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(reader.get().isAlive()).isFalse();
+    }
+
+    private static void startReader(Runnable task, AtomicReference<Thread> reader) {
+        Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        reader.set(thread);
+        thread.start();
+    }
+
+    @Test
+    void shouldReadIteratorInBatches() throws IOException {
+        // given
+        ThrowingIterator<Integer, IOException> iterator = ThrowingIterator.ofBatches(pages(1, 3000));
+
+        // when
+        ThrowingSpliterator<Integer, IOException> spliterator = ThrowingSpliterator.of(iterator);
+
+        // then
+        assertThat(spliterator.trySplit().estimateSize()).isEqualTo(1024);
+        assertThat(spliterator.<Long>withStream(Stream::count)).isEqualTo(3000 - 1024);
+    }
+
+    @Test
+    void shouldRejectInvalidPrefetch() {
+        assertThatThrownBy(() -> ThrowingSpliterator.ofBatches(() -> Collections.emptyList(), 0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ThrowingSupplier<List<Integer>, IOException> pages(int count, int size) {
+        AtomicInteger page = new AtomicInteger();
+        return () -> {
+            int current = page.getAndIncrement();
+            return current < count ? range(current * size, (current + 1) * size) : Collections.emptyList();
+        };
+    }
+
+    private static List<Integer> range(int count) {
+        return range(0, count);
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+}
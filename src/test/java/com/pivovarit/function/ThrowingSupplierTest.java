@@ -16,7 +16,18 @@
 package com.pivovarit.function;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -86,4 +97,265 @@ class ThrowingSupplierTest {
           .hasMessage(cause.getMessage())
           .hasNoCause();
     }
+
+    @Test
+    void shouldMemoize() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = ThrowingSupplier.memoized(calls::incrementAndGet);
+
+        // when
+        supplier.get();
+        Integer result = supplier.get();
+
+        // then
+        assertThat(result).isEqualTo(1);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldMemoizeNull() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = ThrowingSupplier.memoized(() -> {
+            calls.incrementAndGet();
+            return null;
+        });
+
+        // when
+        supplier.get();
+        Integer result = supplier.get();
+
+        // then
+        assertThat(result).isNull();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldMemoizeOnceUnderContention() throws Exception {
+        int threads = 8;
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // given
+        ThrowingSupplier<Integer, InterruptedException> supplier = ThrowingSupplier.memoized(() -> {
+            Thread.sleep(50);
+            return calls.incrementAndGet();
+        });
+
+        try {
+            // when
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return supplier.get();
+                }));
+            }
+            start.countDown();
+
+            // then
+            for (Future<Integer> result : results) {
+                assertThat(result.get()).isEqualTo(1);
+            }
+            assertThat(calls).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRetryAfterFailureWhenMemoized() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = ThrowingSupplier.memoized(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IOException("boom");
+            }
+            return 42;
+        }, FailurePolicy.RETRY);
+
+        // when
+        assertThatThrownBy(supplier::get).isInstanceOf(IOException.class).hasMessage("boom");
+        Integer result = supplier.get();
+
+        // then
+        assertThat(result).isEqualTo(42);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void shouldCacheFailureWhenMemoized() {
+        AtomicInteger calls = new AtomicInteger();
+        IOException cause = new IOException("boom");
+
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = ThrowingSupplier.memoized(() -> {
+            calls.incrementAndGet();
+            throw cause;
+        }, FailurePolicy.CACHE);
+
+        // when
+        assertThatThrownBy(supplier::get).isSameAs(cause);
+        assertThatThrownBy(supplier::get).isSameAs(cause);
+
+        // then
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldAttemptSupplier() {
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = () -> 42;
+
+        // when
+        Result<Integer, IOException> result = ThrowingSupplier.attempt(supplier).get();
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.orElse(null)).isEqualTo(42);
+    }
+
+    @Test
+    void shouldAttemptSupplierAndCaptureException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = () -> { throw cause; };
+
+        // when
+        Result<Integer, IOException> result = ThrowingSupplier.attempt(supplier).get();
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.exception()).isSameAs(cause);
+        assertThatThrownBy(result::get).isSameAs(cause);
+    }
+
+    @Test
+    void shouldSupplyAsync() throws IOException {
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = () -> 42;
+
+        // when
+        CompletableFuture<Integer> result = ThrowingSupplier.async(supplier, Runnable::run).get();
+
+        // then
+        assertThat(CheckedFutures.join(result, IOException.class)).isEqualTo(42);
+    }
+
+    @Test
+    void shouldSupplyAsyncAndCompleteWithOriginalException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = () -> { throw cause; };
+
+        // when
+        CompletableFuture<Integer> result = ThrowingSupplier.async(supplier, Runnable::run).get();
+
+        // then
+        assertThat(result).isCompletedExceptionally();
+        assertThat(result.handle((v, e) -> e).join()).isSameAs(cause);
+    }
+
+    @Test
+    void shouldRecordInvocationsOfInstrumentedSupplier() throws IOException {
+        // given
+        boolean[] fail = {false};
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingSupplier<Integer, IOException> instrumented = ThrowingSupplier.instrumented(() -> { if (fail[0]) { throw new IOException(); } return 42; }, metrics);
+
+        // when
+        instrumented.get();
+        fail[0] = true;
+        assertThatThrownBy(() -> instrumented.get()).isInstanceOf(IOException.class);
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.invocations()).isEqualTo(2);
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.failuresByType()).containsEntry(IOException.class, 1L);
+    }
+
+    @Test
+    void shouldGetWithinTimeLimit() throws IOException {
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = () -> 42;
+
+        // when
+        Integer result = ThrowingSupplier.timeLimited(supplier, Duration.ofSeconds(5)).get();
+
+        // then
+        assertThat(result).isEqualTo(42);
+    }
+
+    @Test
+    void shouldRethrowOriginalExceptionWithinTimeLimit() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingSupplier<Integer, IOException> supplier = () -> { throw cause; };
+
+        // when
+        assertThatThrownBy(() -> ThrowingSupplier.timeLimited(supplier, Duration.ofSeconds(5)).get())
+          .isSameAs(cause);
+    }
+
+    @Test
+    void shouldInterruptSupplierExceedingTimeLimit() throws InterruptedException {
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ThrowingSupplier<Integer, IOException> supplier = () -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 42;
+        };
+
+        // when
+        assertThatThrownBy(() -> ThrowingSupplier.timeLimited(supplier, Duration.ofMillis(50)).get())
+          .isInstanceOf(CallTimeoutException.class)
+          .extracting(e -> ((CallTimeoutException) e).timeout())
+          .isEqualTo(Duration.ofMillis(50));
+
+        // then
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldGetWithinTimeLimitOnGivenExecutor() throws Exception {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Thread worker = executor.submit(Thread::currentThread).get();
+
+        // when
+        Thread thread = ThrowingSupplier.timeLimited(Thread::currentThread, Duration.ofSeconds(5), executor).get();
+        executor.shutdown();
+
+        // then
+        assertThat(thread).isSameAs(worker);
+    }
+
+    @Test
+    void shouldReturnEmptyOptionalOnSelectedExceptions() {
+        TimeoutException cause = new TimeoutException("some message");
+
+        // given
+        ThrowingSupplier<Integer, Exception> failing = () -> { throw new IOException(); };
+        ThrowingSupplier<Integer, Exception> timingOut = () -> { throw cause; };
+
+        // when
+        Optional<Integer> result = ThrowingSupplier.optional(failing, IOException.class).get();
+
+        // then
+        assertThat(result).isEmpty();
+        assertThatThrownBy(() -> ThrowingSupplier.optional(timingOut, IOException.class).get()).isSameAs(cause);
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThrowingToIntFunctionTest {
+
+    @Test
+    void shouldWrapInCheckedExceptionWhenUsingUnchecked() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingToIntFunction<String, IOException> function = arg -> { throw cause; };
+
+        // when
+        assertThatThrownBy(() -> ThrowingToIntFunction.unchecked(function).applyAsInt("42"))
+          .isInstanceOf(CheckedException.class)
+          .hasMessage(cause.getMessage())
+          .hasCause(cause);
+    }
+
+    @Test
+    void shouldSneakyThrow() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingToIntFunction<String, IOException> function = arg -> { throw cause; };
+
+        // when
+        assertThatThrownBy(() -> ThrowingToIntFunction.sneaky(function).applyAsInt("42"))
+          .isInstanceOf(IOException.class)
+          .hasMessage(cause.getMessage())
+          .hasNoCause();
+    }
+
+    @Test
+    void shouldApplyWhenNoExceptionThrownWithUnchecked() {
+        // given
+        ThrowingToIntFunction<String, IOException> function = arg -> 43;
+
+        // when
+        int result = ThrowingToIntFunction.unchecked(function).applyAsInt("42");
+
+        // then
+        assertThat(result).isEqualTo(43);
+    }
+
+    @Test
+    void shouldReturnOptionalInt() {
+        // given
+        ThrowingToIntFunction<String, IOException> function = arg -> 43;
+
+        // when
+        OptionalInt result = ThrowingToIntFunction.optional(function).apply("42");
+
+        // then
+        assertThat(result).hasValue(43);
+    }
+
+    @Test
+    void shouldReturnEmptyOptionalIntWhenExceptionThrown() {
+        // given
+        ThrowingToIntFunction<String, IOException> function = arg -> { throw new IOException("boom"); };
+
+        // when
+        OptionalInt result = ThrowingToIntFunction.optional(function).apply("42");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+}
@@ -18,6 +18,7 @@ package com.pivovarit.function;
 import com.tngtech.archunit.thirdparty.com.google.common.collect.Lists;
 import java.io.IOException;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
@@ -56,4 +57,74 @@ public class ThrowingToLongFunctionTest {
           .hasMessage(cause.getMessage())
           .hasNoCause();
     }
+
+    @Test
+    void shouldReturnOptionalLong() {
+        // given
+        ThrowingToLongFunction<String, NumberFormatException> function = Long::parseLong;
+
+        // when
+        OptionalLong result = ThrowingToLongFunction.optional(function).apply("42");
+
+        // then
+        assertThat(result).hasValue(42L);
+    }
+
+    @Test
+    void shouldReturnEmptyOptionalLongWhenExceptionThrown() {
+        // given
+        ThrowingToLongFunction<String, NumberFormatException> function = Long::parseLong;
+
+        // when
+        OptionalLong result = ThrowingToLongFunction.optional(function).apply(". .");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldAttemptToLongFunction() {
+        // given
+        ThrowingToLongFunction<Integer, IOException> function = i -> i + 1L;
+
+        // when
+        Result<Long, IOException> result = ThrowingToLongFunction.attempt(function).apply(42);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.orElse(null)).isEqualTo(43L);
+    }
+
+    @Test
+    void shouldAttemptToLongFunctionAndCaptureException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingToLongFunction<Integer, IOException> function = i -> { throw cause; };
+
+        // when
+        Result<Long, IOException> result = ThrowingToLongFunction.attempt(function).apply(42);
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.exception()).isSameAs(cause);
+        assertThatThrownBy(result::get).isSameAs(cause);
+    }
+
+    @Test
+    void shouldRecordInvocationsOfInstrumentedToLongFunction() throws IOException {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingToLongFunction<Integer, IOException> instrumented = ThrowingToLongFunction.instrumented(i -> { if (i < 0) { throw new IOException(); } return i; }, metrics);
+
+        // when
+        instrumented.applyAsLong(1);
+        assertThatThrownBy(() -> instrumented.applyAsLong(-1)).isInstanceOf(IOException.class);
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.invocations()).isEqualTo(2);
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.failuresByType()).containsEntry(IOException.class, 1L);
+    }
 }
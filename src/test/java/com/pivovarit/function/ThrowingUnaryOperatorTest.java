@@ -18,6 +18,7 @@ package com.pivovarit.function;
 import java.io.IOException;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 class ThrowingUnaryOperatorTest {
@@ -77,4 +78,84 @@ class ThrowingUnaryOperatorTest {
           .hasMessage(cause.getMessage())
           .hasNoCause();
     }
+
+    @Test
+    void shouldAttemptUnaryOperator() {
+        // given
+        ThrowingUnaryOperator<Integer, IOException> operator = i -> i + 1;
+
+        // when
+        Result<Integer, IOException> result = ThrowingUnaryOperator.attempt(operator).apply(42);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.orElse(null)).isEqualTo(43);
+    }
+
+    @Test
+    void shouldAttemptUnaryOperatorAndCaptureException() {
+        IOException cause = new IOException("some message");
+
+        // given
+        ThrowingUnaryOperator<Integer, IOException> operator = i -> { throw cause; };
+
+        // when
+        Result<Integer, IOException> result = ThrowingUnaryOperator.attempt(operator).apply(42);
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.exception()).isSameAs(cause);
+        assertThatThrownBy(result::get).isSameAs(cause);
+    }
+
+    @Test
+    void shouldRecordInvocationsOfInstrumentedUnaryOperator() throws IOException {
+        // given
+        InvocationMetrics metrics = new InvocationMetrics();
+        ThrowingUnaryOperator<Integer, IOException> instrumented = ThrowingUnaryOperator.instrumented(i -> { if (i < 0) { throw new IOException(); } return i; }, metrics);
+
+        // when
+        instrumented.apply(1);
+        assertThatThrownBy(() -> instrumented.apply(-1)).isInstanceOf(IOException.class);
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.invocations()).isEqualTo(2);
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.failuresByType()).containsEntry(IOException.class, 1L);
+    }
+
+    @Test
+    void shouldChainOperatorsInOrder() throws IOException {
+        // given
+        ThrowingUnaryOperator<Integer, IOException> increment = i -> i + 1;
+        ThrowingUnaryOperator<Integer, IOException> twice = i -> i * 2;
+
+        // when
+        ThrowingUnaryOperator<Integer, IOException> chain = ThrowingUnaryOperator.chain(increment, twice, increment);
+
+        // then
+        assertThat(chain.apply(20)).isEqualTo(43);
+        assertThat(increment.andThen(twice).apply(20)).isEqualTo(42);
+    }
+
+    @Test
+    void shouldSkipRemainingChainedOperatorsOnException() {
+        IOException cause = new IOException("some message");
+        int[] calls = {0};
+
+        // given
+        ThrowingUnaryOperator<Integer, IOException> counting = i -> {
+            calls[0]++;
+            return i;
+        };
+        ThrowingUnaryOperator<Integer, IOException> failing = i -> { throw cause; };
+
+        // when
+        assertThatThrownBy(() -> ThrowingUnaryOperator.chain(counting, failing, counting).apply(42))
+          .isSameAs(cause);
+
+        // then
+        assertThat(calls[0]).isEqualTo(1);
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014-2026 Grzegorz Piwowarek, https://4comprehension.com/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.pivovarit.function;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockingExecutorTest {
+
+    @Test
+    void shouldRunTaskGroupOnVirtualThreads() throws IOException {
+        // given
+        ThrowingSupplier<Boolean, IOException> isVirtual = () -> Thread.currentThread().isVirtual();
+
+        // when
+        List<Boolean> results = TaskGroup.invokeAll(List.of(isVirtual, isVirtual));
+
+        // then
+        assertThat(results).containsExactly(true, true);
+    }
+
+    @Test
+    void shouldRunTimeLimitedCallsOnVirtualThreads() throws IOException {
+        // given
+        ThrowingSupplier<Boolean, IOException> isVirtual = () -> Thread.currentThread().isVirtual();
+
+        // when
+        boolean result = ThrowingSupplier.timeLimited(isVirtual, Duration.ofSeconds(10)).get();
+
+        // then
+        assertThat(result).isTrue();
+    }
+}